@@ -0,0 +1,159 @@
+package end3r.verdant_arcanum.gametest;
+
+import end3r.verdant_arcanum.VerdantArcanum;
+import end3r.verdant_arcanum.event.CustomWorldEvent;
+import end3r.verdant_arcanum.event.EventBenchmark;
+import end3r.verdant_arcanum.event.WorldEventManager;
+import end3r.verdant_arcanum.registry.EventRegistry;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.GameTestException;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.World;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Headless benchmark of every world event at 20, 100 and 300 players.
+ *
+ * Runs on the GameTest server (gradle runGametest), whose worlds are generated from a fixed seed.
+ * Each event runs in the dimension it is made for: Fire Rain only does anything in the Nether,
+ * the others run in the flat test overworld. Each test joins its simulated players in that
+ * dimension around the test position, lets them settle, then runs the event through
+ * EventBenchmark with a fixed seed and writes {@code <event>-<players>p.csv} and {@code .json}
+ * to verdant_arcanum/benchmarks in the run directory. File names carry no timestamp, so reports
+ * from two builds can be diffed directly. A run that records no block changes, particles,
+ * entity queries or packets fails the test.
+ * Every test has its own batch, so no two runs share the server.
+ *
+ * System properties: verdant_arcanum.benchmark.seed (default 0), verdant_arcanum.benchmark.ticks
+ * (default 600) and verdant_arcanum.benchmark.dir to write the reports somewhere else.
+ */
+public class EventBenchmarkTest implements FabricGameTest {
+    private static final long SEED = Long.getLong("verdant_arcanum.benchmark.seed", 0L);
+    private static final int TICKS = Integer.getInteger("verdant_arcanum.benchmark.ticks", 20 * 30);
+    // Lets chunk loading and the join work settle before anything is recorded
+    private static final int WARMUP_TICKS = 40;
+    // Upper bound for warmup plus a run; raise alongside verdant_arcanum.benchmark.ticks
+    private static final int TICK_LIMIT = 20 * 60 * 5;
+    private static final int PLAYER_SPACING = 32;
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "verdant_bench_strong_winds_20", tickLimit = TICK_LIMIT)
+    public void strongWinds20(TestContext context) {
+        benchmark(context, EventRegistry.STRONG_WINDS_ID, 20, World.OVERWORLD);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "verdant_bench_strong_winds_100", tickLimit = TICK_LIMIT)
+    public void strongWinds100(TestContext context) {
+        benchmark(context, EventRegistry.STRONG_WINDS_ID, 100, World.OVERWORLD);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "verdant_bench_strong_winds_300", tickLimit = TICK_LIMIT)
+    public void strongWinds300(TestContext context) {
+        benchmark(context, EventRegistry.STRONG_WINDS_ID, 300, World.OVERWORLD);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "verdant_bench_overgrowth_20", tickLimit = TICK_LIMIT)
+    public void overgrowth20(TestContext context) {
+        benchmark(context, EventRegistry.OVERGROWTH_ID, 20, World.OVERWORLD);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "verdant_bench_overgrowth_100", tickLimit = TICK_LIMIT)
+    public void overgrowth100(TestContext context) {
+        benchmark(context, EventRegistry.OVERGROWTH_ID, 100, World.OVERWORLD);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "verdant_bench_overgrowth_300", tickLimit = TICK_LIMIT)
+    public void overgrowth300(TestContext context) {
+        benchmark(context, EventRegistry.OVERGROWTH_ID, 300, World.OVERWORLD);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "verdant_bench_fire_rain_20", tickLimit = TICK_LIMIT)
+    public void fireRain20(TestContext context) {
+        benchmark(context, EventRegistry.FIRE_RAIN_ID, 20, World.NETHER);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "verdant_bench_fire_rain_100", tickLimit = TICK_LIMIT)
+    public void fireRain100(TestContext context) {
+        benchmark(context, EventRegistry.FIRE_RAIN_ID, 100, World.NETHER);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "verdant_bench_fire_rain_300", tickLimit = TICK_LIMIT)
+    public void fireRain300(TestContext context) {
+        benchmark(context, EventRegistry.FIRE_RAIN_ID, 300, World.NETHER);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "verdant_bench_end_veil_20", tickLimit = TICK_LIMIT)
+    public void endVeil20(TestContext context) {
+        benchmark(context, EventRegistry.END_VEIL_ID, 20, World.OVERWORLD);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "verdant_bench_end_veil_100", tickLimit = TICK_LIMIT)
+    public void endVeil100(TestContext context) {
+        benchmark(context, EventRegistry.END_VEIL_ID, 100, World.OVERWORLD);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "verdant_bench_end_veil_300", tickLimit = TICK_LIMIT)
+    public void endVeil300(TestContext context) {
+        benchmark(context, EventRegistry.END_VEIL_ID, 300, World.OVERWORLD);
+    }
+
+    private static void benchmark(TestContext context, Identifier eventId, int players, RegistryKey<World> dimension) {
+        ServerWorld world = context.getWorld().getServer().getWorld(dimension);
+        if (world == null) {
+            throw new GameTestException("No " + dimension.getValue() + " world to benchmark " + eventId + " in");
+        }
+
+        // A test that timed out earlier may have left its players or its run behind
+        EventBenchmark.cancel(world);
+        SimulatedPlayers.removeAll();
+        CustomWorldEvent running = WorldEventManager.getInstance().getCurrentEvent(world);
+        if (running != null) {
+            WorldEventManager.getInstance().stopEvent(world, running.getId());
+        }
+
+        SimulatedPlayers.spawn(world, context.getAbsolutePos(BlockPos.ORIGIN), players, PLAYER_SPACING);
+
+        EventBenchmark.Run[] run = new EventBenchmark.Run[1];
+        context.waitAndRun(WARMUP_TICKS, () -> {
+            run[0] = EventBenchmark.start(world, eventId, TICKS, SEED);
+            if (run[0] == null) {
+                throw new GameTestException("Could not start a benchmark of " + eventId);
+            }
+        });
+
+        context.succeedWhen(() -> {
+            if (run[0] == null || !run[0].isFinished()) {
+                throw new GameTestException("Benchmark of " + eventId + " still running");
+            }
+            // An event that bails out of every tick would otherwise pass with a report of nothing;
+            // succeedWhen retries GameTestExceptions, so this is reported when the tick limit is hit
+            if (!run[0].hasRecordedWork()) {
+                throw new GameTestException("Benchmark of " + eventId + " recorded no block changes, particles, entity queries or packets");
+            }
+            SimulatedPlayers.removeAll();
+
+            String name = eventId.getPath() + "-" + players + "p";
+            try {
+                run[0].writeReport(reportDirectory(world), name);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write benchmark " + name, e);
+            }
+            VerdantArcanum.LOGGER.info("Benchmark {} recorded {} ticks", name, run[0].getRecordedTicks());
+        });
+    }
+
+    private static Path reportDirectory(ServerWorld world) {
+        String override = System.getProperty("verdant_arcanum.benchmark.dir");
+        if (override != null) {
+            return Path.of(override);
+        }
+        return world.getServer().getRunDirectory().toPath().resolve(VerdantArcanum.MOD_ID).resolve("benchmarks");
+    }
+}
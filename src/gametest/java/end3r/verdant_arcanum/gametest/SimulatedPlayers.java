@@ -0,0 +1,158 @@
+package end3r.verdant_arcanum.gametest;
+
+import com.mojang.authlib.GameProfile;
+import end3r.verdant_arcanum.VerdantArcanum;
+import end3r.verdant_arcanum.event.StrongWindsEvent;
+import end3r.verdant_arcanum.network.BeamSyncPacket;
+import end3r.verdant_arcanum.network.BlockLevitationPacket;
+import end3r.verdant_arcanum.network.ParticleBatcher;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.minecraft.network.ClientConnection;
+import net.minecraft.network.NetworkSide;
+import net.minecraft.network.Packet;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.PacketCallbacks;
+import net.minecraft.network.packet.c2s.play.CustomPayloadC2SPacket;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.Heightmap;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Players for the benchmark that have no client behind them.
+ *
+ * Each one is a real ServerPlayerEntity joined through PlayerManager.onPlayerConnect, so it
+ * fires the same join and disconnect hooks, is tracked by the chunk storage and is returned by
+ * world.getPlayers() like anyone else. Its connection drops every packet instead of writing it
+ * to a channel. Profiles are derived from the player's index, so the same index is the same
+ * player in every run. Server thread only.
+ */
+final class SimulatedPlayers {
+    // Channels the mod's client registers receivers for; the server checks some of them with canSend
+    private static final Identifier[] CLIENT_CHANNELS = {
+            ParticleBatcher.PARTICLE_BATCH_PACKET_ID,
+            BlockLevitationPacket.BLOCK_LEVITATION_PACKET_ID,
+            BeamSyncPacket.BEAM_SYNC_PACKET_ID,
+            StrongWindsEvent.WIND_PACKET_ID,
+            new Identifier(VerdantArcanum.MOD_ID, "mana_sync")
+    };
+    private static final Identifier REGISTER_CHANNEL = new Identifier("minecraft", "register");
+
+    private static final List<ServerPlayerEntity> PLAYERS = new ArrayList<>();
+
+    /**
+     * A connection with no channel that swallows everything sent to it
+     */
+    private static final class SimulatedConnection extends ClientConnection {
+        private SimulatedConnection() {
+            super(NetworkSide.SERVERBOUND);
+        }
+
+        @Override
+        public void send(Packet<?> packet) {
+        }
+
+        @Override
+        public void send(Packet<?> packet, @Nullable PacketCallbacks callbacks) {
+        }
+
+        @Override
+        public void disableAutoRead() {
+        }
+
+        @Override
+        public void handleDisconnection() {
+        }
+    }
+
+    private SimulatedPlayers() {
+    }
+
+    /**
+     * Join count players and spread them on a square grid centred on the given position,
+     * spacing blocks apart and standing on the ground.
+     */
+    static void spawn(ServerWorld world, BlockPos center, int count, int spacing) {
+        int side = (int) Math.ceil(Math.sqrt(count));
+        int offset = (side - 1) * spacing / 2;
+
+        for (int i = 0; i < count; i++) {
+            String name = "bench_" + i;
+            UUID uuid = UUID.nameUUIDFromBytes(("verdant_arcanum:" + name).getBytes(StandardCharsets.UTF_8));
+            ServerPlayerEntity player = new ServerPlayerEntity(world.getServer(), world, new GameProfile(uuid, name), null);
+
+            world.getServer().getPlayerManager().onPlayerConnect(new SimulatedConnection(), player);
+            registerClientChannels(player);
+
+            // Keep the population constant for the whole run
+            player.getAbilities().invulnerable = true;
+            player.sendAbilitiesUpdate();
+
+            int x = center.getX() + (i % side) * spacing - offset;
+            int z = center.getZ() + (i / side) * spacing - offset;
+            int y = standingY(world, x, z);
+            if (player.getWorld() != world) {
+                player.teleport(world, x + 0.5, y, z + 0.5, 0.0f, 0.0f);
+            } else {
+                player.networkHandler.requestTeleport(x + 0.5, y, z + 0.5, 0.0f, 0.0f);
+            }
+            // Movement normally comes in through a packet, which is what updates chunk tracking
+            world.getChunkManager().updatePosition(player);
+
+            PLAYERS.add(player);
+        }
+    }
+
+    /**
+     * Disconnect every simulated player that is still online.
+     */
+    static void removeAll() {
+        for (ServerPlayerEntity player : PLAYERS) {
+            if (!player.isDisconnected()) {
+                player.networkHandler.onDisconnected(Text.literal("Benchmark finished"));
+            }
+        }
+        PLAYERS.clear();
+    }
+
+    /**
+     * Lowest spot in the column with solid ground and two blocks of air above it. Under a
+     * ceiling the heightmap only finds the roof, so those columns are scanned from the bottom.
+     */
+    private static int standingY(ServerWorld world, int x, int z) {
+        if (!world.getDimension().hasCeiling()) {
+            return world.getTopY(Heightmap.Type.MOTION_BLOCKING, x, z);
+        }
+
+        BlockPos.Mutable pos = new BlockPos.Mutable(x, world.getBottomY(), z);
+        int top = world.getBottomY() + world.getLogicalHeight() - 2;
+        for (int y = world.getBottomY(); y < top; y++) {
+            if (world.getBlockState(pos.setY(y)).isSolidBlock(world, pos)
+                    && world.isAir(pos.setY(y + 1))
+                    && world.isAir(pos.setY(y + 2))) {
+                return y + 1;
+            }
+        }
+        // No open floor in this column; the players are invulnerable anyway
+        return world.getBottomY() + world.getLogicalHeight() / 2;
+    }
+
+    private static void registerClientChannels(ServerPlayerEntity player) {
+        PacketByteBuf buf = PacketByteBufs.create();
+        for (int i = 0; i < CLIENT_CHANNELS.length; i++) {
+            if (i > 0) {
+                buf.writeByte(0);
+            }
+            buf.writeBytes(CLIENT_CHANNELS[i].toString().getBytes(StandardCharsets.US_ASCII));
+        }
+        player.networkHandler.onCustomPayload(new CustomPayloadC2SPacket(REGISTER_CHANNEL, buf));
+    }
+}
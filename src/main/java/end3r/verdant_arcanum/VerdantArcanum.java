@@ -1,7 +1,14 @@
 // VerdantArcanum.java
 package end3r.verdant_arcanum;
 
+import end3r.verdant_arcanum.event.BlockChangeBatcher;
+import end3r.verdant_arcanum.event.ColumnQueryCache;
+import end3r.verdant_arcanum.event.EventBroadcaster;
+import end3r.verdant_arcanum.event.EventMetrics;
+import end3r.verdant_arcanum.event.OvergrowthCandidateFinder;
+import end3r.verdant_arcanum.event.SafeLandingFinder;
 import end3r.verdant_arcanum.event.WorldEventManager;
+import end3r.verdant_arcanum.network.ParticleBatcher;
 import end3r.verdant_arcanum.item.LivingStaffItem;
 import end3r.verdant_arcanum.item.LivingStaffMk2Item;
 import end3r.verdant_arcanum.registry.ModEntities;
@@ -81,9 +88,22 @@ public class VerdantArcanum implements ModInitializer {
 
 		ServerTickEvents.END_SERVER_TICK.register(this::onServerTick);
 
+		// Let Overgrowth candidate lists forget chunks as they load
+		OvergrowthCandidateFinder.register();
+
 		ServerTickEvents.END_WORLD_TICK.register(world -> {
 			if (!world.isClient()) {
 				WorldEventManager.getInstance().tick((ServerWorld) world);
+				// Apply this tick's event block changes, one packet per chunk section
+				BlockChangeBatcher.flush((ServerWorld) world);
+				// Send this tick's event particles, one packet per player
+				ParticleBatcher.flush((ServerWorld) world);
+				// Deliver this tick's event messages and sounds, with repeats merged
+				EventBroadcaster.flush((ServerWorld) world);
+				ColumnQueryCache.endTick((ServerWorld) world);
+				SafeLandingFinder.endTick((ServerWorld) world);
+				// Credit this tick's counters to the running event, and to a benchmark if one is recording
+				EventMetrics.endTick((ServerWorld) world);
 			}
 		});
 
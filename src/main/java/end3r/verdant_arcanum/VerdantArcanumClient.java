@@ -1,6 +1,7 @@
 package end3r.verdant_arcanum;
 
 import end3r.verdant_arcanum.client.ClientEvents;
+import end3r.verdant_arcanum.client.event.LevitatingBlockHandler;
 import end3r.verdant_arcanum.client.event.WindParticleHandler;
 import end3r.verdant_arcanum.client.gui.MagicHiveScreen;
 import end3r.verdant_arcanum.client.ui.ManaHudRenderer;
@@ -128,8 +129,11 @@ public class VerdantArcanumClient implements ClientModInitializer {
         HandledScreens.register(ModScreenHandlers.MAGIC_HIVE_SCREEN_HANDLER, MagicHiveScreen::new);
 
         end3r.verdant_arcanum.network.BeamSyncPacket.registerClient();
+        end3r.verdant_arcanum.network.ParticleBatcher.registerClient();
+        end3r.verdant_arcanum.network.BlockLevitationPacket.registerClient();
 
         WindParticleHandler.init();
+        LevitatingBlockHandler.init();
 
         ClientPlayNetworking.registerGlobalReceiver(StrongWindsEvent.WIND_PACKET_ID, (client, handler, buf, responseSender) -> {
             // Read wind data from packet
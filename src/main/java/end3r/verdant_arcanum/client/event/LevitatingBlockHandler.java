@@ -0,0 +1,151 @@
+package end3r.verdant_arcanum.client.event;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.OverlayTexture;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.WorldRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.particle.ParticleTypes;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvents;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Draws the ghost blocks announced by BlockLevitationPacket.
+ *
+ * Each ghost is a copy of the block rendered on top of the real one, rising to its peak height
+ * and settling back on a sine curve. The client world is never modified. A ghost is dropped
+ * early if the real block changes underneath it.
+ */
+@Environment(EnvType.CLIENT)
+public class LevitatingBlockHandler {
+    // Plenty for the server's cap; guards against a flood of packets
+    private static final int MAX_GHOSTS = 64;
+    private static final int TRAIL_INTERVAL = 10;
+    // Drawn slightly smaller than a block so the faces don't fight with the real block's
+    private static final float GHOST_SCALE = 0.98f;
+
+    private static final List<Ghost> GHOSTS = new ArrayList<>();
+    private static final Random RANDOM = Random.create();
+
+    private static class Ghost {
+        private final BlockPos pos;
+        private final BlockState state;
+        private final float maxHeight;
+        private final int duration;
+        private int age = 0;
+
+        private Ghost(BlockPos pos, BlockState state, float maxHeight, int duration) {
+            this.pos = pos;
+            this.state = state;
+            this.maxHeight = maxHeight;
+            this.duration = duration;
+        }
+
+        // Full sine wave: 0 -> maxHeight -> 0
+        private float heightAt(float tickDelta) {
+            float progress = MathHelper.clamp((age + tickDelta) / duration, 0.0f, 1.0f);
+            return maxHeight * MathHelper.sin((float) (progress * Math.PI));
+        }
+    }
+
+    public static void init() {
+        ClientTickEvents.END_CLIENT_TICK.register(LevitatingBlockHandler::tick);
+        WorldRenderEvents.AFTER_ENTITIES.register(LevitatingBlockHandler::render);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> client.execute(GHOSTS::clear));
+    }
+
+    public static void add(BlockPos pos, BlockState state, float maxHeight, int duration) {
+        if (GHOSTS.size() >= MAX_GHOSTS || duration <= 0 || state.isAir()) {
+            return;
+        }
+        GHOSTS.add(new Ghost(pos, state, maxHeight, duration));
+    }
+
+    private static void tick(MinecraftClient client) {
+        ClientWorld world = client.world;
+        if (world == null) {
+            GHOSTS.clear();
+            return;
+        }
+        if (client.isPaused() || GHOSTS.isEmpty()) {
+            return;
+        }
+
+        for (int i = GHOSTS.size() - 1; i >= 0; i--) {
+            Ghost ghost = GHOSTS.get(i);
+            ghost.age++;
+
+            // The real block was broken or replaced; the ghost goes with it
+            if (world.getBlockState(ghost.pos) != ghost.state) {
+                GHOSTS.remove(i);
+                continue;
+            }
+
+            if (ghost.age % TRAIL_INTERVAL == 0) {
+                world.addParticle(ParticleTypes.END_ROD,
+                        ghost.pos.getX() + 0.5 + RANDOM.nextGaussian() * 0.1,
+                        ghost.pos.getY() + ghost.heightAt(0.0f) + RANDOM.nextGaussian() * 0.1,
+                        ghost.pos.getZ() + 0.5 + RANDOM.nextGaussian() * 0.1,
+                        0.0, 0.01, 0.0);
+            }
+
+            if (ghost.age >= ghost.duration) {
+                land(world, ghost.pos);
+                GHOSTS.remove(i);
+            }
+        }
+    }
+
+    private static void land(ClientWorld world, BlockPos pos) {
+        world.playSound(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
+                SoundEvents.BLOCK_STONE_PLACE, SoundCategory.BLOCKS, 0.3f, 0.8f, false);
+
+        for (int i = 0; i < 5; i++) {
+            world.addParticle(ParticleTypes.POOF,
+                    pos.getX() + 0.5 + RANDOM.nextGaussian() * 0.4,
+                    pos.getY() + 0.5 + RANDOM.nextGaussian() * 0.2,
+                    pos.getZ() + 0.5 + RANDOM.nextGaussian() * 0.4,
+                    RANDOM.nextGaussian() * 0.05, RANDOM.nextGaussian() * 0.05, RANDOM.nextGaussian() * 0.05);
+        }
+    }
+
+    private static void render(WorldRenderContext context) {
+        if (GHOSTS.isEmpty() || context.consumers() == null) {
+            return;
+        }
+        MinecraftClient client = MinecraftClient.getInstance();
+        ClientWorld world = context.world();
+        MatrixStack matrices = context.matrixStack();
+        VertexConsumerProvider consumers = context.consumers();
+        Vec3d camera = context.camera().getPos();
+        float tickDelta = context.tickDelta();
+
+        for (Ghost ghost : GHOSTS) {
+            float height = ghost.heightAt(tickDelta);
+            int light = WorldRenderer.getLightmapCoordinates(world, ghost.pos.up(MathHelper.ceil(height)));
+
+            matrices.push();
+            matrices.translate(ghost.pos.getX() - camera.x, ghost.pos.getY() + height - camera.y, ghost.pos.getZ() - camera.z);
+            matrices.translate(0.5, 0.5, 0.5);
+            matrices.scale(GHOST_SCALE, GHOST_SCALE, GHOST_SCALE);
+            matrices.translate(-0.5, -0.5, -0.5);
+            client.getBlockRenderManager().renderBlockAsEntity(ghost.state, matrices, consumers, light, OverlayTexture.DEFAULT_UV);
+            matrices.pop();
+        }
+    }
+}
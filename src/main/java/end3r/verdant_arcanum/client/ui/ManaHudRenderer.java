@@ -53,7 +53,7 @@ public class ManaHudRenderer implements HudRenderCallback {
 
         // Only render mana bar if player has magical items
         if (hasMagicalItems) {
-            renderManaBar(matrixStack, client, player);
+            renderManaBar(matrixStack, client, player, tickDelta);
         } else {
             // When player has no magical items, reset client mana data or mark it as inactive
             ClientManaData.resetOrMarkInactive();
@@ -90,9 +90,9 @@ public class ManaHudRenderer implements HudRenderCallback {
     /**
      * Render the mana bar in the bottom left corner
      */
-    private void renderManaBar(MatrixStack matrixStack, MinecraftClient client, PlayerEntity player) {
-        // Get player's mana - first try from ClientManaData for client-side
-        float manaPercent = ClientManaData.getManaPercentage();
+    private void renderManaBar(MatrixStack matrixStack, MinecraftClient client, PlayerEntity player, float tickDelta) {
+        // Predicted per frame, so the bar fills smoothly between server updates
+        float manaPercent = ClientManaData.getManaPercentage(tickDelta);
 
         // Calculate positions
         int screenWidth = client.getWindow().getScaledWidth();
@@ -0,0 +1,128 @@
+package end3r.verdant_arcanum.event;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectMap;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.network.packet.s2c.play.ChunkDeltaUpdateS2CPacket;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batches block changes made by world events.
+ *
+ * Events call set() instead of world.setBlockState. Changes are grouped by chunk section and
+ * applied in flush() at the end of the world tick: every section is written first, each
+ * section's watchers get one ChunkDeltaUpdateS2CPacket, and only then are light checks and
+ * neighbor updates run for the changed positions.
+ *
+ * Only for changes that keep the block's collision shape (moss and mossy variants, crop ages),
+ * since mob pathfinding is not told about them.
+ */
+public class BlockChangeBatcher {
+    // Pending changes per dimension: section key -> packed local position -> new state
+    private static final Map<RegistryKey<World>, Long2ObjectOpenHashMap<Short2ObjectOpenHashMap<BlockState>>> PENDING = new HashMap<>();
+
+    // Positions written during a flush and what they held before, for the deferred updates
+    private static final LongArrayList changedPositions = new LongArrayList();
+    private static final List<BlockState> previousStates = new ArrayList<>();
+
+    /**
+     * Queue a block change for the end of this world's tick. A later change to the same
+     * position in the same tick replaces the earlier one.
+     */
+    public static void set(ServerWorld world, BlockPos pos, BlockState state) {
+        PENDING.computeIfAbsent(world.getRegistryKey(), key -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(ChunkSectionPos.toLong(pos), key -> new Short2ObjectOpenHashMap<>())
+                .put(ChunkSectionPos.packLocal(pos), state);
+        EventMetrics.recordBlockChange(world);
+    }
+
+    /**
+     * Apply every change queued for this world. Called at the end of each world tick.
+     */
+    public static void flush(ServerWorld world) {
+        Long2ObjectOpenHashMap<Short2ObjectOpenHashMap<BlockState>> sections = PENDING.get(world.getRegistryKey());
+        if (sections == null || sections.isEmpty()) {
+            return;
+        }
+
+        for (Long2ObjectMap.Entry<Short2ObjectOpenHashMap<BlockState>> entry : sections.long2ObjectEntrySet()) {
+            applySection(world, ChunkSectionPos.from(entry.getLongKey()), entry.getValue());
+        }
+        sections.clear();
+
+        // Deferred until every section is written, so each update sees the final state
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int i = 0; i < changedPositions.size(); i++) {
+            pos.set(changedPositions.getLong(i));
+            BlockState previous = previousStates.get(i);
+            BlockState current = world.getBlockState(pos);
+
+            if (current.getOpacity(world, pos) != previous.getOpacity(world, pos)
+                    || current.getLuminance() != previous.getLuminance()
+                    || current.hasSidedTransparency() || previous.hasSidedTransparency()) {
+                world.getChunkManager().getLightingProvider().checkBlock(pos);
+            }
+
+            BlockPos immutable = pos.toImmutable();
+            world.updateNeighbors(immutable, previous.getBlock());
+            current.updateNeighbors(world, immutable, Block.NOTIFY_LISTENERS);
+            current.prepare(world, immutable, Block.NOTIFY_LISTENERS);
+            world.onBlockChanged(immutable, previous, current);
+        }
+        changedPositions.clear();
+        previousStates.clear();
+    }
+
+    private static void applySection(ServerWorld world, ChunkSectionPos sectionPos, Short2ObjectOpenHashMap<BlockState> changes) {
+        // The chunk may have unloaded since the change was queued
+        if (!world.getChunkManager().isChunkLoaded(sectionPos.getSectionX(), sectionPos.getSectionZ())) {
+            return;
+        }
+        WorldChunk chunk = world.getChunk(sectionPos.getSectionX(), sectionPos.getSectionZ());
+        int sectionIndex = chunk.getSectionIndex(sectionPos.getMinY());
+        if (sectionIndex < 0 || sectionIndex >= chunk.getSectionArray().length) {
+            return;
+        }
+
+        ShortOpenHashSet written = new ShortOpenHashSet(changes.size());
+        for (Short2ObjectMap.Entry<BlockState> change : changes.short2ObjectEntrySet()) {
+            BlockPos pos = sectionPos.unpackBlockPos(change.getShortKey());
+            BlockState previous = chunk.setBlockState(pos, change.getValue(), false);
+            // Null means the block already had that state
+            if (previous != null) {
+                written.add(change.getShortKey());
+                changedPositions.add(pos.asLong());
+                previousStates.add(previous);
+            }
+        }
+        if (written.isEmpty()) {
+            return;
+        }
+
+        // One packet for the whole section instead of one per block
+        ChunkDeltaUpdateS2CPacket packet = new ChunkDeltaUpdateS2CPacket(sectionPos, written,
+                chunk.getSectionArray()[sectionIndex], false);
+        ChunkPos chunkPos = new ChunkPos(sectionPos.getSectionX(), sectionPos.getSectionZ());
+        for (ServerPlayerEntity player : world.getChunkManager().threadedAnvilChunkStorage.getPlayersWatchingChunk(chunkPos, false)) {
+            player.networkHandler.sendPacket(packet);
+            EventMetrics.recordPackets(world, 1);
+        }
+    }
+}
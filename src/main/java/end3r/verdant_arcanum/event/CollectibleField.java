@@ -0,0 +1,276 @@
+package end3r.verdant_arcanum.event;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collectible points an event leaves in the world, such as seeds on the ground or vortices
+ * that players walk into.
+ *
+ * Each collectible is stored in a spatial hash with one cell per chunk column, so the pickup
+ * check for a player only looks at the cells within reach of them instead of every
+ * collectible. Expiry runs on a timing wheel, so each tick only looks at the collectibles due
+ * to expire then. Collectibles in unloaded chunks are left alone until their chunk loads again
+ * or they expire.
+ */
+public class CollectibleField {
+    private static final int WHEEL_SIZE = 64;
+
+    /**
+     * What a kind of collectible looks like and does.
+     */
+    public interface Behavior {
+        /**
+         * Furthest a player can be, horizontally, from the collectible's position and still pick it up
+         */
+        double reach();
+
+        boolean canPickUp(Collectible collectible, PlayerEntity player);
+
+        void onPickup(ServerWorld world, Collectible collectible, PlayerEntity player);
+
+        /**
+         * Called every tick while the chunk is loaded: emit particles, and move if it drifts
+         */
+        void tick(ServerWorld world, Collectible collectible);
+
+        default void onExpire(ServerWorld world, Collectible collectible) {
+        }
+    }
+
+    public static final class Collectible {
+        private final Behavior behavior;
+        private double x;
+        private double y;
+        private double z;
+        private int age = 0;
+        private final long expireTick;
+
+        private long cellKey;
+        private int liveIndex;
+        private boolean removed = false;
+
+        private Collectible(Behavior behavior, double x, double y, double z, long expireTick) {
+            this.behavior = behavior;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.expireTick = expireTick;
+        }
+
+        public double getX() {
+            return x;
+        }
+
+        public double getY() {
+            return y;
+        }
+
+        public double getZ() {
+            return z;
+        }
+
+        public BlockPos getBlockPos() {
+            return new BlockPos(x, y, z);
+        }
+
+        /**
+         * Ticks since the collectible was spawned
+         */
+        public int getAge() {
+            return age;
+        }
+
+        /**
+         * Move the collectible. Its cell is updated after the behavior's tick.
+         */
+        public void setPos(double x, double y, double z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+    }
+
+    private final Long2ObjectOpenHashMap<List<Collectible>> cells = new Long2ObjectOpenHashMap<>();
+    private final List<Collectible> live = new ArrayList<>();
+    @SuppressWarnings("unchecked")
+    private final List<Collectible>[] wheel = new List[WHEEL_SIZE];
+    private long currentTick = 0;
+    private double maxReach = 0;
+
+    public CollectibleField() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Add a collectible at a position.
+     *
+     * @param lifetime ticks until it expires if nobody picks it up
+     */
+    public Collectible spawn(Behavior behavior, double x, double y, double z, int lifetime) {
+        Collectible collectible = new Collectible(behavior, x, y, z, currentTick + Math.max(1, lifetime));
+        collectible.cellKey = cellKey(x, z);
+        cells.computeIfAbsent(collectible.cellKey, key -> new ArrayList<>()).add(collectible);
+        collectible.liveIndex = live.size();
+        live.add(collectible);
+        wheel[(int) (collectible.expireTick % WHEEL_SIZE)].add(collectible);
+        maxReach = Math.max(maxReach, behavior.reach());
+        return collectible;
+    }
+
+    /**
+     * Add a collectible resting on a block: centred horizontally, at the block's bottom
+     */
+    public Collectible spawn(Behavior behavior, BlockPos pos, int lifetime) {
+        return spawn(behavior, pos.getX() + 0.5, pos.getY(), pos.getZ() + 0.5, lifetime);
+    }
+
+    public int size() {
+        return live.size();
+    }
+
+    /**
+     * Whether any collectible sits in the given block
+     */
+    public boolean isOccupied(BlockPos pos) {
+        List<Collectible> cell = cells.get(ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (cell == null) {
+            return false;
+        }
+        for (Collectible collectible : cell) {
+            if (collectible.getBlockPos().equals(pos)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tick every collectible, hand out pickups and expire the ones whose time is up.
+     */
+    public void tick(ServerWorld world) {
+        currentTick++;
+        if (live.isEmpty()) {
+            return;
+        }
+
+        for (int i = live.size() - 1; i >= 0; i--) {
+            Collectible collectible = live.get(i);
+            long key = collectible.cellKey;
+            if (!world.getChunkManager().isChunkLoaded(ChunkPos.getPackedX(key), ChunkPos.getPackedZ(key))) {
+                continue;
+            }
+            collectible.age++;
+            collectible.behavior.tick(world, collectible);
+
+            // Rehash if it drifted into another chunk
+            long newKey = cellKey(collectible.x, collectible.z);
+            if (newKey != key) {
+                removeFromCell(collectible);
+                collectible.cellKey = newKey;
+                cells.computeIfAbsent(newKey, k -> new ArrayList<>()).add(collectible);
+            }
+        }
+
+        checkPickups(world);
+        expireDue(world);
+    }
+
+    public void clear() {
+        cells.clear();
+        live.clear();
+        for (List<Collectible> bucket : wheel) {
+            bucket.clear();
+        }
+        currentTick = 0;
+        maxReach = 0;
+    }
+
+    private void checkPickups(ServerWorld world) {
+        for (PlayerEntity player : world.getPlayers()) {
+            if (live.isEmpty()) {
+                return;
+            }
+            int minX = MathHelper.floor(player.getX() - maxReach) >> 4;
+            int maxX = MathHelper.floor(player.getX() + maxReach) >> 4;
+            int minZ = MathHelper.floor(player.getZ() - maxReach) >> 4;
+            int maxZ = MathHelper.floor(player.getZ() + maxReach) >> 4;
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    List<Collectible> cell = cells.get(ChunkPos.toLong(cx, cz));
+                    if (cell == null) {
+                        continue;
+                    }
+                    // Backwards, so removing the current entry doesn't skip one
+                    for (int i = cell.size() - 1; i >= 0; i--) {
+                        Collectible collectible = cell.get(i);
+                        if (collectible.behavior.canPickUp(collectible, player)) {
+                            remove(collectible);
+                            collectible.behavior.onPickup(world, collectible, player);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void expireDue(ServerWorld world) {
+        List<Collectible> bucket = wheel[(int) (currentTick % WHEEL_SIZE)];
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Collectible collectible = bucket.get(i);
+            if (collectible.removed) {
+                continue;
+            }
+            if (collectible.expireTick <= currentTick) {
+                remove(collectible);
+                collectible.behavior.onExpire(world, collectible);
+                continue;
+            }
+            // Due on a later turn of the wheel
+            bucket.set(kept++, collectible);
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    private void remove(Collectible collectible) {
+        collectible.removed = true;
+        removeFromCell(collectible);
+
+        // Swap-remove from the live list
+        Collectible last = live.remove(live.size() - 1);
+        if (last != collectible) {
+            live.set(collectible.liveIndex, last);
+            last.liveIndex = collectible.liveIndex;
+        }
+        // The wheel entry is dropped when its bucket next comes up
+    }
+
+    private void removeFromCell(Collectible collectible) {
+        List<Collectible> cell = cells.get(collectible.cellKey);
+        if (cell == null) {
+            return;
+        }
+        int index = cell.indexOf(collectible);
+        if (index >= 0) {
+            cell.set(index, cell.get(cell.size() - 1));
+            cell.remove(cell.size() - 1);
+        }
+        if (cell.isEmpty()) {
+            cells.remove(collectible.cellKey);
+        }
+    }
+
+    private static long cellKey(double x, double z) {
+        return ChunkPos.toLong(MathHelper.floor(x) >> 4, MathHelper.floor(z) >> 4);
+    }
+}
@@ -0,0 +1,194 @@
+package end3r.verdant_arcanum.event;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Column queries for world events: is a position open above, where is the ground near a
+ * given height, and which surface block of a column does sky light reach.
+ *
+ * The first query for an x/z column reads the whole column once into two bitmasks, one bit
+ * per block height: which blocks are air and which are solid. Every later query for that
+ * column is answered from the masks for any height with a few word operations, so a player
+ * moving up and down still hits the cache. This is what makes the Nether cheap, where the
+ * bedrock roof keeps the heightmaps from saying anything about the floor. An entry lives
+ * until a block in its column changes (see ServerWorldBlockChangeMixin) or it gets old.
+ */
+public class ColumnQueryCache {
+    // Also covers changes the mixin can't see, such as a chunk being regenerated
+    private static final int MAX_AGE_TICKS = 100;
+
+    public static final int NO_GROUND = Integer.MIN_VALUE;
+
+    private static final Map<RegistryKey<World>, Long2ObjectOpenHashMap<Column>> COLUMNS = new HashMap<>();
+
+    /**
+     * Air and solid bits for one x/z column, bit 0 being the world's bottom Y
+     */
+    private static class Column {
+        private long time = Long.MIN_VALUE;
+        private int bottomY;
+        private int height;
+        private long[] air = new long[0];
+        private long[] solid = new long[0];
+
+        /**
+         * Whether every block from fromY to toY, both included, is air
+         */
+        private boolean isAllAir(int fromY, int toY) {
+            int from = Math.max(fromY - bottomY, 0);
+            int to = Math.min(toY - bottomY, height - 1);
+            for (int word = from >> 6; word <= to >> 6 && from <= to; word++) {
+                long wanted = rangeMask(word, from, to);
+                if ((air[word] & wanted) != wanted) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Lowest y from fromY to toY that is solid with air above it, or NO_GROUND
+         */
+        private int lowestGround(int fromY, int toY) {
+            int from = Math.max(fromY - bottomY, 0);
+            int to = Math.min(toY - bottomY, height - 1);
+            for (int word = from >> 6; word <= to >> 6 && from <= to; word++) {
+                // Air above: this word's bits shifted down one, topped up with the next word's lowest bit
+                long airAbove = air[word] >>> 1 | (word + 1 < air.length ? air[word + 1] << 63 : 1L << 63);
+                long ground = solid[word] & airAbove & rangeMask(word, from, to);
+                if (ground != 0) {
+                    return bottomY + (word << 6) + Long.numberOfTrailingZeros(ground);
+                }
+            }
+            return NO_GROUND;
+        }
+
+        private static long rangeMask(int word, int from, int to) {
+            int low = Math.max(from - (word << 6), 0);
+            int high = Math.min(to - (word << 6), 63);
+            return (-1L >>> (63 - high)) & (-1L << low);
+        }
+    }
+
+    /**
+     * Whether nothing but air is in the `height` blocks above a position.
+     */
+    public static boolean isOpenAbove(ServerWorld world, BlockPos pos, int height) {
+        return column(world, pos.getX(), pos.getZ()).isAllAir(pos.getY() + 1, pos.getY() + height);
+    }
+
+    /**
+     * Find the lowest air block standing on a solid block within `range` of nearY.
+     *
+     * @return the y of that air block, or NO_GROUND
+     */
+    public static int findGround(ServerWorld world, int x, int z, int nearY, int range) {
+        int groundY = column(world, x, z).lowestGround(nearY - range, nearY + range);
+        return groundY == NO_GROUND ? NO_GROUND : groundY + 1;
+    }
+
+    /**
+     * The position above the column's WORLD_SURFACE top, as world.getTopPosition gives it, if
+     * sky light reaches it. A dimension without sky light never sees the sky, which is what
+     * world.isSkyVisible says there too, so there the answer needs no world access at all.
+     *
+     * @return that position, or null if the sky isn't visible from it
+     */
+    public static BlockPos findSkyVisibleTop(ServerWorld world, int x, int z) {
+        if (!world.getDimension().hasSkyLight()) {
+            return null;
+        }
+        BlockPos top = world.getTopPosition(Heightmap.Type.WORLD_SURFACE, new BlockPos(x, 0, z));
+        return world.isSkyVisible(top) ? top : null;
+    }
+
+    /**
+     * Forget what is known about a column after a block in it changed.
+     */
+    public static void invalidate(ServerWorld world, BlockPos pos) {
+        Long2ObjectOpenHashMap<Column> columns = COLUMNS.get(world.getRegistryKey());
+        if (columns != null && !columns.isEmpty()) {
+            columns.remove(BlockPos.asLong(pos.getX(), 0, pos.getZ()));
+        }
+    }
+
+    /**
+     * Drop old entries. Called at the end of each world tick.
+     */
+    public static void endTick(ServerWorld world) {
+        Long2ObjectOpenHashMap<Column> columns = COLUMNS.get(world.getRegistryKey());
+        if (columns == null || columns.isEmpty() || world.getTime() % MAX_AGE_TICKS != 0) {
+            return;
+        }
+        long time = world.getTime();
+        columns.values().removeIf(column -> !isFresh(column.time, time));
+    }
+
+    private static Column column(ServerWorld world, int x, int z) {
+        Column column = COLUMNS.computeIfAbsent(world.getRegistryKey(), key -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(BlockPos.asLong(x, 0, z), key -> new Column());
+        long time = world.getTime();
+        if (!isFresh(column.time, time)) {
+            read(world, x, z, column);
+            column.time = time;
+        }
+        return column;
+    }
+
+    /**
+     * Read the whole column into the entry's masks, skipping empty sections.
+     */
+    private static void read(ServerWorld world, int x, int z, Column column) {
+        WorldChunk chunk = world.getWorldChunk(new BlockPos(x, 0, z));
+        column.bottomY = world.getBottomY();
+        column.height = world.getHeight();
+        int words = (column.height + 63) >> 6;
+        if (column.air.length != words) {
+            column.air = new long[words];
+            column.solid = new long[words];
+        } else {
+            Arrays.fill(column.air, 0L);
+            Arrays.fill(column.solid, 0L);
+        }
+        // Above the world is void air
+        for (int bit = column.height; bit < words << 6; bit++) {
+            column.air[bit >> 6] |= 1L << bit;
+        }
+
+        BlockPos.Mutable pos = new BlockPos.Mutable(x, 0, z);
+        ChunkSection[] sections = chunk.getSectionArray();
+        for (int i = 0; i < sections.length; i++) {
+            ChunkSection section = sections[i];
+            int sectionBit = i << 4;
+            if (section.isEmpty()) {
+                column.air[sectionBit >> 6] |= 0xFFFFL << sectionBit;
+                continue;
+            }
+            for (int localY = 0; localY < 16; localY++) {
+                int bit = sectionBit + localY;
+                BlockState state = section.getBlockState(x & 15, localY, z & 15);
+                if (state.isAir()) {
+                    column.air[bit >> 6] |= 1L << bit;
+                } else if (state.isSolidBlock(world, pos.setY(column.bottomY + bit))) {
+                    column.solid[bit >> 6] |= 1L << bit;
+                }
+            }
+        }
+    }
+
+    private static boolean isFresh(long entryTime, long time) {
+        return entryTime != Long.MIN_VALUE && time - entryTime < MAX_AGE_TICKS;
+    }
+}
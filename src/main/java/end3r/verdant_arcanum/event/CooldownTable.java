@@ -0,0 +1,68 @@
+package end3r.verdant_arcanum.event;
+
+import end3r.verdant_arcanum.magic.ManaHandleHolder;
+import end3r.verdant_arcanum.magic.ManaSystem;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.Arrays;
+
+/**
+ * Per-player cooldowns for world events.
+ *
+ * A cooldown is stored as the server tick it ends on, so nothing counts down every tick.
+ * Entries live in an array indexed by the player's mana store slot, which is cached on the
+ * player entity, so no lookup hashes a UUID. Each entry also keeps the full store handle it
+ * was written for. The store gives a slot a new handle when it passes to another player, so
+ * entries left by a player who disconnected no longer match and need no cleanup. The table
+ * holds no reference to the player.
+ */
+public class CooldownTable {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] endTicks = new long[INITIAL_CAPACITY];
+    private int[] handles = newHandles(INITIAL_CAPACITY);
+
+    /**
+     * Put a player on cooldown for a number of ticks, replacing any cooldown they had.
+     */
+    public void start(ServerWorld world, PlayerEntity player, int ticks) {
+        int handle = ManaSystem.getInstance().getPlayerHandle(player);
+        int slot = ManaSystem.slotOfHandle(handle);
+        if (slot >= endTicks.length) {
+            int newCapacity = Math.max(slot + 1, endTicks.length * 2);
+            int oldCapacity = handles.length;
+            endTicks = Arrays.copyOf(endTicks, newCapacity);
+            handles = Arrays.copyOf(handles, newCapacity);
+            Arrays.fill(handles, oldCapacity, newCapacity, ManaHandleHolder.NO_HANDLE);
+        }
+        endTicks[slot] = world.getServer().getTicks() + ticks;
+        handles[slot] = handle;
+    }
+
+    public boolean isActive(ServerWorld world, PlayerEntity player) {
+        return getRemaining(world, player) > 0;
+    }
+
+    /**
+     * @return ticks left on the player's cooldown, or 0 if they have none
+     */
+    public int getRemaining(ServerWorld world, PlayerEntity player) {
+        int handle = ManaSystem.getInstance().getPlayerHandle(player);
+        int slot = ManaSystem.slotOfHandle(handle);
+        if (slot >= endTicks.length || handles[slot] != handle) {
+            return 0;
+        }
+        return (int) Math.max(0, endTicks[slot] - world.getServer().getTicks());
+    }
+
+    public void clear() {
+        Arrays.fill(handles, ManaHandleHolder.NO_HANDLE);
+    }
+
+    private static int[] newHandles(int capacity) {
+        int[] handles = new int[capacity];
+        Arrays.fill(handles, ManaHandleHolder.NO_HANDLE);
+        return handles;
+    }
+}
@@ -5,10 +5,41 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
 
 public interface CustomWorldEvent {
+    // Time per tick an event's queued per-player work may take before the rest waits a tick
+    long DEFAULT_TICK_BUDGET_NANOS = 2_000_000L;
+
     void start(ServerWorld world);
     void tick(ServerWorld world);
     boolean isComplete();
     Identifier getId();
     int getDuration();
 
+    /**
+     * Return the event to its freshly constructed state so a pooled instance can run again.
+     * Backing collections are cleared, not replaced.
+     */
+    void reset();
+
+    /**
+     * Per-player work waiting to run. WorldEventManager drains it after each tick.
+     */
+    EventWorkQueue getWorkQueue();
+
+    default long getTickBudgetNanos() {
+        return DEFAULT_TICK_BUDGET_NANOS;
+    }
+
+    /**
+     * Scale the event down while the server is behind. 0 means full strength; each level
+     * above that lowers the event's intensity by one step, never below its mildest setting.
+     */
+    void setLoadLevel(int level);
+
+    /**
+     * Seed the generator every random choice of the event is drawn from. WorldEventManager
+     * calls this before start(), so a run with the same seed and the same players makes the
+     * same choices.
+     */
+    void setSeed(long seed);
+
 }
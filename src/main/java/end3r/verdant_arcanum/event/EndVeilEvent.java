@@ -1,6 +1,9 @@
 package end3r.verdant_arcanum.event;
 
 import end3r.verdant_arcanum.registry.ModItems;
+import end3r.verdant_arcanum.network.BlockLevitationPacket;
+import end3r.verdant_arcanum.network.ParticleBatcher;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.entity.ItemEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.world.ServerWorld;
@@ -39,40 +42,94 @@ public class EndVeilEvent implements CustomWorldEvent {
 
     // Particle effect timers
     private int particleTimer = 0;
-    private static int PARTICLE_INTERVAL = 20; // Spawn particles every second
+    private static final int DEFAULT_PARTICLE_INTERVAL = 20; // Spawn particles every second
+    private int particleInterval;
 
     // Temporal shift settings
     private int timeShiftTimer = 0;
     private static final int TIME_SHIFT_MIN_INTERVAL = 20 * 60; // At least 1 minute between shifts
-    private static int TIME_SHIFT_MAX_INTERVAL = 20 * 60 * 3; // At most 3 minutes between shifts
+    private static final int DEFAULT_TIME_SHIFT_MAX_INTERVAL = 20 * 60 * 3; // At most 3 minutes between shifts
+    private int timeShiftMaxInterval;
     private int nextTimeShift;
 
-    // Chorus teleport effect tracking
-    private final Map<PlayerEntity, Integer> playerTeleportCooldowns = new HashMap<>();
+    // Chorus teleport effect tracking; landings are 3-10 blocks away, scaled by 0.5-1.5
+    private final SafeLandingFinder landingFinder = new SafeLandingFinder(1.5, 15.0, 5, 10);
+    private final CooldownTable teleportCooldowns = new CooldownTable();
     private static final int TELEPORT_COOLDOWN = 20 * 5; // 5 seconds cooldown
 
-    // Block levitation tracking
-    private final List<BlockLevitation> levitatingBlocks = new ArrayList<>();
+    // Block levitation tracking; levitation is drawn by the clients, so only the end ticks are kept for the cap
+    private final LongArrayList levitationEndTicks = new LongArrayList();
     private int levitationTimer = 0;
     private static final int LEVITATION_INTERVAL = 20 * 30; // Try to levitate blocks every 30 seconds
+    private static final int MAX_LEVITATING_BLOCKS = 20; // Halved for each load level
+
+    // Per-player levitation search, run within the tick budget
+    private final EventWorkQueue workQueue = new EventWorkQueue();
+    private final EventWorkQueue.PlayerWork levitationWork =
+            EventWorkQueue.timed("tryLevitateBlocksNearPlayer", this::tryLevitateBlocksNearPlayer);
+    private int loadLevel = 0;
+
+    // Every random choice of a run; seeded by WorldEventManager before start()
+    private final Random random = Random.create();
 
     // Terrain "flickering" settings
     private int terrainFlickerTimer = 0;
-    private static int TERRAIN_FLICKER_INTERVAL = 20 * 15; // Every 15 seconds
+    private static final int DEFAULT_TERRAIN_FLICKER_INTERVAL = 20 * 15; // Every 15 seconds
+    private int terrainFlickerInterval;
     private boolean isFlickering = false;
     private int flickerDuration = 0;
 
     private static final int BLINK_VORTEX_INTERVAL = 20 * 20; // Create a new vortex every minute
-    private static int blinkVortexTimer = 0;
-    private static final Map<BlockPos, Integer> activeBlinkVortexes = new HashMap<>();
+    private int blinkVortexTimer = 0;
+    private final CollectibleField blinkVortexes = new CollectibleField();
+    private final CollectibleField.Behavior blinkVortex = new BlinkVortex();
     private static final int VORTEX_DURATION = 30 * 20; // 30 seconds duration
     private static final double VORTEX_RADIUS = 2.5; // Size of the particle effect
 
 
     public EndVeilEvent() {
-        Random random = Random.create();
+        reset();
+    }
+
+    @Override
+    public void reset() {
         this.duration = DURATION;
-        this.nextTimeShift = TIME_SHIFT_MIN_INTERVAL + random.nextInt(TIME_SHIFT_MAX_INTERVAL - TIME_SHIFT_MIN_INTERVAL);
+        ticks = 0;
+        particleTimer = 0;
+        timeShiftTimer = 0;
+        levitationTimer = 0;
+        terrainFlickerTimer = 0;
+        blinkVortexTimer = 0;
+        isFlickering = false;
+        flickerDuration = 0;
+
+        // Intensity overrides from the previous run
+        particleInterval = DEFAULT_PARTICLE_INTERVAL;
+        terrainFlickerInterval = DEFAULT_TERRAIN_FLICKER_INTERVAL;
+        timeShiftMaxInterval = DEFAULT_TIME_SHIFT_MAX_INTERVAL;
+        this.nextTimeShift = TIME_SHIFT_MIN_INTERVAL + random.nextInt(timeShiftMaxInterval - TIME_SHIFT_MIN_INTERVAL);
+
+        teleportCooldowns.clear();
+        landingFinder.clear();
+        levitationEndTicks.clear();
+        blinkVortexes.clear();
+        workQueue.clear();
+        loadLevel = 0;
+    }
+
+    @Override
+    public void setLoadLevel(int level) {
+        loadLevel = level;
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    @Override
+    public EventWorkQueue getWorkQueue() {
+        return workQueue;
     }
 
     /**
@@ -84,8 +141,8 @@ public class EndVeilEvent implements CustomWorldEvent {
         switch (intensity) {
             case 1: // Mild
                 // Reduce effect frequencies
-                particleTimer = PARTICLE_INTERVAL * 2;
-                terrainFlickerTimer = TERRAIN_FLICKER_INTERVAL * 2;
+                particleTimer = particleInterval * 2;
+                terrainFlickerTimer = terrainFlickerInterval * 2;
                 timeShiftTimer = TIME_SHIFT_MIN_INTERVAL;
                 break;
             case 2: // Moderate
@@ -93,9 +150,9 @@ public class EndVeilEvent implements CustomWorldEvent {
                 break;
             case 3: // Intense
                 // Increase effect frequencies
-                PARTICLE_INTERVAL = 10; // More frequent particles
-                TERRAIN_FLICKER_INTERVAL = (int)(TERRAIN_FLICKER_INTERVAL * 0.75); // More frequent flickering
-                TIME_SHIFT_MAX_INTERVAL = (int)(TIME_SHIFT_MAX_INTERVAL * 0.75); // More frequent time shifts
+                particleInterval = 10; // More frequent particles
+                terrainFlickerInterval = (int)(DEFAULT_TERRAIN_FLICKER_INTERVAL * 0.75); // More frequent flickering
+                timeShiftMaxInterval = (int)(DEFAULT_TIME_SHIFT_MAX_INTERVAL * 0.75); // More frequent time shifts
                 break;
         }
     }
@@ -113,7 +170,6 @@ public class EndVeilEvent implements CustomWorldEvent {
      * End energies that can bestow blink flower seeds to players who enter it
      */
     private void processBlinkVortexes(ServerWorld world) {
-        Random random = world.getRandom();
 
         // Attempt to create new vortexes on timer
         if (++blinkVortexTimer >= BLINK_VORTEX_INTERVAL) {
@@ -145,116 +201,119 @@ public class EndVeilEvent implements CustomWorldEvent {
 
                 if (vortexPos != null) {
                     // Create the vortex
-                    activeBlinkVortexes.put(vortexPos, VORTEX_DURATION);
+                    blinkVortexes.spawn(blinkVortex, vortexPos, VORTEX_DURATION);
 
                     // Notify nearby players
                     for (PlayerEntity nearbyPlayer : world.getPlayers()) {
                         if (nearbyPlayer.squaredDistanceTo(vortexPos.getX() + 0.5, vortexPos.getY() + 0.5, vortexPos.getZ() + 0.5) < 100) {
-                            nearbyPlayer.sendMessage(Text.literal("A rift of End energy materializes nearby...").formatted(Formatting.DARK_PURPLE), true);
+                            EventBroadcaster.sendMessage(nearbyPlayer, Text.literal("A rift of End energy materializes nearby...").formatted(Formatting.DARK_PURPLE), true);
                         }
                     }
 
                     // Initial visual effect
-                    world.spawnParticles(
+                    ParticleBatcher.spawn(world, 
                             ParticleTypes.REVERSE_PORTAL,
                             vortexPos.getX() + 0.5, vortexPos.getY() + 1.0, vortexPos.getZ() + 0.5,
                             30, 0.5, 0.5, 0.5, 0.05
                     );
 
                     // Sound effect
-                    world.playSound(null, vortexPos,
+                    EventBroadcaster.playSound(world, vortexPos,
                             SoundEvents.BLOCK_END_PORTAL_FRAME_FILL,
                             SoundCategory.AMBIENT, 1.0f, 0.6f);
                 }
             }
         }
 
-        // Process existing vortexes
-        Iterator<Map.Entry<BlockPos, Integer>> iterator = activeBlinkVortexes.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<BlockPos, Integer> entry = iterator.next();
-            BlockPos pos = entry.getKey();
-            int timeLeft = entry.getValue() - 1;
+        // Animate existing vortexes, consume the ones players enter and expire old ones
+        blinkVortexes.tick(world);
+    }
 
-            if (timeLeft <= 0) {
-                // Time expired, remove vortex with a particle burst
-                world.spawnParticles(
-                        ParticleTypes.DRAGON_BREATH,
-                        pos.getX() + 0.5, pos.getY() + 1.0, pos.getZ() + 0.5,
-                        20, 0.5, 0.5, 0.5, 0.05
-                );
+    /**
+     * A rift of End energy hovering a block above the ground. Entering it grants blink flower seeds.
+     */
+    private class BlinkVortex implements CollectibleField.Behavior {
+        @Override
+        public double reach() {
+            return VORTEX_RADIUS;
+        }
 
-                world.playSound(null, pos,
-                        SoundEvents.ENTITY_ENDERMAN_TELEPORT,
-                        SoundCategory.AMBIENT, 0.6f, 0.8f);
+        @Override
+        public boolean canPickUp(CollectibleField.Collectible vortex, PlayerEntity player) {
+            double distanceSquared = player.squaredDistanceTo(vortex.getX(), vortex.getY() + 1.0, vortex.getZ());
+            return distanceSquared <= VORTEX_RADIUS * VORTEX_RADIUS;
+        }
 
-                iterator.remove();
-            } else {
-                // Vortex still active, update time and visuals
-                entry.setValue(timeLeft);
+        @Override
+        public void onPickup(ServerWorld world, CollectibleField.Collectible vortex, PlayerEntity player) {
+            // Player entered the vortex
+            givePlayerBlinkSeeds(player, world);
 
-                // Constant particle effect
-                if (world.getTime() % 5 == 0) {
-                    // Swirling particles around the center
-                    double heightOffset = 1.0 + Math.sin(world.getTime() * 0.05) * 0.2;
+            // Consume the vortex with a dramatic effect
+            ParticleBatcher.spawn(world,
+                    ParticleTypes.EXPLOSION,
+                    vortex.getX(), vortex.getY() + 1.0, vortex.getZ(),
+                    1, 0, 0, 0, 0
+            );
 
-                    for (int i = 0; i < 3; i++) {
-                        double angle = (world.getTime() * 0.1) + (i * (Math.PI * 2 / 3));
-                        double radius = 0.3 + (Math.sin(world.getTime() * 0.02) * 0.2);
+            ParticleBatcher.spawn(world,
+                    ParticleTypes.DRAGON_BREATH,
+                    vortex.getX(), vortex.getY() + 1.0, vortex.getZ(),
+                    30, 0.5, 0.5, 0.5, 0.1
+            );
 
-                        double px = pos.getX() + 0.5 + Math.sin(angle) * radius;
-                        double pz = pos.getZ() + 0.5 + Math.cos(angle) * radius;
+            EventBroadcaster.playSound(world, vortex.getBlockPos(),
+                    SoundEvents.ENTITY_ENDER_DRAGON_GROWL,
+                    SoundCategory.AMBIENT, 0.3f, 1.2f);
+        }
 
-                        world.spawnParticles(
-                                ParticleTypes.PORTAL,
-                                px, pos.getY() + heightOffset, pz,
-                                1, 0.05, 0.05, 0.05, 0.01
-                        );
-                    }
+        @Override
+        public void tick(ServerWorld world, CollectibleField.Collectible vortex) {
+            // Constant particle effect
+            if (world.getTime() % 5 != 0) {
+                return;
+            }
 
-                    // Center particles
-                    if (random.nextInt(3) == 0) {
-                        world.spawnParticles(
-                                ParticleTypes.DRAGON_BREATH,
-                                pos.getX() + 0.5, pos.getY() + heightOffset, pos.getZ() + 0.5,
-                                1, 0.2, 0.2, 0.2, 0.01
-                        );
-                    }
-                }
+            // Swirling particles around the center
+            double heightOffset = 1.0 + Math.sin(world.getTime() * 0.05) * 0.2;
 
-                // Check for players entering the vortex area
-                for (PlayerEntity player : world.getPlayers()) {
-                    double distanceSquared = player.squaredDistanceTo(
-                            pos.getX() + 0.5, pos.getY() + 1.0, pos.getZ() + 0.5);
-
-                    if (distanceSquared <= VORTEX_RADIUS * VORTEX_RADIUS) {
-                        // Player entered the vortex
-                        givePlayerBlinkSeeds(player, world);
-
-                        // Consume the vortex with a dramatic effect
-                        world.spawnParticles(
-                                ParticleTypes.EXPLOSION,
-                                pos.getX() + 0.5, pos.getY() + 1.0, pos.getZ() + 0.5,
-                                1, 0, 0, 0, 0
-                        );
-
-                        world.spawnParticles(
-                                ParticleTypes.DRAGON_BREATH,
-                                pos.getX() + 0.5, pos.getY() + 1.0, pos.getZ() + 0.5,
-                                30, 0.5, 0.5, 0.5, 0.1
-                        );
-
-                        world.playSound(null, pos,
-                                SoundEvents.ENTITY_ENDER_DRAGON_GROWL,
-                                SoundCategory.AMBIENT, 0.3f, 1.2f);
-
-                        // Remove the vortex
-                        iterator.remove();
-                        break;
-                    }
-                }
+            for (int i = 0; i < 3; i++) {
+                double angle = (world.getTime() * 0.1) + (i * (Math.PI * 2 / 3));
+                double radius = 0.3 + (Math.sin(world.getTime() * 0.02) * 0.2);
+
+                double px = vortex.getX() + Math.sin(angle) * radius;
+                double pz = vortex.getZ() + Math.cos(angle) * radius;
+
+                ParticleBatcher.spawn(world,
+                        ParticleTypes.PORTAL,
+                        px, vortex.getY() + heightOffset, pz,
+                        1, 0.05, 0.05, 0.05, 0.01
+                );
+            }
+
+            // Center particles
+            if (random.nextInt(3) == 0) {
+                ParticleBatcher.spawn(world,
+                        ParticleTypes.DRAGON_BREATH,
+                        vortex.getX(), vortex.getY() + heightOffset, vortex.getZ(),
+                        1, 0.2, 0.2, 0.2, 0.01
+                );
             }
         }
+
+        @Override
+        public void onExpire(ServerWorld world, CollectibleField.Collectible vortex) {
+            // Time expired, remove vortex with a particle burst
+            ParticleBatcher.spawn(world,
+                    ParticleTypes.DRAGON_BREATH,
+                    vortex.getX(), vortex.getY() + 1.0, vortex.getZ(),
+                    20, 0.5, 0.5, 0.5, 0.05
+            );
+
+            EventBroadcaster.playSound(world, vortex.getBlockPos(),
+                    SoundEvents.ENTITY_ENDERMAN_TELEPORT,
+                    SoundCategory.AMBIENT, 0.6f, 0.8f);
+        }
     }
 
     /**
@@ -263,7 +322,6 @@ public class EndVeilEvent implements CustomWorldEvent {
     private void givePlayerBlinkSeeds(PlayerEntity player, ServerWorld world) {
         // Create seeds item
         ItemStack seeds = new ItemStack(ModItems.BLINK_FLOWER_SEEDS);
-        Random random = world.getRandom();
         int amount = 1 + random.nextInt(3); // Give 1-3 seeds
         seeds.setCount(amount);
 
@@ -281,7 +339,7 @@ public class EndVeilEvent implements CustomWorldEvent {
         }
 
         // Notification
-        player.sendMessage(
+        EventBroadcaster.sendMessage(player,
                 Text.literal("The End energies coalesce into " + amount + " Blink Flower Seeds!").formatted(Formatting.DARK_PURPLE),
                 false
         );
@@ -292,7 +350,7 @@ public class EndVeilEvent implements CustomWorldEvent {
         ));
 
         // Play sound to player
-        world.playSound(null, player.getX(), player.getY(), player.getZ(),
+        EventBroadcaster.playSound(world, player.getX(), player.getY(), player.getZ(),
                 SoundEvents.ENTITY_ENDERMAN_TELEPORT,
                 SoundCategory.PLAYERS, 1.0f, 0.6f);
     }
@@ -307,88 +365,108 @@ public class EndVeilEvent implements CustomWorldEvent {
         ticks = 0;
         particleTimer = 0;
         timeShiftTimer = 0;
+        // Drawn again now the generator is seeded
+        nextTimeShift = TIME_SHIFT_MIN_INTERVAL + random.nextInt(timeShiftMaxInterval - TIME_SHIFT_MIN_INTERVAL);
         levitationTimer = 0;
         terrainFlickerTimer = 0;
 
         // Clear any existing effects
-        playerTeleportCooldowns.clear();
-        levitatingBlocks.clear();
+        teleportCooldowns.clear();
+        landingFinder.clear();
+        levitationEndTicks.clear();
 
         // Initial notification
-        for (PlayerEntity player : world.getPlayers()) {
-            player.sendMessage(Text.literal("The veil between dimensions thins... strange energies leak from The End."), false);
-        }
+        EventBroadcaster.broadcast(world, Text.literal("The veil between dimensions thins... strange energies leak from The End."), false);
 
         // Initial sound effect
         for (ServerPlayerEntity player : world.getPlayers()) {
-            world.playSound(null, player.getBlockPos(), SoundEvents.BLOCK_END_PORTAL_SPAWN, SoundCategory.AMBIENT, 0.7f, 0.6f);
+            EventBroadcaster.playSound(world, player.getBlockPos(), SoundEvents.BLOCK_END_PORTAL_SPAWN, SoundCategory.AMBIENT, 0.7f, 0.6f);
         }
     }
 
     @Override
     public void tick(ServerWorld world) {
+        long section;
+
         ticks++;
 
         // Process particle effects
-        if (++particleTimer >= PARTICLE_INTERVAL) {
+        if (++particleTimer >= particleInterval) {
             particleTimer = 0;
+            section = EventMetrics.startSection();
             spawnEndParticles(world);
+            EventMetrics.endSection(world, "spawnEndParticles", section);
         }
 
         // Process blink vortexes - add this line
+        section = EventMetrics.startSection();
         processBlinkVortexes(world);
+        EventMetrics.endSection(world, "processBlinkVortexes", section);
+
+        // Keep safe teleport destinations ready around each player
+        section = EventMetrics.startSection();
+        landingFinder.tick(world, random);
+        EventMetrics.endSection(world, "tickLandingFinder", section);
 
         // Process chorus teleport effects
+        section = EventMetrics.startSection();
         processChorusEffects(world);
+        EventMetrics.endSection(world, "processChorusEffects", section);
 
 
 
         // Process particle effects
-        if (++particleTimer >= PARTICLE_INTERVAL) {
+        if (++particleTimer >= particleInterval) {
             particleTimer = 0;
+            section = EventMetrics.startSection();
             spawnEndParticles(world);
+            EventMetrics.endSection(world, "spawnEndParticles", section);
         }
 
         // Process chorus teleport effects
+        section = EventMetrics.startSection();
         processChorusEffects(world);
+        EventMetrics.endSection(world, "processChorusEffects", section);
 
         // Process gravity distortion
+        section = EventMetrics.startSection();
         processGravityDistortion(world);
+        EventMetrics.endSection(world, "processGravityDistortion", section);
 
         // Process projectile distortion
+        section = EventMetrics.startSection();
         processProjectileDistortion(world);
+        EventMetrics.endSection(world, "processProjectileDistortion", section);
 
         // Process block levitation
         if (++levitationTimer >= LEVITATION_INTERVAL) {
             levitationTimer = 0;
+            section = EventMetrics.startSection();
             tryLevitateRandomBlocks(world);
+            EventMetrics.endSection(world, "tryLevitateRandomBlocks", section);
         }
 
-        // Update existing levitating blocks
-        updateLevitatingBlocks(world);
-
         // Process terrain flickering
-        if (++terrainFlickerTimer >= TERRAIN_FLICKER_INTERVAL) {
+        if (++terrainFlickerTimer >= terrainFlickerInterval) {
             terrainFlickerTimer = 0;
+            section = EventMetrics.startSection();
             triggerTerrainFlicker(world);
+            EventMetrics.endSection(world, "triggerTerrainFlicker", section);
         }
 
         // Process temporal shifts
         if (++timeShiftTimer >= nextTimeShift) {
             timeShiftTimer = 0;
+            section = EventMetrics.startSection();
             performTemporalShift(world);
+            EventMetrics.endSection(world, "performTemporalShift", section);
 
             // Set next time shift
-            Random random = world.getRandom();
-            nextTimeShift = TIME_SHIFT_MIN_INTERVAL + random.nextInt(TIME_SHIFT_MAX_INTERVAL - TIME_SHIFT_MIN_INTERVAL);
+            nextTimeShift = TIME_SHIFT_MIN_INTERVAL + random.nextInt(timeShiftMaxInterval - TIME_SHIFT_MIN_INTERVAL);
         }
-
-        // Update player teleport cooldowns
-        updateTeleportCooldowns();
     }
 
     private void spawnEndParticles(ServerWorld world) {
-        Random random = world.getRandom();
 
         // Process chorus teleport effects
         processChorusEffects(world);
@@ -405,11 +483,8 @@ public class EndVeilEvent implements CustomWorldEvent {
             tryLevitateRandomBlocks(world);
         }
 
-        // Update existing levitating blocks
-        updateLevitatingBlocks(world);
-
         // Process terrain flickering
-        if (++terrainFlickerTimer >= TERRAIN_FLICKER_INTERVAL) {
+        if (++terrainFlickerTimer >= terrainFlickerInterval) {
             terrainFlickerTimer = 0;
             triggerTerrainFlicker(world);
         }
@@ -421,9 +496,6 @@ public class EndVeilEvent implements CustomWorldEvent {
 
         }
 
-        // Update player teleport cooldowns
-        updateTeleportCooldowns();
-
 
 
         for (PlayerEntity player : world.getPlayers()) {
@@ -444,7 +516,7 @@ public class EndVeilEvent implements CustomWorldEvent {
 
                 // Small chance for portal particles (more dramatic)
                 if (random.nextInt(10) == 0) {
-                    world.spawnParticles(
+                    ParticleBatcher.spawn(world, 
                             ParticleTypes.PORTAL,
                             particlePos.x, particlePos.y, particlePos.z,
                             1, 0.1, 0.1, 0.1, 0.01
@@ -452,7 +524,7 @@ public class EndVeilEvent implements CustomWorldEvent {
                 }
                 // Regular end rod particles (main effect)
                 else {
-                    world.spawnParticles(
+                    ParticleBatcher.spawn(world, 
                             ParticleTypes.END_ROD,
                             particlePos.x, particlePos.y, particlePos.z,
                             1, 0.1, 0.1, 0.1, 0.01
@@ -465,11 +537,10 @@ public class EndVeilEvent implements CustomWorldEvent {
     private void processChorusEffects(ServerWorld world) {
         for (PlayerEntity player : world.getPlayers()) {
             // Skip players on cooldown
-            if (playerTeleportCooldowns.containsKey(player) && playerTeleportCooldowns.get(player) > 0) {
+            if (teleportCooldowns.isActive(world, player)) {
                 continue;
             }
 
-            Random random = world.getRandom();
 
             // 1% chance per tick when eating
             if (player.isUsingItem() && player.getActiveItem().isFood() && random.nextInt(100) == 0) {
@@ -490,54 +561,30 @@ public class EndVeilEvent implements CustomWorldEvent {
     }
 
     private void teleportPlayer(PlayerEntity player, ServerWorld world, float distanceMultiplier) {
-        Random random = world.getRandom();
-
-        // Calculate teleport distance (3-10 blocks, affected by multiplier)
-        double distance = (3 + random.nextInt(8)) * distanceMultiplier;
-
-        // Random direction
-        double angle = random.nextDouble() * Math.PI * 2.0;
-
-        // Calculate new position
-        double newX = player.getX() + Math.sin(angle) * distance;
-        double newZ = player.getZ() + Math.cos(angle) * distance;
-
-        // Find safe Y position
-        BlockPos targetPos = new BlockPos((int)newX, (int)player.getY(), (int)newZ);
-
-        // Start from current Y and search for safe spot
-        int maxY = 5; // Search up to 5 blocks up
-        int minY = 10; // Search up to 10 blocks down
 
-        boolean found = false;
-        int newY = player.getBlockY();
-
-        // First try going up
-        for (int y = 0; y <= maxY && !found; y++) {
-            BlockPos checkPos = targetPos.up(y);
-            BlockPos checkPosAbove = checkPos.up();
-
-            if (world.isAir(checkPos) && world.isAir(checkPosAbove) && !world.isAir(checkPos.down())) {
-                newY = checkPos.getY();
-                found = true;
-            }
-        }
-
-        // If nothing found above, try going down
-        if (!found) {
-            for (int y = 1; y <= minY && !found; y++) {
-                BlockPos checkPos = targetPos.down(y);
-                BlockPos checkPosAbove = checkPos.up();
-
-                if (world.isAir(checkPos) && world.isAir(checkPosAbove) && !world.isAir(checkPos.down())) {
-                    newY = checkPos.getY();
-                    found = true;
-                }
+        // Teleport distance is 3-10 blocks, scaled by the multiplier
+        double minDistance = 3 * distanceMultiplier;
+        double maxDistance = 10 * distanceMultiplier;
+
+        BlockPos landing = landingFinder.take(world, player, minDistance, maxDistance);
+        if (landing == null) {
+            // Nothing prepared at this distance yet; check a single column now
+            double distance = minDistance + random.nextDouble() * (maxDistance - minDistance);
+            double angle = random.nextDouble() * Math.PI * 2.0;
+            int x = MathHelper.floor(player.getX() + Math.sin(angle) * distance);
+            int z = MathHelper.floor(player.getZ() + Math.cos(angle) * distance);
+            int y = landingFinder.findLanding(world, x, z, player.getBlockY());
+            if (y != SafeLandingFinder.NO_LANDING) {
+                landing = new BlockPos(x, y, z);
             }
         }
 
         // If we found a valid position, teleport
-        if (found) {
+        if (landing != null) {
+            double newX = landing.getX() + 0.5;
+            double newY = landing.getY();
+            double newZ = landing.getZ() + 0.5;
+
             // Store original position for particle effects
             double oldX = player.getX();
             double oldY = player.getY();
@@ -547,18 +594,18 @@ public class EndVeilEvent implements CustomWorldEvent {
             player.teleport(newX, newY, newZ);
 
             // Play teleport sound
-            world.playSound(null, oldX, oldY, oldZ, SoundEvents.ENTITY_ENDERMAN_TELEPORT,
+            EventBroadcaster.playSound(world, oldX, oldY, oldZ, SoundEvents.ENTITY_ENDERMAN_TELEPORT,
                     SoundCategory.PLAYERS, 0.7f, 1.0f);
 
             // Spawn particles at both locations
             for (int i = 0; i < 32; i++) {
-                world.spawnParticles(
+                ParticleBatcher.spawn(world, 
                         ParticleTypes.PORTAL,
                         oldX, oldY + random.nextDouble() * 2.0, oldZ,
                         1, random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5, 0.15
                 );
 
-                world.spawnParticles(
+                ParticleBatcher.spawn(world, 
                         ParticleTypes.PORTAL,
                         newX, newY + random.nextDouble() * 2.0, newZ,
                         1, random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5, 0.15
@@ -566,12 +613,11 @@ public class EndVeilEvent implements CustomWorldEvent {
             }
 
             // Set cooldown
-            playerTeleportCooldowns.put(player, TELEPORT_COOLDOWN);
+            teleportCooldowns.start(world, player, TELEPORT_COOLDOWN);
         }
     }
 
     private void processGravityDistortion(ServerWorld world) {
-        Random random = world.getRandom();
 
         for (PlayerEntity player : world.getPlayers()) {
             // Add slow falling effect to simulate reduced gravity
@@ -593,7 +639,7 @@ public class EndVeilEvent implements CustomWorldEvent {
                 );
 
                 // Particles to indicate movement glitch
-                world.spawnParticles(
+                ParticleBatcher.spawn(world, 
                         ParticleTypes.REVERSE_PORTAL,
                         player.getX(), player.getY() + 1.0, player.getZ(),
                         5, 0.2, 0.2, 0.2, 0.05
@@ -610,9 +656,9 @@ public class EndVeilEvent implements CustomWorldEvent {
     }
 
     private void processProjectileDistortion(ServerWorld world) {
-        Random random = world.getRandom();
 
         // Affect projectiles with weird trajectories
+        EventMetrics.recordEntityQuery(world);
         for (ProjectileEntity entity : world.getEntitiesByType(EntityType.ARROW,
                 new Box(-30000000, 0, -30000000, 30000000, world.getHeight(), 30000000),
                 Objects::nonNull)) {
@@ -635,7 +681,7 @@ public class EndVeilEvent implements CustomWorldEvent {
                     );
 
                     // Spawn particles to show distortion
-                    world.spawnParticles(
+                    ParticleBatcher.spawn(world, 
                             ParticleTypes.END_ROD,
                             entity.getX(), entity.getY(), entity.getZ(),
                             1, 0, 0, 0, 0.01
@@ -646,57 +692,54 @@ public class EndVeilEvent implements CustomWorldEvent {
     }
 
     private void tryLevitateRandomBlocks(ServerWorld world) {
-        Random random = world.getRandom();
-
-        // Try to find blocks near players to levitate
+        // Queue a search around each player; WorldEventManager runs them within the tick budget
         for (PlayerEntity player : world.getPlayers()) {
-            // Skip if there are too many levitating blocks already
-            if (levitatingBlocks.size() >= 20) {
-                return;
-            }
+            workQueue.enqueue(player, levitationWork);
+        }
+    }
 
-            BlockPos playerPos = player.getBlockPos();
+    private void tryLevitateBlocksNearPlayer(ServerWorld world, PlayerEntity player) {
 
-            // Try multiple times to find valid blocks
-            for (int attempt = 0; attempt < 5; attempt++) {
-                int xOffset = random.nextInt(16) - 8;
-                int yOffset = random.nextInt(8) - 2;
-                int zOffset = random.nextInt(16) - 8;
+        // Skip if there are too many levitating blocks already
+        if (countActiveLevitations(world.getTime()) >= MAX_LEVITATING_BLOCKS >> loadLevel) {
+            return;
+        }
 
-                BlockPos targetPos = playerPos.add(xOffset, yOffset, zOffset);
+        BlockPos playerPos = player.getBlockPos();
 
-                // Check if block is visible
-                if (!world.isAir(targetPos) && world.isAir(targetPos.up())) {
-                    BlockState blockState = world.getBlockState(targetPos);
+        // Try multiple times to find valid blocks
+        for (int attempt = 0; attempt < 5; attempt++) {
+            int xOffset = random.nextInt(16) - 8;
+            int yOffset = random.nextInt(8) - 2;
+            int zOffset = random.nextInt(16) - 8;
 
-                    // Don't levitate locked containers, spawners, etc.
-                    if (isLevitationAllowed(blockState)) {
-                        // Create levitation effect
-                        float floatHeight = 0.5f + random.nextFloat();
-                        int floatDuration = 20 * (3 + random.nextInt(5));
+            BlockPos targetPos = playerPos.add(xOffset, yOffset, zOffset);
 
-                        BlockLevitation levitation = new BlockLevitation(
-                                targetPos,
-                                blockState,
-                                floatHeight,
-                                floatDuration
-                        );
+            // Check if block is visible
+            if (!world.isAir(targetPos) && world.isAir(targetPos.up())) {
+                BlockState blockState = world.getBlockState(targetPos);
 
-                        levitatingBlocks.add(levitation);
+                // Don't levitate locked containers, spawners, etc.
+                if (isLevitationAllowed(blockState)) {
+                    // Create levitation effect
+                    float floatHeight = 0.5f + random.nextFloat();
+                    int floatDuration = 20 * (3 + random.nextInt(5));
 
-                        // Visual effect
-                        world.spawnParticles(
-                                ParticleTypes.REVERSE_PORTAL,
-                                targetPos.getX() + 0.5, targetPos.getY() + 0.5, targetPos.getZ() + 0.5,
-                                10, 0.4, 0.4, 0.4, 0.05
-                        );
+                    BlockLevitationPacket.send(world, targetPos, blockState, floatHeight, floatDuration);
+                    levitationEndTicks.add(world.getTime() + floatDuration);
 
-                        // Sound effect
-                        world.playSound(null, targetPos, SoundEvents.BLOCK_AMETHYST_BLOCK_CHIME,
-                                SoundCategory.BLOCKS, 0.5f, 0.5f + random.nextFloat() * 0.5f);
+                    // Visual effect
+                    ParticleBatcher.spawn(world, 
+                            ParticleTypes.REVERSE_PORTAL,
+                            targetPos.getX() + 0.5, targetPos.getY() + 0.5, targetPos.getZ() + 0.5,
+                            10, 0.4, 0.4, 0.4, 0.05
+                    );
 
-                        break;
-                    }
+                    // Sound effect
+                    EventBroadcaster.playSound(world, targetPos, SoundEvents.BLOCK_AMETHYST_BLOCK_CHIME,
+                            SoundCategory.BLOCKS, 0.5f, 0.5f + random.nextFloat() * 0.5f);
+
+                    break;
                 }
             }
         }
@@ -719,50 +762,16 @@ public class EndVeilEvent implements CustomWorldEvent {
                 block != Blocks.BARRIER;
     }
 
-    private void updateLevitatingBlocks(ServerWorld world) {
-        List<BlockLevitation> completed = new ArrayList<>();
-
-        for (BlockLevitation levitation : levitatingBlocks) {
-            // Update the levitation
-            levitation.tick();
-
-            // Visual effects
-            if (world.getTime() % 10 == 0) {
-                BlockPos pos = levitation.getPos();
-                world.spawnParticles(
-                        ParticleTypes.END_ROD,
-                        pos.getX() + 0.5, pos.getY() + levitation.getCurrentHeight(), pos.getZ() + 0.5,
-                        1, 0.1, 0.1, 0.1, 0.01
-                );
-            }
-
-            // Check if levitation is complete
-            if (levitation.isComplete()) {
-                // Return the block to its original state
-                BlockPos pos = levitation.getPos();
-                world.setBlockState(pos, levitation.getBlockState());
-
-                // Add to completed list
-                completed.add(levitation);
-
-                // Sound and particles for "landing"
-                world.playSound(null, pos, SoundEvents.BLOCK_STONE_PLACE,
-                        SoundCategory.BLOCKS, 0.3f, 0.8f);
-
-                world.spawnParticles(
-                        ParticleTypes.POOF,
-                        pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
-                        5, 0.4, 0.2, 0.4, 0.05
-                );
+    private int countActiveLevitations(long time) {
+        for (int i = levitationEndTicks.size() - 1; i >= 0; i--) {
+            if (levitationEndTicks.getLong(i) <= time) {
+                levitationEndTicks.removeLong(i);
             }
         }
-
-        // Remove completed levitations
-        levitatingBlocks.removeAll(completed);
+        return levitationEndTicks.size();
     }
 
     private void triggerTerrainFlicker(ServerWorld world) {
-        Random random = world.getRandom();
 
         // Determine if we should start flickering
         if (!isFlickering && random.nextInt(3) == 0) {
@@ -770,13 +779,11 @@ public class EndVeilEvent implements CustomWorldEvent {
             flickerDuration = 20 * (2 + random.nextInt(3)); // 2-4 seconds
 
             // Notify players
-            for (PlayerEntity player : world.getPlayers()) {
-                player.sendMessage(Text.literal("Reality flickers as The End bleeds through..."), true);
-            }
+            EventBroadcaster.broadcast(world, Text.literal("Reality flickers as The End bleeds through..."), true);
 
             // Visual and sound effects
             for (PlayerEntity player : world.getPlayers()) {
-                world.playSound(null, player.getBlockPos(), SoundEvents.BLOCK_END_PORTAL_FRAME_FILL,
+                EventBroadcaster.playSound(world, player.getBlockPos(), SoundEvents.BLOCK_END_PORTAL_FRAME_FILL,
                         SoundCategory.AMBIENT, 0.7f, 0.8f);
             }
         }
@@ -788,15 +795,12 @@ public class EndVeilEvent implements CustomWorldEvent {
                 isFlickering = false;
 
                 // Notify players it stopped
-                for (PlayerEntity player : world.getPlayers()) {
-                    player.sendMessage(Text.literal("The dimensional flicker subsides..."), true);
-                }
+                EventBroadcaster.broadcast(world, Text.literal("The dimensional flicker subsides..."), true);
             }
         }
     }
 
     private void performTemporalShift(ServerWorld world) {
-        Random random = world.getRandom();
 
         // Only affect day/night cycle in the overworld
         if (world.getRegistryKey() == World.OVERWORLD && world.getGameRules().getBoolean(GameRules.DO_DAYLIGHT_CYCLE)) {
@@ -816,54 +820,32 @@ public class EndVeilEvent implements CustomWorldEvent {
             world.setTimeOfDay(currentTime + timeShift);
 
             // Notify players
-            for (PlayerEntity player : world.getPlayers()) {
-                String direction = shiftForward ? "forward" : "backward";
-                player.sendMessage(Text.literal("Time stutters " + direction + " as dimensional energies clash..."), true);
-            }
+            String direction = shiftForward ? "forward" : "backward";
+            EventBroadcaster.broadcast(world, Text.literal("Time stutters " + direction + " as dimensional energies clash..."), true);
 
             // Visual effect
             for (PlayerEntity player : world.getPlayers()) {
                 // Create a flash of particles
-                world.spawnParticles(
+                ParticleBatcher.spawn(world, 
                         ParticleTypes.FLASH,
                         player.getX(), player.getY() + 2, player.getZ(),
                         1, 0, 0, 0, 0
                 );
 
                 // End particles burst
-                world.spawnParticles(
+                ParticleBatcher.spawn(world, 
                         ParticleTypes.END_ROD,
                         player.getX(), player.getY() + 1, player.getZ(),
                         40, 3, 2, 3, 0.05
                 );
 
                 // Sound effect
-                world.playSound(null, player.getBlockPos(), SoundEvents.ENTITY_ILLUSIONER_MIRROR_MOVE,
+                EventBroadcaster.playSound(world, player.getBlockPos(), SoundEvents.ENTITY_ILLUSIONER_MIRROR_MOVE,
                         SoundCategory.AMBIENT, 1.0f, 0.5f);
             }
         }
     }
 
-    private void updateTeleportCooldowns() {
-        // Update cooldowns
-        List<PlayerEntity> toRemove = new ArrayList<>();
-
-        for (Map.Entry<PlayerEntity, Integer> entry : playerTeleportCooldowns.entrySet()) {
-            int newValue = entry.getValue() - 1;
-
-            if (newValue <= 0) {
-                toRemove.add(entry.getKey());
-            } else {
-                playerTeleportCooldowns.put(entry.getKey(), newValue);
-            }
-        }
-
-        // Remove expired cooldowns
-        for (PlayerEntity player : toRemove) {
-            playerTeleportCooldowns.remove(player);
-        }
-    }
-
     @Override
     public boolean isComplete() {
         return ticks >= duration;
@@ -878,54 +860,4 @@ public class EndVeilEvent implements CustomWorldEvent {
     public int getDuration() {
         return 20 * 60 * 5;
     }
-
-    // Class to track and update levitating blocks
-    private static class BlockLevitation {
-        private final BlockPos pos;
-        private final BlockState blockState;
-        private final float maxHeight;
-        private final int duration;
-        private int timer = 0;
-        private float currentHeight = 0;
-
-        public BlockLevitation(BlockPos pos, BlockState blockState, float maxHeight, int duration) {
-            this.pos = pos;
-            this.blockState = blockState;
-            this.maxHeight = maxHeight;
-            this.duration = duration;
-        }
-
-        public void tick() {
-            timer++;
-
-            // Calculate current height using a sine wave pattern
-            float progress = (float) timer / duration;
-
-            // Full sine wave: 0 -> 1 -> 0
-            if (progress <= 0.5f) {
-                // Rising phase
-                currentHeight = maxHeight * MathHelper.sin((float) (progress * Math.PI));
-            } else {
-                // Falling phase
-                currentHeight = maxHeight * MathHelper.sin((float) ((1.0f - progress) * Math.PI));
-            }
-        }
-
-        public boolean isComplete() {
-            return timer >= duration;
-        }
-
-        public BlockPos getPos() {
-            return pos;
-        }
-
-        public BlockState getBlockState() {
-            return blockState;
-        }
-
-        public float getCurrentHeight() {
-            return currentHeight;
-        }
-
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,220 @@
+package end3r.verdant_arcanum.event;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Entity search over the combined area around every player in a world.
+ *
+ * A pass starts with begin(), which captures every player's search box and merges boxes
+ * into larger rectangles wherever the merged rectangle is no bigger than the boxes it
+ * replaces, so a group of nearby players is covered by one rectangle. Each rectangle is
+ * queried once per pass, by the first visitAround() call for a player whose box went into
+ * it; later calls for the same rectangle do nothing. The boxes are also indexed by the chunk
+ * columns they reach. An entity is reported only if its position is inside a box reaching
+ * its column, and only by the lowest numbered rectangle holding such a box. That rectangle
+ * contains the entity, so overlapping rectangles never report it twice and none misses it.
+ * So every entity in the combined area is visited exactly once per pass however many
+ * players are near it, a lone player costs one query rather than one per column, and
+ * players that moved since begin() are still searched where they were at begin().
+ */
+public class EntityRegionQuery {
+    private final double rangeXZ;
+    private final double rangeY;
+
+    // Captured boxes, the rectangle each was merged into, and each player's box
+    private final List<Box> boxes = new ArrayList<>();
+    private final IntArrayList boxRect = new IntArrayList();
+    private final Reference2IntOpenHashMap<PlayerEntity> playerBoxes = new Reference2IntOpenHashMap<>();
+
+    // Merged rectangles, and which of them this pass has queried
+    private final List<Box> rects = new ArrayList<>();
+    private boolean[] visited = new boolean[16];
+    // Per rectangle, one more than the last box offered to it, so each is tried once per box
+    private int[] triedBy = new int[16];
+
+    private final Long2ObjectOpenHashMap<ColumnAreas> columns = new Long2ObjectOpenHashMap<>();
+
+    // Column entries from earlier passes, reused so a pass doesn't allocate per column
+    private final List<ColumnAreas> pool = new ArrayList<>();
+    private int pooled = 0;
+
+    /**
+     * The captured boxes reaching one chunk column
+     */
+    private static class ColumnAreas {
+        private final IntArrayList boxes = new IntArrayList(4);
+    }
+
+    /**
+     * @param rangeXZ horizontal distance searched around each player
+     * @param rangeY vertical distance searched around each player
+     */
+    public EntityRegionQuery(double rangeXZ, double rangeY) {
+        this.rangeXZ = rangeXZ;
+        this.rangeY = rangeY;
+        this.playerBoxes.defaultReturnValue(-1);
+    }
+
+    /**
+     * Start a new pass from where the world's players are now.
+     */
+    public void begin(ServerWorld world) {
+        boxes.clear();
+        boxRect.clear();
+        playerBoxes.clear();
+        rects.clear();
+        columns.clear();
+        for (int i = 0; i < pooled; i++) {
+            pool.get(i).boxes.clear();
+        }
+        pooled = 0;
+
+        for (PlayerEntity player : world.getPlayers()) {
+            int box = boxes.size();
+            Box area = areaAround(player.getBlockPos());
+            boxes.add(area);
+            playerBoxes.put(player, box);
+            boxRect.add(mergeIntoRect(box, area));
+            indexColumns(box, area);
+        }
+
+        if (visited.length < rects.size()) {
+            visited = new boolean[Math.max(rects.size(), visited.length * 2)];
+        }
+        Arrays.fill(visited, 0, rects.size(), false);
+    }
+
+    /**
+     * Visit the entities of the rectangle the player's box was merged into at begin(), unless
+     * an earlier call this pass already did. Players that joined after begin() are skipped.
+     */
+    public <T extends Entity> void visitAround(ServerWorld world, PlayerEntity player, Class<T> type,
+                                               Predicate<? super T> filter, Consumer<? super T> action) {
+        int box = playerBoxes.getInt(player);
+        if (box < 0) {
+            return;
+        }
+        int rect = boxRect.getInt(box);
+        if (visited[rect]) {
+            return;
+        }
+        visited[rect] = true;
+
+        EventMetrics.recordEntityQuery(world);
+        for (T entity : world.getEntitiesByClass(type, rects.get(rect), entity -> isOwnedBy(entity, rect) && filter.test(entity))) {
+            action.accept(entity);
+        }
+    }
+
+    private boolean isOwnedBy(Entity entity, int rect) {
+        // Rectangles may overlap; of the rectangles holding a box around the entity, the
+        // lowest numbered one reports it
+        BlockPos pos = entity.getBlockPos();
+        ColumnAreas column = columns.get(ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (column == null) {
+            return false;
+        }
+        int owner = -1;
+        for (int i = 0; i < column.boxes.size(); i++) {
+            int box = column.boxes.getInt(i);
+            if (boxes.get(box).contains(entity.getX(), entity.getY(), entity.getZ())) {
+                int boxOwner = boxRect.getInt(box);
+                if (owner < 0 || boxOwner < owner) {
+                    owner = boxOwner;
+                }
+            }
+        }
+        return owner == rect;
+    }
+
+    /**
+     * Merge the box into the rectangle of an earlier box sharing a column with it, if the result
+     * covers no more than the two did apart; otherwise start a new rectangle.
+     *
+     * @return the rectangle the box now belongs to
+     */
+    private int mergeIntoRect(int box, Box area) {
+        if (triedBy.length < rects.size() + 1) {
+            triedBy = Arrays.copyOf(triedBy, Math.max(rects.size() + 1, triedBy.length * 2));
+        }
+        for (int chunkX = minChunk(area.minX); chunkX <= maxChunk(area.maxX); chunkX++) {
+            for (int chunkZ = minChunk(area.minZ); chunkZ <= maxChunk(area.maxZ); chunkZ++) {
+                ColumnAreas column = columns.get(ChunkPos.toLong(chunkX, chunkZ));
+                if (column == null) {
+                    continue;
+                }
+                for (int i = 0; i < column.boxes.size(); i++) {
+                    int rect = boxRect.getInt(column.boxes.getInt(i));
+                    if (triedBy[rect] == box + 1) {
+                        continue;
+                    }
+                    triedBy[rect] = box + 1;
+
+                    Box bounds = rects.get(rect);
+                    Box union = bounds.union(area);
+                    if (volume(union) <= volume(bounds) + volume(area)) {
+                        rects.set(rect, union);
+                        return rect;
+                    }
+                }
+            }
+        }
+        rects.add(area);
+        triedBy[rects.size() - 1] = 0;
+        return rects.size() - 1;
+    }
+
+    private void indexColumns(int box, Box area) {
+        for (int chunkX = minChunk(area.minX); chunkX <= maxChunk(area.maxX); chunkX++) {
+            for (int chunkZ = minChunk(area.minZ); chunkZ <= maxChunk(area.maxZ); chunkZ++) {
+                long key = ChunkPos.toLong(chunkX, chunkZ);
+                ColumnAreas column = columns.get(key);
+                if (column == null) {
+                    column = nextColumn();
+                    columns.put(key, column);
+                }
+                column.boxes.add(box);
+            }
+        }
+    }
+
+    private ColumnAreas nextColumn() {
+        if (pooled == pool.size()) {
+            pool.add(new ColumnAreas());
+        }
+        return pool.get(pooled++);
+    }
+
+    private Box areaAround(BlockPos pos) {
+        return new Box(
+                pos.getX() - rangeXZ, pos.getY() - rangeY, pos.getZ() - rangeXZ,
+                pos.getX() + rangeXZ, pos.getY() + rangeY, pos.getZ() + rangeXZ
+        );
+    }
+
+    private static int minChunk(double min) {
+        return (int) Math.floor(min) >> 4;
+    }
+
+    private static int maxChunk(double max) {
+        return (int) Math.floor(max) >> 4;
+    }
+
+    private static double volume(Box box) {
+        return box.getXLength() * box.getYLength() * box.getZLength();
+    }
+}
@@ -0,0 +1,255 @@
+package end3r.verdant_arcanum.event;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import end3r.verdant_arcanum.registry.EventRegistry;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.World;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.TreeSet;
+
+/**
+ * Runs one event for a fixed number of ticks and records what it cost.
+ *
+ * The event is started with a fixed seed for its own generator, which every random choice it
+ * makes is drawn from, so two runs in the same world with the same players make the same
+ * choices; timings differ, the counts should not. Each tick's figures come from EventMetrics.
+ * When the run ends the event is stopped and the run can write two reports: a CSV with one
+ * row per tick, and a JSON summary meant for diffing between builds, which also splits the
+ * time by event method. Driven by the GameTest
+ * harness in the gametest source set. Only one benchmark runs at a time. Server thread only.
+ */
+public final class EventBenchmark {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private static Run run;
+
+    /**
+     * One benchmark, with a column per recorded figure
+     */
+    public static final class Run {
+        private final RegistryKey<World> dimension;
+        private final CustomWorldEvent event;
+        private final long seed;
+        private final int ticks;
+        private int recorded = 0;
+        private boolean finished = false;
+
+        private final long[] tickNanos;
+        private final long[] workNanos;
+        private final long[] blockChanges;
+        private final long[] particles;
+        private final long[] entityQueries;
+        private final long[] packets;
+        private final int[] players;
+        // Per method totals over the recorded ticks
+        private final Object2LongOpenHashMap<String> sectionNanos = new Object2LongOpenHashMap<>();
+        private final Object2LongOpenHashMap<String> sectionCalls = new Object2LongOpenHashMap<>();
+
+        private Run(ServerWorld world, CustomWorldEvent event, long seed, int ticks) {
+            this.dimension = world.getRegistryKey();
+            this.event = event;
+            this.seed = seed;
+            this.ticks = ticks;
+            this.tickNanos = new long[ticks];
+            this.workNanos = new long[ticks];
+            this.blockChanges = new long[ticks];
+            this.particles = new long[ticks];
+            this.entityQueries = new long[ticks];
+            this.packets = new long[ticks];
+            this.players = new int[ticks];
+        }
+
+        /**
+         * True once all ticks are recorded, or the event ended or was replaced first
+         */
+        public boolean isFinished() {
+            return finished;
+        }
+
+        public int getRecordedTicks() {
+            return recorded;
+        }
+
+        /**
+         * True if the event changed a block, emitted particles, queried entities or sent a
+         * packet during the run; an event that returns early from every tick does none of these
+         */
+        public boolean hasRecordedWork() {
+            return sum(blockChanges, recorded) + sum(particles, recorded)
+                    + sum(entityQueries, recorded) + sum(packets, recorded) > 0;
+        }
+
+        /**
+         * Write name.csv and name.json into the directory, creating it if needed.
+         */
+        public void writeReport(Path directory, String name) throws IOException {
+            Files.createDirectories(directory);
+            writeCsv(directory.resolve(name + ".csv"), this);
+            try (Writer writer = Files.newBufferedWriter(directory.resolve(name + ".json"), StandardCharsets.UTF_8)) {
+                GSON.toJson(summarize(this), writer);
+            }
+        }
+    }
+
+    private EventBenchmark() {
+    }
+
+    public static boolean isRunning() {
+        return run != null;
+    }
+
+    /**
+     * Start the event through WorldEventManager with the given seed and record it.
+     *
+     * @return the run, or null if the event id is not registered or a benchmark is already running
+     */
+    public static Run start(ServerWorld world, Identifier eventId, int ticks, long seed) {
+        if (run != null) {
+            return null;
+        }
+        CustomWorldEvent event = EventRegistry.create(eventId);
+        if (event == null) {
+            return null;
+        }
+        EventMetrics.reset();
+        run = new Run(world, event, seed, ticks);
+        WorldEventManager.getInstance().startEvent(world, event, seed);
+        return run;
+    }
+
+    /**
+     * Stop the benchmark and its event early, keeping what was recorded so far.
+     */
+    public static void cancel(ServerWorld world) {
+        if (run != null) {
+            finish(world.getServer().getWorld(run.dimension));
+        }
+    }
+
+    static void onTick(ServerWorld world, EventMetrics.Counters counters) {
+        Run current = run;
+        if (current == null || world.getRegistryKey() != current.dimension) {
+            return;
+        }
+        if (current.recorded < current.ticks) {
+            int i = current.recorded++;
+            current.tickNanos[i] = counters.getTickNanos();
+            current.workNanos[i] = counters.getWorkNanos();
+            current.blockChanges[i] = counters.getBlockChanges();
+            current.particles[i] = counters.getParticles();
+            current.entityQueries[i] = counters.getEntityQueries();
+            current.packets[i] = counters.getPackets();
+            current.players[i] = world.getPlayers().size();
+            for (String method : counters.getSections()) {
+                current.sectionNanos.addTo(method, counters.getSectionNanos(method));
+                current.sectionCalls.addTo(method, counters.getSectionCalls(method));
+            }
+        }
+
+        // Done, or the event ended or was replaced by something else
+        if (current.recorded >= current.ticks || WorldEventManager.getInstance().getCurrentEvent(world) != current.event) {
+            finish(world);
+        }
+    }
+
+    private static void finish(ServerWorld world) {
+        Run finished = run;
+        run = null;
+        finished.finished = true;
+        if (world != null && WorldEventManager.getInstance().getCurrentEvent(world) == finished.event) {
+            WorldEventManager.getInstance().stopEvent(world, finished.event.getId());
+        }
+    }
+
+    private static JsonObject summarize(Run finished) {
+        int n = finished.recorded;
+        long[] totalNanos = new long[n];
+        for (int i = 0; i < n; i++) {
+            totalNanos[i] = finished.tickNanos[i] + finished.workNanos[i];
+        }
+        long[] sorted = Arrays.copyOf(totalNanos, n);
+        Arrays.sort(sorted);
+
+        JsonObject summary = new JsonObject();
+        summary.addProperty("event", finished.event.getId().toString());
+        summary.addProperty("dimension", finished.dimension.getValue().toString());
+        summary.addProperty("seed", finished.seed);
+        summary.addProperty("ticks", n);
+        summary.addProperty("maxPlayers", maxOf(finished.players, n));
+
+        JsonObject nanos = new JsonObject();
+        nanos.addProperty("mean", n > 0 ? sum(totalNanos, n) / n : 0);
+        nanos.addProperty("p50", percentile(sorted, 0.50));
+        nanos.addProperty("p95", percentile(sorted, 0.95));
+        nanos.addProperty("p99", percentile(sorted, 0.99));
+        nanos.addProperty("max", n > 0 ? sorted[n - 1] : 0);
+        nanos.addProperty("tickTotal", sum(finished.tickNanos, n));
+        nanos.addProperty("workTotal", sum(finished.workNanos, n));
+        summary.add("nanosPerTick", nanos);
+
+        JsonObject totals = new JsonObject();
+        totals.addProperty("blockChanges", sum(finished.blockChanges, n));
+        totals.addProperty("particleEmitters", sum(finished.particles, n));
+        totals.addProperty("entityQueries", sum(finished.entityQueries, n));
+        totals.addProperty("packets", sum(finished.packets, n));
+        summary.add("totals", totals);
+
+        // Sorted by name so two reports line up
+        JsonObject methods = new JsonObject();
+        for (String method : new TreeSet<>(finished.sectionNanos.keySet())) {
+            JsonObject cost = new JsonObject();
+            long methodNanos = finished.sectionNanos.getLong(method);
+            cost.addProperty("calls", finished.sectionCalls.getLong(method));
+            cost.addProperty("nanosTotal", methodNanos);
+            cost.addProperty("nanosPerTick", n > 0 ? methodNanos / n : 0);
+            methods.add(method, cost);
+        }
+        summary.add("methods", methods);
+        return summary;
+    }
+
+    private static void writeCsv(Path file, Run finished) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("tick,players,tick_nanos,work_nanos,block_changes,particle_emitters,entity_queries,packets\n");
+            for (int i = 0; i < finished.recorded; i++) {
+                writer.write(i + "," + finished.players[i] + "," + finished.tickNanos[i] + "," + finished.workNanos[i]
+                        + "," + finished.blockChanges[i] + "," + finished.particles[i] + ","
+                        + finished.entityQueries[i] + "," + finished.packets[i] + "\n");
+            }
+        }
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1)];
+    }
+
+    private static long sum(long[] values, int n) {
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    private static int maxOf(int[] values, int n) {
+        int max = 0;
+        for (int i = 0; i < n; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,219 @@
+package end3r.verdant_arcanum.event;
+
+import net.minecraft.entity.boss.ServerBossBar;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvent;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Coalesces the messages and sounds world events send to players.
+ *
+ * Events queue them here instead of calling sendMessage or playSound, and flush() delivers
+ * them once at the end of the world's tick:
+ * - a chat message already queued for a player this tick is not sent again
+ * - only the last action bar message of the tick is sent, since each one replaces the last
+ * - plays of the same sound at the same block in one tick become one play at the loudest volume
+ *
+ * Boss bar progress goes through setBossBarProgress, which rounds it to the bar's pixel width,
+ * so the bar is only re-sent when it visibly moves. Nothing holds on to players past the
+ * flush.
+ */
+public class EventBroadcaster {
+    // Width of the boss bar in pixels; finer progress steps can't be seen
+    private static final int BOSS_BAR_STEPS = 182;
+
+    private static final Map<RegistryKey<World>, Pending> PENDING = new HashMap<>();
+
+    /**
+     * Everything queued in one world since the last flush
+     */
+    private static class Pending {
+        private final Map<ServerPlayerEntity, PlayerMessages> messages = new LinkedHashMap<>();
+        private final Map<SoundKey, QueuedSound> sounds = new LinkedHashMap<>();
+    }
+
+    private static class PlayerMessages {
+        private final List<Text> chat = new ArrayList<>();
+        private Text actionBar;
+    }
+
+    /**
+     * Identifies plays that are merged: same sound and category at the same block, heard by
+     * everyone nearby (listener null) or by one player only
+     */
+    private static class SoundKey {
+        private final SoundEvent sound;
+        private final SoundCategory category;
+        private final long pos;
+        private final ServerPlayerEntity listener;
+
+        private SoundKey(SoundEvent sound, SoundCategory category, long pos, ServerPlayerEntity listener) {
+            this.sound = sound;
+            this.category = category;
+            this.pos = pos;
+            this.listener = listener;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof SoundKey other)) {
+                return false;
+            }
+            return pos == other.pos && sound == other.sound && category == other.category && listener == other.listener;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sound, category, pos, listener);
+        }
+    }
+
+    private static class QueuedSound {
+        private final double x;
+        private final double y;
+        private final double z;
+        private float volume;
+        private final float pitch;
+
+        private QueuedSound(double x, double y, double z, float volume, float pitch) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.volume = volume;
+            this.pitch = pitch;
+        }
+    }
+
+    /**
+     * Queue a message for a player.
+     *
+     * @param actionBar show it above the hotbar instead of in chat
+     */
+    public static void sendMessage(PlayerEntity player, Text text, boolean actionBar) {
+        if (!(player instanceof ServerPlayerEntity serverPlayer)) {
+            return;
+        }
+        PlayerMessages queued = pending(serverPlayer.getWorld()).messages
+                .computeIfAbsent(serverPlayer, key -> new PlayerMessages());
+        if (actionBar) {
+            queued.actionBar = text;
+        } else if (!queued.chat.contains(text)) {
+            queued.chat.add(text);
+        }
+    }
+
+    /**
+     * Queue a message for every player in a world.
+     */
+    public static void broadcast(ServerWorld world, Text text, boolean actionBar) {
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            sendMessage(player, text, actionBar);
+        }
+    }
+
+    /**
+     * Queue a sound that everyone near the position hears. Takes the same arguments as
+     * World.playSound with a null player.
+     */
+    public static void playSound(ServerWorld world, double x, double y, double z, SoundEvent sound,
+                                 SoundCategory category, float volume, float pitch) {
+        queueSound(world, new SoundKey(sound, category, BlockPos.asLong(MathHelper.floor(x), MathHelper.floor(y), MathHelper.floor(z)), null),
+                x, y, z, volume, pitch);
+    }
+
+    /**
+     * Queue a sound at the centre of a block that everyone nearby hears.
+     */
+    public static void playSound(ServerWorld world, BlockPos pos, SoundEvent sound, SoundCategory category,
+                                 float volume, float pitch) {
+        playSound(world, pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5, sound, category, volume, pitch);
+    }
+
+    /**
+     * Queue a sound only the given player hears, at their position.
+     */
+    public static void playSoundTo(PlayerEntity player, SoundEvent sound, SoundCategory category, float volume, float pitch) {
+        if (!(player instanceof ServerPlayerEntity serverPlayer)) {
+            return;
+        }
+        queueSound(serverPlayer.getWorld(), new SoundKey(sound, category, player.getBlockPos().asLong(), serverPlayer),
+                player.getX(), player.getY(), player.getZ(), volume, pitch);
+    }
+
+    /**
+     * Set a boss bar's progress, rounded so it is only re-sent when the change is visible.
+     */
+    public static void setBossBarProgress(ServerWorld world, ServerBossBar bar, float progress) {
+        float rounded = Math.round(MathHelper.clamp(progress, 0.0f, 1.0f) * BOSS_BAR_STEPS) / (float) BOSS_BAR_STEPS;
+        if (rounded != bar.getPercent()) {
+            bar.setPercent(rounded);
+            EventMetrics.recordPackets(world, bar.getPlayers().size());
+        }
+    }
+
+    /**
+     * Deliver everything queued for this world. Called at the end of each world tick.
+     */
+    public static void flush(ServerWorld world) {
+        Pending pending = PENDING.get(world.getRegistryKey());
+        if (pending == null || (pending.messages.isEmpty() && pending.sounds.isEmpty())) {
+            return;
+        }
+
+        for (Map.Entry<ServerPlayerEntity, PlayerMessages> entry : pending.messages.entrySet()) {
+            ServerPlayerEntity player = entry.getKey();
+            if (player.isDisconnected()) {
+                continue;
+            }
+            PlayerMessages queued = entry.getValue();
+            for (Text text : queued.chat) {
+                player.sendMessage(text, false);
+            }
+            if (queued.actionBar != null) {
+                player.sendMessage(queued.actionBar, true);
+            }
+            EventMetrics.recordPackets(world, queued.chat.size() + (queued.actionBar != null ? 1 : 0));
+        }
+
+        for (Map.Entry<SoundKey, QueuedSound> entry : pending.sounds.entrySet()) {
+            SoundKey key = entry.getKey();
+            QueuedSound sound = entry.getValue();
+            if (key.listener == null) {
+                world.playSound(null, sound.x, sound.y, sound.z, key.sound, key.category, sound.volume, sound.pitch);
+            } else if (!key.listener.isDisconnected()) {
+                key.listener.playSound(key.sound, key.category, sound.volume, sound.pitch);
+                EventMetrics.recordPackets(world, 1);
+            }
+        }
+
+        pending.messages.clear();
+        pending.sounds.clear();
+    }
+
+    private static void queueSound(ServerWorld world, SoundKey key, double x, double y, double z, float volume, float pitch) {
+        QueuedSound queued = pending(world).sounds.get(key);
+        if (queued == null) {
+            pending(world).sounds.put(key, new QueuedSound(x, y, z, volume, pitch));
+        } else {
+            queued.volume = Math.max(queued.volume, volume);
+        }
+    }
+
+    private static Pending pending(ServerWorld world) {
+        return PENDING.computeIfAbsent(world.getRegistryKey(), key -> new Pending());
+    }
+}
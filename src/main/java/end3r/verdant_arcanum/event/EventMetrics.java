@@ -0,0 +1,224 @@
+package end3r.verdant_arcanum.event;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.World;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Counters for world events.
+ *
+ * Helpers and events record what they do against the world they run in: block changes
+ * submitted, particle emitters submitted, entity queries and packets sent. Events also time
+ * their own methods with startSection/endSection, and queued per-player work is timed under
+ * the method it runs, so a tick's cost can be split by method. Each dimension collects one
+ * tick's worth, and endTick() adds it to the totals of the event running there, then hands
+ * the tick to EventBenchmark if a benchmark is recording that dimension. Recording only bumps
+ * counters on the server thread, so it can stay on permanently. The totals are read by
+ * /verdant stats events.
+ */
+public final class EventMetrics {
+    private static final Map<RegistryKey<World>, Counters> CURRENT_TICK = new HashMap<>();
+    private static final Map<Identifier, Counters> TOTALS = new LinkedHashMap<>();
+
+    /**
+     * Counts for one tick of one dimension, or the running totals of one event
+     */
+    public static final class Counters {
+        private long ticks;
+        private long tickNanos;
+        private long maxTickNanos;
+        private long workNanos;
+        private long blockChanges;
+        private long particles;
+        private long entityQueries;
+        private long packets;
+        // Time and calls per instrumented event method, keyed by method name
+        private final Object2LongOpenHashMap<String> sectionNanos = new Object2LongOpenHashMap<>();
+        private final Object2LongOpenHashMap<String> sectionCalls = new Object2LongOpenHashMap<>();
+        // Event that ticked during this tick; only used for a dimension's current tick
+        private Identifier eventId;
+
+        public long getTicks() {
+            return ticks;
+        }
+
+        /**
+         * Time spent in the event's tick method
+         */
+        public long getTickNanos() {
+            return tickNanos;
+        }
+
+        public long getMaxTickNanos() {
+            return maxTickNanos;
+        }
+
+        /**
+         * Time spent on queued per-player work after the tick method
+         */
+        public long getWorkNanos() {
+            return workNanos;
+        }
+
+        public long getBlockChanges() {
+            return blockChanges;
+        }
+
+        public long getParticles() {
+            return particles;
+        }
+
+        public long getEntityQueries() {
+            return entityQueries;
+        }
+
+        public long getPackets() {
+            return packets;
+        }
+
+        /**
+         * Names of the event methods timed so far
+         */
+        public Set<String> getSections() {
+            return Collections.unmodifiableSet(sectionNanos.keySet());
+        }
+
+        public long getSectionNanos(String method) {
+            return sectionNanos.getLong(method);
+        }
+
+        public long getSectionCalls(String method) {
+            return sectionCalls.getLong(method);
+        }
+
+        private void add(Counters tick) {
+            ticks += tick.ticks;
+            tickNanos += tick.tickNanos;
+            maxTickNanos = Math.max(maxTickNanos, tick.tickNanos + tick.workNanos);
+            workNanos += tick.workNanos;
+            blockChanges += tick.blockChanges;
+            particles += tick.particles;
+            entityQueries += tick.entityQueries;
+            packets += tick.packets;
+            for (Object2LongMap.Entry<String> entry : Object2LongMaps.fastIterable(tick.sectionNanos)) {
+                sectionNanos.addTo(entry.getKey(), entry.getLongValue());
+            }
+            for (Object2LongMap.Entry<String> entry : Object2LongMaps.fastIterable(tick.sectionCalls)) {
+                sectionCalls.addTo(entry.getKey(), entry.getLongValue());
+            }
+        }
+
+        private void clear() {
+            ticks = 0;
+            tickNanos = 0;
+            maxTickNanos = 0;
+            workNanos = 0;
+            blockChanges = 0;
+            particles = 0;
+            entityQueries = 0;
+            packets = 0;
+            sectionNanos.clear();
+            sectionCalls.clear();
+            eventId = null;
+        }
+    }
+
+    private EventMetrics() {
+    }
+
+    /**
+     * Record the time an event spent in one tick.
+     *
+     * @param tickNanos elapsed time in the event's tick method, measured with System.nanoTime
+     * @param workNanos elapsed time running its work queue
+     */
+    public static void recordTick(ServerWorld world, Identifier eventId, long tickNanos, long workNanos) {
+        Counters counters = current(world);
+        counters.eventId = eventId;
+        counters.ticks++;
+        counters.tickNanos += tickNanos;
+        counters.workNanos += workNanos;
+    }
+
+    /**
+     * Start timing one method of an event; pass the result to endSection when it returns.
+     */
+    public static long startSection() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Credit the time since startNanos to the named method of the event running in the world.
+     * Sections should not nest, or the outer one counts the inner one's time as well.
+     *
+     * @param method name the method is reported under, normally the method's own name
+     */
+    public static void endSection(ServerWorld world, String method, long startNanos) {
+        Counters counters = current(world);
+        counters.sectionNanos.addTo(method, System.nanoTime() - startNanos);
+        counters.sectionCalls.addTo(method, 1);
+    }
+
+    public static void recordBlockChange(ServerWorld world) {
+        current(world).blockChanges++;
+    }
+
+    public static void recordParticles(ServerWorld world) {
+        current(world).particles++;
+    }
+
+    public static void recordEntityQuery(ServerWorld world) {
+        current(world).entityQueries++;
+    }
+
+    public static void recordPackets(ServerWorld world, int count) {
+        current(world).packets += count;
+    }
+
+    /**
+     * Close the world's tick: credit it to the running event and the benchmark, if any.
+     * Called at the end of each world tick, after the batched changes and particles are sent.
+     */
+    public static void endTick(ServerWorld world) {
+        Counters counters = CURRENT_TICK.get(world.getRegistryKey());
+        if (counters == null) {
+            return;
+        }
+        // An event that finished this tick is already gone from the manager
+        Identifier eventId = counters.eventId;
+        if (eventId == null) {
+            CustomWorldEvent event = WorldEventManager.getInstance().getCurrentEvent(world);
+            eventId = event != null ? event.getId() : null;
+        }
+        if (eventId != null) {
+            TOTALS.computeIfAbsent(eventId, id -> new Counters()).add(counters);
+        }
+        EventBenchmark.onTick(world, counters);
+        counters.clear();
+    }
+
+    /**
+     * Totals per event since the server started or the last reset
+     */
+    public static Map<Identifier, Counters> getTotals() {
+        return Collections.unmodifiableMap(TOTALS);
+    }
+
+    public static void reset() {
+        TOTALS.clear();
+    }
+
+    private static Counters current(ServerWorld world) {
+        return CURRENT_TICK.computeIfAbsent(world.getRegistryKey(), key -> new Counters());
+    }
+}
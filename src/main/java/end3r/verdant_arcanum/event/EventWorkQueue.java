@@ -0,0 +1,141 @@
+package end3r.verdant_arcanum.event;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.Arrays;
+
+/**
+ * Deferral queue for an event's per-player work.
+ *
+ * Events enqueue a unit of work per player instead of looping over every player at once.
+ * WorldEventManager drains the queue after the event's tick until the event's time budget
+ * is used up; whatever is left waits for the next tick. Units are stored in a ring buffer
+ * of (player, work) pairs, so queueing a method reference held in a field allocates nothing.
+ * Which players each kind of work is waiting for is also kept in an identity set, so
+ * checking for a unit that is already queued doesn't scan the buffer. Units made with
+ * timed() have their run time credited to a method name in EventMetrics.
+ */
+public class EventWorkQueue {
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Work done for a single player
+     */
+    public interface PlayerWork {
+        void run(ServerWorld world, PlayerEntity player);
+    }
+
+    /**
+     * Work whose run time is reported under a method name
+     */
+    private static final class TimedWork implements PlayerWork {
+        private final String method;
+        private final PlayerWork unit;
+
+        private TimedWork(String method, PlayerWork unit) {
+            this.method = method;
+            this.unit = unit;
+        }
+
+        @Override
+        public void run(ServerWorld world, PlayerEntity player) {
+            long start = EventMetrics.startSection();
+            unit.run(world, player);
+            EventMetrics.endSection(world, method, start);
+        }
+    }
+
+    /**
+     * Wrap work so each run is timed in EventMetrics under the given method name. Hold the
+     * result in a field; queued units are told apart by identity.
+     */
+    public static PlayerWork timed(String method, PlayerWork unit) {
+        return new TimedWork(method, unit);
+    }
+
+    private PlayerEntity[] players = new PlayerEntity[INITIAL_CAPACITY];
+    private PlayerWork[] work = new PlayerWork[INITIAL_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+
+    // Players with a unit in the buffer, per work; events only use one or two kinds of work
+    private final Reference2ObjectMap<PlayerWork, ReferenceOpenHashSet<PlayerEntity>> queued = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * Queue work for a player. If the same work for that player is still waiting from an
+     * earlier tick it is not queued again, so a slow server can't build an endless backlog.
+     */
+    public void enqueue(PlayerEntity player, PlayerWork unit) {
+        if (!queued.computeIfAbsent(unit, key -> new ReferenceOpenHashSet<>()).add(player)) {
+            return;
+        }
+
+        if (size == players.length) {
+            grow();
+        }
+        int tail = (head + size) % players.length;
+        players[tail] = player;
+        work[tail] = unit;
+        size++;
+    }
+
+    /**
+     * Run queued work until the deadline passes. At least one unit always runs so the queue
+     * keeps moving even when the tick is already over budget.
+     *
+     * @param deadlineNanos System.nanoTime() value to stop at
+     */
+    public void run(ServerWorld world, long deadlineNanos) {
+        boolean ranAny = false;
+        while (size > 0) {
+            if (ranAny && System.nanoTime() >= deadlineNanos) {
+                return;
+            }
+
+            PlayerEntity player = players[head];
+            PlayerWork unit = work[head];
+            players[head] = null;
+            work[head] = null;
+            head = (head + 1) % players.length;
+            size--;
+            queued.get(unit).remove(player);
+
+            // The player may have left or changed dimension while the unit waited
+            if (player.isRemoved() || player.world != world) {
+                continue;
+            }
+            unit.run(world, player);
+            ranAny = true;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(players, null);
+        Arrays.fill(work, null);
+        queued.clear();
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        int newCapacity = players.length * 2;
+        PlayerEntity[] newPlayers = new PlayerEntity[newCapacity];
+        PlayerWork[] newWork = new PlayerWork[newCapacity];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % players.length;
+            newPlayers[i] = players[index];
+            newWork[i] = work[index];
+        }
+        players = newPlayers;
+        work = newWork;
+        head = 0;
+    }
+}
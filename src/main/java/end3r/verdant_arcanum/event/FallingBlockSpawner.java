@@ -0,0 +1,146 @@
+package end3r.verdant_arcanum.event;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.FallingBlockEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns blocks into falling block entities for an event, without letting it flood the world
+ * with them.
+ *
+ * A spawn has to pass four checks:
+ * - a cap on how many of this spawner's entities are alive at once
+ * - a cap per chunk
+ * - a token bucket that refills a few tokens per tick and allows short bursts
+ * - a landing prediction that follows the entity's gravity and drag; if the block would
+ *   land within a block of where it started, no entity is spawned and the block stays put
+ */
+public class FallingBlockSpawner {
+    private static final int MAX_ACTIVE = 48;
+    private static final int MAX_PER_CHUNK = 6;
+    private static final float TOKENS_PER_TICK = 0.5f;
+    private static final float BUCKET_SIZE = 8.0f;
+
+    // FallingBlockEntity motion per tick
+    private static final double GRAVITY = 0.04;
+    private static final double DRAG = 0.98;
+    private static final int MAX_PREDICTED_TICKS = 60;
+    private static final double MIN_TRAVEL_SQUARED = 1.0;
+
+    private final List<FallingBlockEntity> active = new ArrayList<>();
+    private final Long2IntOpenHashMap perChunk = new Long2IntOpenHashMap();
+    private float tokens = BUCKET_SIZE;
+    private long lastRefillTime = Long.MIN_VALUE;
+
+    /**
+     * Whether a spawn could pass the global cap and the rate limit right now. Lets callers stop
+     * scanning for blocks early.
+     */
+    public boolean hasCapacity(ServerWorld world) {
+        refill(world);
+        return tokens >= 1.0f && active.size() < MAX_ACTIVE;
+    }
+
+    /**
+     * Turn the block at a position into a falling block moving with the given velocity.
+     *
+     * @return the entity, or null if a cap, the rate limit or the landing prediction ruled it out
+     */
+    public FallingBlockEntity trySpawn(ServerWorld world, BlockPos pos, BlockState state, Vec3d velocity) {
+        if (!hasCapacity(world)) {
+            return null;
+        }
+        long chunkKey = ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4);
+        if (perChunk.get(chunkKey) >= MAX_PER_CHUNK) {
+            return null;
+        }
+        if (!travelsFarEnough(world, pos, velocity)) {
+            return null;
+        }
+
+        FallingBlockEntity fallingBlock = FallingBlockEntity.spawnFromBlock(world, pos, state);
+        if (fallingBlock == null) {
+            return null;
+        }
+        fallingBlock.setVelocity(velocity);
+        tokens -= 1.0f;
+        active.add(fallingBlock);
+        perChunk.addTo(chunkKey, 1);
+        return fallingBlock;
+    }
+
+    public void clear() {
+        active.clear();
+        perChunk.clear();
+        tokens = BUCKET_SIZE;
+        lastRefillTime = Long.MIN_VALUE;
+    }
+
+    private void refill(ServerWorld world) {
+        long time = world.getTime();
+        if (time == lastRefillTime) {
+            return;
+        }
+        if (lastRefillTime != Long.MIN_VALUE) {
+            tokens = Math.min(BUCKET_SIZE, tokens + (time - lastRefillTime) * TOKENS_PER_TICK);
+        }
+        lastRefillTime = time;
+
+        // Forget entities that have landed or been unloaded; counts are by the chunk they started in
+        active.removeIf(FallingBlockEntity::isRemoved);
+        perChunk.clear();
+        for (FallingBlockEntity entity : active) {
+            BlockPos origin = entity.getFallingBlockPos();
+            perChunk.addTo(ChunkPos.toLong(origin.getX() >> 4, origin.getZ() >> 4), 1);
+        }
+    }
+
+    /**
+     * Follow the entity's path until it would hit something, and check it ends up at least a
+     * block away horizontally.
+     */
+    private static boolean travelsFarEnough(ServerWorld world, BlockPos origin, Vec3d velocity) {
+        double x = origin.getX() + 0.5;
+        double y = origin.getY();
+        double z = origin.getZ() + 0.5;
+        double vx = velocity.x;
+        double vy = velocity.y;
+        double vz = velocity.z;
+        BlockPos.Mutable check = new BlockPos.Mutable();
+
+        for (int tick = 0; tick < MAX_PREDICTED_TICKS; tick++) {
+            vy -= GRAVITY;
+            double nextX = x + vx;
+            double nextY = y + vy;
+            double nextZ = z + vz;
+
+            check.set(nextX, nextY, nextZ);
+            if (!world.isChunkLoaded(check)) {
+                break;
+            }
+            BlockState state = world.getBlockState(check);
+            // The origin itself will be air once the entity is spawned
+            if (!check.equals(origin) && !state.getCollisionShape(world, check).isEmpty()) {
+                break;
+            }
+
+            x = nextX;
+            y = nextY;
+            z = nextZ;
+            vx *= DRAG;
+            vy *= DRAG;
+            vz *= DRAG;
+        }
+
+        double dx = x - (origin.getX() + 0.5);
+        double dz = z - (origin.getZ() + 0.5);
+        return dx * dx + dz * dz >= MIN_TRAVEL_SQUARED;
+    }
+}
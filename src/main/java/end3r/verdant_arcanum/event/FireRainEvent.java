@@ -1,9 +1,8 @@
 package end3r.verdant_arcanum.event;
 
 import end3r.verdant_arcanum.registry.ModItems;
+import end3r.verdant_arcanum.network.ParticleBatcher;
 import net.minecraft.entity.damage.DamageSource;
-import net.minecraft.entity.effect.StatusEffectInstance;
-import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.particle.DustParticleEffect;
@@ -17,7 +16,9 @@ import net.minecraft.util.Formatting;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3f;
+import net.minecraft.util.math.random.Random;
 import net.minecraft.world.World;
 import net.minecraft.world.GameRules;
 
@@ -27,6 +28,8 @@ public class FireRainEvent implements CustomWorldEvent {
     public static final Identifier ID = new Identifier("verdant_arcanum", "fire_rain");
     private static final int DEFAULT_DURATION = 20 * 60 * 2; // 2 minutes (in ticks)
     private static final int CHECK_INTERVAL = 10; // Check for player damage every 10 ticks (0.5 seconds)
+    private static final int EXPOSURE_CHECK_HEIGHT = 10; // Blocks above a position that must be air for the rain to reach it
+    private static final int GROUND_SEARCH_RANGE = 5; // Blocks above and below the player searched for ground
     private static final float DAMAGE_AMOUNT = 1.0f; // 0.5 hearts of damage
     private static final DamageSource DAMAGE_SOURCE = new DamageSource("fire_rain").setFire();
 
@@ -39,16 +42,24 @@ public class FireRainEvent implements CustomWorldEvent {
     // Flame seed configuration
     private static final float FLAME_SEED_SPAWN_CHANCE = 0.001f; // 0.1 chance per tick cycle
     private static final int FLAME_SEED_LIFETIME = 600; // 30 seconds lifetime for flame seeds on ground
-    private static final int FLAME_SEED_CHECK_INTERVAL = 5; // Check for player collision every 5 ticks
 
-    // Track active flame seed particles on the ground
-    private Map<BlockPos, Integer> flameSeedPositions = new HashMap<>();
+    // Active flame seeds on the ground
+    private final CollectibleField flameSeeds = new CollectibleField();
+    private final CollectibleField.Behavior flameSeed = new FlameSeed();
 
 
     private int ticksRemaining = DEFAULT_DURATION;
     private int intensityLevel = 2; // 1=mild, 2=moderate, 3=severe
+    private int baseIntensityLevel = 2; // Intensity as configured, before load scaling
+    private int loadLevel = 0;
     private int tickCounter = 0;
-    private Random random = new Random();
+    // Every random choice of a run; seeded by WorldEventManager before start()
+    private final Random random = Random.create();
+
+    // Per-player fire placement, run within the tick budget
+    private final EventWorkQueue workQueue = new EventWorkQueue();
+    private final EventWorkQueue.PlayerWork randomFireWork =
+            EventWorkQueue.timed("createRandomFiresNearPlayer", this::createRandomFiresNearPlayer);
 
     // Store previous weather state to restore after event
     private boolean wasRaining = false;
@@ -67,7 +78,37 @@ public class FireRainEvent implements CustomWorldEvent {
      * @param intensity 1=mild, 2=moderate, 3=severe
      */
     public void setIntensity(int intensity) {
-        this.intensityLevel = Math.max(1, Math.min(3, intensity)); // Clamp between 1-3
+        this.baseIntensityLevel = Math.max(1, Math.min(3, intensity)); // Clamp between 1-3
+        this.intensityLevel = Math.max(1, baseIntensityLevel - loadLevel);
+    }
+
+    @Override
+    public void setLoadLevel(int level) {
+        loadLevel = level;
+        intensityLevel = Math.max(1, baseIntensityLevel - loadLevel);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    @Override
+    public EventWorkQueue getWorkQueue() {
+        return workQueue;
+    }
+
+    @Override
+    public void reset() {
+        ticksRemaining = DEFAULT_DURATION;
+        intensityLevel = 2;
+        baseIntensityLevel = 2;
+        loadLevel = 0;
+        workQueue.clear();
+        tickCounter = 0;
+        wasRaining = false;
+        wasThundering = false;
+        flameSeeds.clear();
     }
 
     @Override
@@ -104,21 +145,19 @@ public class FireRainEvent implements CustomWorldEvent {
         }
 
         // Notify all players in the Nether
-        world.getPlayers().forEach(player ->
-                player.sendMessage(Text.literal("🔥 A " + intensityDesc + " rain of fire begins to fall from above!")
-                        .formatted(Formatting.RED, Formatting.BOLD), true)
-        );
+        EventBroadcaster.broadcast(world, Text.literal("🔥 A " + intensityDesc + " rain of fire begins to fall from above!")
+                .formatted(Formatting.RED, Formatting.BOLD), true);
 
         // Play a dramatic sound for all players
         world.getPlayers().forEach(player ->
-                player.playSound(SoundEvents.ENTITY_BLAZE_AMBIENT, SoundCategory.AMBIENT, 1.0f, 0.5f)
+                EventBroadcaster.playSoundTo(player, SoundEvents.ENTITY_BLAZE_AMBIENT, SoundCategory.AMBIENT, 1.0f, 0.5f)
         );
 
         // Initial dramatic thunder and fire sounds
         if (intensityLevel > 1) {
             world.getPlayers().forEach(player -> {
-                player.playSound(SoundEvents.ENTITY_LIGHTNING_BOLT_THUNDER, SoundCategory.WEATHER, 1.0f, 0.8f);
-                player.playSound(SoundEvents.BLOCK_FIRE_AMBIENT, SoundCategory.AMBIENT, 1.0f, 0.7f);
+                EventBroadcaster.playSoundTo(player, SoundEvents.ENTITY_LIGHTNING_BOLT_THUNDER, SoundCategory.WEATHER, 1.0f, 0.8f);
+                EventBroadcaster.playSoundTo(player, SoundEvents.BLOCK_FIRE_AMBIENT, SoundCategory.AMBIENT, 1.0f, 0.7f);
             });
         }
 
@@ -138,6 +177,8 @@ public class FireRainEvent implements CustomWorldEvent {
 
     @Override
     public void tick(ServerWorld world) {
+        long section;
+
         // Ensure we're only in the Nether
         if (world.getRegistryKey() != World.NETHER) {
             return;
@@ -154,36 +195,42 @@ public class FireRainEvent implements CustomWorldEvent {
 
         // Spawn fire rain particles regularly
         if (tickCounter % PARTICLE_SPAWN_INTERVAL == 0) {
+            section = EventMetrics.startSection();
             spawnFireRainParticles(world, false);
+            EventMetrics.endSection(world, "spawnFireRainParticles", section);
         }
 
         // Chance to spawn flame seed particles
         if (random.nextFloat() < FLAME_SEED_SPAWN_CHANCE * intensityLevel) {
+            section = EventMetrics.startSection();
             spawnFlameSeedParticle(world);
+            EventMetrics.endSection(world, "spawnFlameSeedParticle", section);
         }
 
         // For maximum intensity, occasionally create fires on exposed blocks
         if (intensityLevel == 3 && random.nextFloat() < 0.05f) {
+            section = EventMetrics.startSection();
             createRandomFires(world);
+            EventMetrics.endSection(world, "createRandomFires", section);
         }
 
         // Check for player damage
         if (tickCounter % CHECK_INTERVAL == 0) {
+            section = EventMetrics.startSection();
             checkPlayerExposure(world);
+            EventMetrics.endSection(world, "checkPlayerExposure", section);
         }
 
-        // Check for players walking on flame seeds
-        if (tickCounter % FLAME_SEED_CHECK_INTERVAL == 0) {
-            checkFlameSeedCollisions(world);
-        }
-
-        // Update flame seed lifetimes and remove expired ones
-        updateFlameSeedLifetimes(world);
+        // Refresh flame seeds, hand out the ones players walk on and expire old ones
+        section = EventMetrics.startSection();
+        flameSeeds.tick(world);
+        EventMetrics.endSection(world, "tickFlameSeeds", section);
 
         // Play ambient fire sounds
         if (tickCounter % 40 == 0) {
             world.getPlayers().forEach(player ->
-                    player.playSound(
+                    EventBroadcaster.playSoundTo(
+                            player,
                             SoundEvents.BLOCK_FIRE_AMBIENT,
                             SoundCategory.AMBIENT,
                             0.3f,
@@ -195,7 +242,8 @@ public class FireRainEvent implements CustomWorldEvent {
         // Stronger thunder sounds occasionally for higher intensities
         if (intensityLevel > 1 && tickCounter % 100 == 0) {
             world.getPlayers().forEach(player ->
-                    player.playSound(
+                    EventBroadcaster.playSoundTo(
+                            player,
                             SoundEvents.ENTITY_LIGHTNING_BOLT_THUNDER,
                             SoundCategory.WEATHER,
                             0.4f,
@@ -206,15 +254,11 @@ public class FireRainEvent implements CustomWorldEvent {
 
         // Notify players when event is ending
         if (ticksRemaining == 600) { // 30 seconds left
-            world.getPlayers().forEach(player ->
-                    player.sendMessage(Text.literal("The fire rain is beginning to subside...")
-                            .formatted(Formatting.RED), true)
-            );
+            EventBroadcaster.broadcast(world, Text.literal("The fire rain is beginning to subside...")
+                    .formatted(Formatting.RED), true);
         } else if (ticksRemaining == 100) { // 5 seconds left
-            world.getPlayers().forEach(player ->
-                    player.sendMessage(Text.literal("The fire rain stops...")
-                            .formatted(Formatting.GOLD), true)
-            );
+            EventBroadcaster.broadcast(world, Text.literal("The fire rain stops...")
+                    .formatted(Formatting.GOLD), true);
         }
 
         // If complete, call onComplete to restore weather
@@ -249,32 +293,27 @@ public class FireRainEvent implements CustomWorldEvent {
         int x = playerPos.getX() + (int)offsetX;
         int z = playerPos.getZ() + (int)offsetZ;
 
-        // Try multiple Y positions around the player's level
+        // Look for ground from 5 blocks below to 5 blocks above the player
         // This is more reliable in the Nether than using getTopPosition
         boolean foundValidPos = false;
         BlockPos flameSeedPos = null;
 
-        // Try positions from 5 blocks below to 5 blocks above player
-        for (int yOffset = -5; yOffset <= 5; yOffset++) {
-            BlockPos checkPos = new BlockPos(x, playerPos.getY() + yOffset, z);
-
-            // Check if the block is solid and the block above is air
-            if (world.getBlockState(checkPos).isSolidBlock(world, checkPos) &&
-                    world.isAir(checkPos.up())) {
-                flameSeedPos = checkPos.up();
-                foundValidPos = true;
-                System.out.println("[FireRainEvent] Found valid position at " + flameSeedPos);
-                break;
-            }
+        int groundY = ColumnQueryCache.findGround(world, x, z, playerPos.getY(), GROUND_SEARCH_RANGE);
+        if (groundY != ColumnQueryCache.NO_GROUND) {
+            flameSeedPos = new BlockPos(x, groundY, z);
+            foundValidPos = true;
         }
 
         // If we found a valid position, spawn the flame seed
         if (foundValidPos && flameSeedPos != null) {
-            // Add this position to our tracked flame seeds with full lifetime
-            flameSeedPositions.put(flameSeedPos, FLAME_SEED_LIFETIME);
+            // Track the flame seed with full lifetime, unless one is already there
+            if (flameSeeds.isOccupied(flameSeedPos)) {
+                return;
+            }
+            flameSeeds.spawn(flameSeed, flameSeedPos, FLAME_SEED_LIFETIME);
 
             // Spawn a distinct particle effect for the flame seed
-            world.spawnParticles(
+            ParticleBatcher.spawn(world, 
                     ParticleTypes.SOUL_FIRE_FLAME, // Use soul fire for distinction
                     flameSeedPos.getX() + 0.5, flameSeedPos.getY() + 0.1, flameSeedPos.getZ() + 0.5,
                     5, // Count - multiple particles for visibility
@@ -283,7 +322,7 @@ public class FireRainEvent implements CustomWorldEvent {
             );
 
             // Add some embers around it
-            world.spawnParticles(
+            ParticleBatcher.spawn(world, 
                     new DustParticleEffect(new Vec3f(1.0F, 0.5F, 0.0F), 1.0F), // Orange dust
                     flameSeedPos.getX() + 0.5, flameSeedPos.getY() + 0.3, flameSeedPos.getZ() + 0.5,
                     3, // Count
@@ -292,8 +331,8 @@ public class FireRainEvent implements CustomWorldEvent {
             );
 
             // Play a distinctive sound
-            world.playSound(
-                    null, // No player
+            EventBroadcaster.playSound(
+                    world,
                     flameSeedPos.getX(), flameSeedPos.getY(), flameSeedPos.getZ(),
                     SoundEvents.BLOCK_FIRE_EXTINGUISH,
                     SoundCategory.BLOCKS,
@@ -302,7 +341,7 @@ public class FireRainEvent implements CustomWorldEvent {
             );
 
             // Notify player for debugging
-            player.sendMessage(
+            EventBroadcaster.sendMessage(player,
                     Text.literal("A Flame Seed has appeared nearby! Find it before it disappears!")
                             .formatted(Formatting.GOLD),
                     true
@@ -312,114 +351,80 @@ public class FireRainEvent implements CustomWorldEvent {
         }
     }
     /**
-     * Update the lifetime of flame seed particles and remove expired ones
-     * @param world The server world
+     * A flame seed left on the ground by the rain. Players walking over it pick it up.
      */
-    private void updateFlameSeedLifetimes(ServerWorld world) {
-        Iterator<Map.Entry<BlockPos, Integer>> iterator = flameSeedPositions.entrySet().iterator();
-
-        while (iterator.hasNext()) {
-            Map.Entry<BlockPos, Integer> entry = iterator.next();
-            BlockPos pos = entry.getKey();
-            int lifetime = entry.getValue() - FLAME_SEED_CHECK_INTERVAL;
-
-            if (lifetime <= 0) {
-                // Remove expired flame seeds
-                iterator.remove();
-
-                // Play extinguish effect
-                world.spawnParticles(
-                        ParticleTypes.SMOKE,
-                        pos.getX() + 0.5, pos.getY() + 0.1, pos.getZ() + 0.5,
-                        5, // Count
-                        0.2, 0.1, 0.2, // Spread
-                        0.02 // Speed
-                );
-            } else {
-                // Update the lifetime
-                entry.setValue(lifetime);
-
-                // Periodically refresh the particle effect to keep it visible
-                if (lifetime % 20 == 0) {
-                    world.spawnParticles(
-                            ParticleTypes.SOUL_FIRE_FLAME,
-                            pos.getX() + 0.5, pos.getY() + 0.1, pos.getZ() + 0.5,
-                            1, // Count - just one for maintenance
-                            0.1, 0.0, 0.1, // Minimal spread
-                            0.01 // Very slow drift
-                    );
-                }
-            }
+    private class FlameSeed implements CollectibleField.Behavior {
+        @Override
+        public double reach() {
+            // Half a block to the seed's edge plus half a player's width
+            return 1.0;
         }
-    }
 
-    /**
-     * Check if players are walking on flame seeds and give them flame seeds if they do
-     * @param world The server world
-     */
-    private void checkFlameSeedCollisions(ServerWorld world) {
-        // Create a temporary list to store positions to remove
-        List<BlockPos> positionsToRemove = new ArrayList<>();
-
-
-
-        for (Map.Entry<BlockPos, Integer> entry : flameSeedPositions.entrySet()) {
-            BlockPos seedPos = entry.getKey();
+        @Override
+        public boolean canPickUp(CollectibleField.Collectible seed, PlayerEntity player) {
+            // Skip creative/spectator players
+            if (player.isCreative() || player.isSpectator()) {
+                return false;
+            }
 
-            // Create a slightly larger box around the flame seed for better detection
-            Box seedBox = new Box(
-                    seedPos.getX(), seedPos.getY(), seedPos.getZ(),
-                    seedPos.getX() + 1, seedPos.getY() + 0.5, seedPos.getZ() + 1
+            // Player's bounding box against the flat box the seed sits in
+            Box playerBox = player.getBoundingBox();
+            double minX = seed.getX() - 0.5;
+            double minZ = seed.getZ() - 0.5;
+            return playerBox.minX < minX + 1 && playerBox.maxX > minX
+                    && playerBox.minY < seed.getY() + 0.5 && playerBox.maxY > seed.getY()
+                    && playerBox.minZ < minZ + 1 && playerBox.maxZ > minZ;
+        }
+
+        @Override
+        public void onPickup(ServerWorld world, CollectibleField.Collectible seed, PlayerEntity player) {
+            // Player has walked on the flame seed - give them a flame seed item
+            giveFlameSeedToPlayer(player, world, seed.getBlockPos());
+
+            // Visual and audio effects for collection
+            ParticleBatcher.spawn(world,
+                    ParticleTypes.FLAME,
+                    seed.getX(), seed.getY() + 0.5, seed.getZ(),
+                    15, // Count - burst of particles
+                    0.3, 0.3, 0.3, // Spread
+                    0.1 // Speed
             );
 
-            // Check all players against this seed
-            for (PlayerEntity player : world.getPlayers()) {
-                // Skip creative/spectator players
-                if (player.isCreative() || player.isSpectator()) {
-                    continue;
-                }
-
-                // Get player bounds - use the player's actual bounding box
-                Box playerBox = player.getBoundingBox();
-
-                // Check for collision
-                if (playerBox.intersects(seedBox)) {
-                    // Player has walked on the flame seed - give them a flame seed item
-                    giveFlameSeedToPlayer(player, world, seedPos);
-                    StatusEffectInstance effect = new StatusEffectInstance(StatusEffects.FIRE_RESISTANCE, 100, 0, false, false, false);
-
-                    // Mark this position for removal
-                    positionsToRemove.add(seedPos);
-
-                    // Visual and audio effects for collection
-                    world.spawnParticles(
-                            ParticleTypes.FLAME,
-                            seedPos.getX() + 0.5, seedPos.getY() + 0.5, seedPos.getZ() + 0.5,
-                            15, // Count - burst of particles
-                            0.3, 0.3, 0.3, // Spread
-                            0.1 // Speed
-                    );
-
-                    world.playSound(
-                            null,
-                            seedPos.getX() + 0.5, seedPos.getY() + 0.5, seedPos.getZ() + 0.5,
-                            SoundEvents.ENTITY_BLAZE_SHOOT,
-                            SoundCategory.PLAYERS,
-                            0.7f,
-                            1.0f + world.random.nextFloat() * 0.3f
-                    );
+            EventBroadcaster.playSound(
+                    world,
+                    seed.getX(), seed.getY() + 0.5, seed.getZ(),
+                    SoundEvents.ENTITY_BLAZE_SHOOT,
+                    SoundCategory.PLAYERS,
+                    0.7f,
+                    1.0f + random.nextFloat() * 0.3f
+            );
+        }
 
-                    // No need to check other players for this seed
-                    break;
-                }
+        @Override
+        public void tick(ServerWorld world, CollectibleField.Collectible seed) {
+            // Periodically refresh the particle effect to keep it visible
+            if (seed.getAge() % 20 == 0) {
+                ParticleBatcher.spawn(world,
+                        ParticleTypes.SOUL_FIRE_FLAME,
+                        seed.getX(), seed.getY() + 0.1, seed.getZ(),
+                        1, // Count - just one for maintenance
+                        0.1, 0.0, 0.1, // Minimal spread
+                        0.01 // Very slow drift
+                );
             }
         }
 
-        // Remove all marked positions after iteration is complete
-        for (BlockPos pos : positionsToRemove) {
-            flameSeedPositions.remove(pos);
+        @Override
+        public void onExpire(ServerWorld world, CollectibleField.Collectible seed) {
+            // Play extinguish effect
+            ParticleBatcher.spawn(world,
+                    ParticleTypes.SMOKE,
+                    seed.getX(), seed.getY() + 0.1, seed.getZ(),
+                    5, // Count
+                    0.2, 0.1, 0.2, // Spread
+                    0.02 // Speed
+            );
         }
-
     }
 
     /**
@@ -438,14 +443,14 @@ public class FireRainEvent implements CustomWorldEvent {
             player.dropItem(flameSeed, false);
 
             // Notify the player their inventory is full
-            player.sendMessage(
+            EventBroadcaster.sendMessage(player,
                     Text.literal("Your inventory is full! Flame Seed dropped at your feet.")
                             .formatted(Formatting.YELLOW),
                     true
             );
         } else {
             // Notify the player they collected the item
-            player.sendMessage(
+            EventBroadcaster.sendMessage(player,
                     Text.literal("You collected a Flame Seed from the fire rain!")
                             .formatted(Formatting.GOLD, Formatting.BOLD),
                     true
@@ -453,13 +458,13 @@ public class FireRainEvent implements CustomWorldEvent {
         }
 
         // Play a sound at the player's location
-        world.playSound(
-                null,
+        EventBroadcaster.playSound(
+                world,
                 player.getX(), player.getY(), player.getZ(),
                 SoundEvents.ENTITY_ITEM_PICKUP,
                 SoundCategory.PLAYERS,
                 0.2f,
-                ((world.random.nextFloat() - world.random.nextFloat()) * 0.7f + 1.0f) * 2.0f
+                ((random.nextFloat() - random.nextFloat()) * 0.7f + 1.0f) * 2.0f
         );
     }
 
@@ -502,14 +507,14 @@ public class FireRainEvent implements CustomWorldEvent {
                 ParticleEffect particleType = getFireParticleType();
 
                 // Spawn the particle
-                world.spawnParticles(
+                ParticleBatcher.spawn(world, 
                         particleType,
                         x, y, z,
                         1, // Count - just one particle per position
                         velX, velY, velZ,
                         0.1 // Speed modifier
                 );
-                world.spawnParticles(
+                ParticleBatcher.spawn(world, 
                         ParticleTypes.LAVA,
                         x, y, z,
                         1, // Count
@@ -519,14 +524,14 @@ public class FireRainEvent implements CustomWorldEvent {
 
                 // For higher intensities, add additional ember and smoke particles
                 if (intensityLevel > 1 && random.nextFloat() < 0.3) {
-                    world.spawnParticles(
+                    ParticleBatcher.spawn(world, 
                             ParticleTypes.SMOKE,
                             x, y, z,
                             1, // Count
                             velX * 0.5, velY * 0.5, velZ * 0.5,
                             0.05 // Speed modifier
                     );
-                    world.spawnParticles(
+                    ParticleBatcher.spawn(world, 
                             ParticleTypes.LAVA,
                             x, y, z,
                             2, // Count
@@ -537,7 +542,7 @@ public class FireRainEvent implements CustomWorldEvent {
 
                 // For highest intensity, occasionally add lava particles
                 if (intensityLevel == 3 && random.nextFloat() < 0.15) {
-                    world.spawnParticles(
+                    ParticleBatcher.spawn(world, 
                             ParticleTypes.LAVA,
                             x, y, z,
                             3, // Count
@@ -565,20 +570,18 @@ public class FireRainEvent implements CustomWorldEvent {
             double offsetX = (random.nextDouble() - 0.5) * PARTICLE_SPREAD_RADIUS;
             double offsetZ = (random.nextDouble() - 0.5) * PARTICLE_SPREAD_RADIUS;
 
-            // Find the top block at this position
-            BlockPos impactPos = world.getTopPosition(
-                    net.minecraft.world.Heightmap.Type.WORLD_SURFACE,
-                    new BlockPos(playerPos.getX() + offsetX, 0, playerPos.getZ() + offsetZ)
-            );
+            // Find the top block at this position, if it is visible from above
+            BlockPos impactPos = ColumnQueryCache.findSkyVisibleTop(world,
+                    MathHelper.floor(playerPos.getX() + offsetX), MathHelper.floor(playerPos.getZ() + offsetZ));
 
             // Only spawn impact particles if the block is visible from above
-            if (world.isSkyVisible(impactPos)) {
+            if (impactPos != null) {
                 double x = impactPos.getX() + random.nextDouble();
                 double y = impactPos.getY() + 0.1;
                 double z = impactPos.getZ() + random.nextDouble();
 
                 // Small ember burst on impact
-                world.spawnParticles(
+                ParticleBatcher.spawn(world, 
                         ParticleTypes.FLAME,
                         x, y, z,
                         3 + random.nextInt(3), // 3-5 particles
@@ -587,7 +590,7 @@ public class FireRainEvent implements CustomWorldEvent {
                 );
 
                 // Add small smoke puff for effect
-                world.spawnParticles(
+                ParticleBatcher.spawn(world, 
                         ParticleTypes.SMOKE,
                         x, y, z,
                         1 + random.nextInt(2), // 1-2 particles
@@ -597,7 +600,7 @@ public class FireRainEvent implements CustomWorldEvent {
 
                 // High intensity gets extra lava impact particles
                 if (intensityLevel == 3 && random.nextFloat() < 0.3) {
-                    world.spawnParticles(
+                    ParticleBatcher.spawn(world, 
                             ParticleTypes.LAVA,
                             x, y, z,
                             1, // Count
@@ -640,50 +643,51 @@ public class FireRainEvent implements CustomWorldEvent {
      * Create random fires on the ground for maximum intensity
      */
     private void createRandomFires(ServerWorld world) {
+        // Queue each player's fires; WorldEventManager runs them within the tick budget
         for (PlayerEntity player : world.getPlayers()) {
-            // Skip if too few players online
-            if (world.getPlayers().size() < 1) {
-                return;
-            }
+            workQueue.enqueue(player, randomFireWork);
+        }
+    }
 
-            // Pick a random player and place fires around them
-            if (random.nextFloat() < 0.3f) { // 30% chance per player
-                int fires = 1 + random.nextInt(3); // 1-3 fires
-
-                for (int i = 0; i < fires; i++) {
-                    int range = 10 + (intensityLevel * 5); // 15-25 block range
-                    int x = player.getBlockPos().getX() + (random.nextInt(range * 2) - range);
-                    int z = player.getBlockPos().getZ() + (random.nextInt(range * 2) - range);
-
-                    // Find the top block
-                    BlockPos pos = new BlockPos(x, player.getBlockPos().getY(), z);
-                    BlockPos topBlock = world.getTopPosition(net.minecraft.world.Heightmap.Type.WORLD_SURFACE, pos);
-
-                    // Only place fire if the player is exposed to the sky
-                    if (world.isSkyVisible(topBlock)) {
-                        // Check if we can place fire here (air block with solid block beneath)
-                        BlockPos firePos = topBlock.up();
-                        if (world.isAir(firePos) && world.getBlockState(topBlock).isSolidBlock(world, topBlock)) {
-                            world.setBlockState(firePos, net.minecraft.block.Blocks.FIRE.getDefaultState());
-
-                            // Add fire placement particles and sound
-                            world.spawnParticles(
-                                    ParticleTypes.FLAME,
-                                    firePos.getX() + 0.5, firePos.getY() + 0.5, firePos.getZ() + 0.5,
-                                    10, // Count
-                                    0.5, 0.5, 0.5, // Spread
-                                    0.1 // Speed
-                            );
-
-                            world.playSound(
-                                    null, // No player
-                                    firePos.getX(), firePos.getY(), firePos.getZ(),
-                                    SoundEvents.ENTITY_GENERIC_BURN,
-                                    SoundCategory.BLOCKS,
-                                    0.5f + (random.nextFloat() * 0.5f),
-                                    0.7f + (random.nextFloat() * 0.6f)
-                            );
-                        }
+    /**
+     * Maybe place a few fires around one player
+     */
+    private void createRandomFiresNearPlayer(ServerWorld world, PlayerEntity player) {
+        if (random.nextFloat() < 0.3f) { // 30% chance per player
+            int fires = 1 + random.nextInt(3); // 1-3 fires
+
+            for (int i = 0; i < fires; i++) {
+                int range = 10 + (intensityLevel * 5); // 15-25 block range
+                int x = player.getBlockPos().getX() + (random.nextInt(range * 2) - range);
+                int z = player.getBlockPos().getZ() + (random.nextInt(range * 2) - range);
+
+                // Find the top block, if it is visible from above
+                BlockPos topBlock = ColumnQueryCache.findSkyVisibleTop(world, x, z);
+
+                // Only place fire if the player is exposed to the sky
+                if (topBlock != null) {
+                    // Check if we can place fire here (air block with solid block beneath)
+                    BlockPos firePos = topBlock.up();
+                    if (world.isAir(firePos) && world.getBlockState(topBlock).isSolidBlock(world, topBlock)) {
+                        world.setBlockState(firePos, net.minecraft.block.Blocks.FIRE.getDefaultState());
+
+                        // Add fire placement particles and sound
+                        ParticleBatcher.spawn(world, 
+                                ParticleTypes.FLAME,
+                                firePos.getX() + 0.5, firePos.getY() + 0.5, firePos.getZ() + 0.5,
+                                10, // Count
+                                0.5, 0.5, 0.5, // Spread
+                                0.1 // Speed
+                        );
+
+                        EventBroadcaster.playSound(
+                                world,
+                                firePos.getX(), firePos.getY(), firePos.getZ(),
+                                SoundEvents.ENTITY_GENERIC_BURN,
+                                SoundCategory.BLOCKS,
+                                0.5f + (random.nextFloat() * 0.5f),
+                                0.7f + (random.nextFloat() * 0.6f)
+                        );
                     }
                 }
             }
@@ -713,7 +717,7 @@ public class FireRainEvent implements CustomWorldEvent {
                 player.setFireTicks(player.getFireTicks() + fireDuration);
 
                 // Add fire particles directly on the player for visual effect
-                world.spawnParticles(
+                ParticleBatcher.spawn(world, 
                         ParticleTypes.FLAME,
                         player.getX(), player.getY() + 1.0, player.getZ(),
                         5 + intensityLevel * 3, // 8-14 particles based on intensity
@@ -723,7 +727,7 @@ public class FireRainEvent implements CustomWorldEvent {
 
                 // Notify player (only sometimes to avoid spam)
                 if (random.nextFloat() < 0.3f) {
-                    player.sendMessage(Text.literal("You're being burned by the fire rain!")
+                    EventBroadcaster.sendMessage(player, Text.literal("You're being burned by the fire rain!")
                             .formatted(Formatting.RED), true);
                 }
             }
@@ -734,20 +738,8 @@ public class FireRainEvent implements CustomWorldEvent {
      * Check if a player is exposed to the sky
      */
     private boolean isExposedToSky(ServerWorld world, PlayerEntity player) {
-        BlockPos playerPos = player.getBlockPos();
-
-        // The height to check above the player
-        int checkHeight = 10;
-
-        // Check if there are any blocks above the player
-        for (int y = 1; y <= checkHeight; y++) {
-            BlockPos checkPos = playerPos.up(y);
-            if (!world.isAir(checkPos)) {
-                return false; // Player is covered
-            }
-        }
-
-        return true; // Player is exposed
+        // Covered if there are any blocks in the 10 above the player
+        return ColumnQueryCache.isOpenAbove(world, player.getBlockPos(), EXPOSURE_CHECK_HEIGHT);
     }
 
     /**
@@ -762,7 +754,7 @@ public class FireRainEvent implements CustomWorldEvent {
                 double offsetX = (random.nextDouble() - 0.5) * PARTICLE_SPREAD_RADIUS * 2;
                 double offsetZ = (random.nextDouble() - 0.5) * PARTICLE_SPREAD_RADIUS * 2;
 
-                world.spawnParticles(
+                ParticleBatcher.spawn(world, 
                         ParticleTypes.SMOKE,
                         playerPos.getX() + offsetX,
                         playerPos.getY() + PARTICLE_HEIGHT / 2.0 + random.nextDouble() * PARTICLE_HEIGHT / 2.0,
@@ -788,10 +780,8 @@ public class FireRainEvent implements CustomWorldEvent {
         }
 
         // Notify players that the event has ended
-        world.getPlayers().forEach(player ->
-                player.sendMessage(Text.literal("The fire rain has ended.")
-                        .formatted(Formatting.GOLD), true)
-        );
+        EventBroadcaster.broadcast(world, Text.literal("The fire rain has ended.")
+                .formatted(Formatting.GOLD), true);
     }
 
     @Override
@@ -0,0 +1,292 @@
+package end3r.verdant_arcanum.event;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Finds blocks an Overgrowth event can transform, so its random probes stop landing on air,
+ * water and deepslate.
+ *
+ * Each chunk section is first checked against its palette. A section whose palette holds no
+ * transformable state can't contain one, so it is marked skippable. Other sections get a
+ * candidate list that is filled a slice at a time as probes land in them, and probes then
+ * draw from that list. Ground blocks only count while the block above them is air, so a
+ * buried section ends up with an empty list after one scan and is skipped from then on.
+ * Drawn candidates are checked against the section, and ones that no longer match are
+ * dropped.
+ *
+ * Block changes reported through invalidate() add new candidates and drop the skip mark of
+ * a section that gained one; a chunk that loads drops everything known about it.
+ */
+public class OvergrowthCandidateFinder {
+    // Finder of the Overgrowth event running in each dimension, for block change callbacks
+    private static final Map<RegistryKey<World>, OvergrowthCandidateFinder> ACTIVE = new HashMap<>();
+
+    // Blocks of a section scanned per probe that lands in it
+    private static final int SCAN_STEP = 256;
+    private static final int SECTION_VOLUME = 16 * 16 * 16;
+    // Candidates drawn per probe before giving up on finding one inside the probe box
+    private static final int DRAW_ATTEMPTS = 4;
+
+    private final Predicate<BlockState> isCandidate;
+    private final Predicate<BlockState> needsAirAbove;
+    private final Long2ObjectOpenHashMap<SectionCandidates> sections = new Long2ObjectOpenHashMap<>();
+    private RegistryKey<World> dimension;
+
+    /**
+     * Candidate positions in one section, packed as local indices (y << 8 | z << 4 | x)
+     */
+    private static class SectionCandidates {
+        private final boolean skippable;
+        private short[] positions;
+        private int count = 0;
+        private int scanCursor = 0;
+
+        private SectionCandidates(boolean skippable) {
+            this.skippable = skippable;
+            this.positions = skippable ? new short[0] : new short[16];
+        }
+
+        private void add(int index) {
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            positions[count++] = (short) index;
+        }
+
+        private void removeAt(int i) {
+            positions[i] = positions[--count];
+        }
+    }
+
+    /**
+     * @param isCandidate states that can be transformed; also used for the palette check
+     * @param needsAirAbove candidate states that only count with air above them
+     */
+    public OvergrowthCandidateFinder(Predicate<BlockState> isCandidate, Predicate<BlockState> needsAirAbove) {
+        this.isCandidate = isCandidate;
+        this.needsAirAbove = needsAirAbove;
+    }
+
+    /**
+     * Forget what is known about chunks as they load. Call once from the mod initializer.
+     */
+    public static void register() {
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> {
+            OvergrowthCandidateFinder finder = ACTIVE.get(world.getRegistryKey());
+            if (finder != null && !finder.sections.isEmpty()) {
+                ChunkPos chunkPos = chunk.getPos();
+                for (int y = world.getBottomSectionCoord(); y < world.getTopSectionCoord(); y++) {
+                    finder.sections.remove(ChunkSectionPos.asLong(chunkPos.x, y, chunkPos.z));
+                }
+            }
+        });
+    }
+
+    /**
+     * Account for a block change in a dimension with a running finder. Called from
+     * ServerWorldBlockChangeMixin for every server-side block change.
+     */
+    public static void invalidate(ServerWorld world, BlockPos pos, BlockState oldState, BlockState newState) {
+        OvergrowthCandidateFinder finder = ACTIVE.get(world.getRegistryKey());
+        if (finder == null || finder.sections.isEmpty()) {
+            return;
+        }
+        if (!finder.isCandidate.test(oldState)) {
+            finder.onNewCandidate(world, pos, newState);
+        }
+        // Ground below a block that was removed may now be open
+        if (newState.isAir() && !oldState.isAir()) {
+            BlockPos below = pos.down();
+            finder.onNewCandidate(world, below, world.getBlockState(below));
+        }
+    }
+
+    /**
+     * Check the palettes of the sections around every player, so the first ticks of the event
+     * already skip empty sections. Also makes this the finder block changes in the world are
+     * reported to.
+     */
+    public void prime(ServerWorld world, int radius) {
+        dimension = world.getRegistryKey();
+        ACTIVE.put(dimension, this);
+        for (PlayerEntity player : world.getPlayers()) {
+            BlockPos playerPos = player.getBlockPos();
+            int minX = ChunkSectionPos.getSectionCoord(playerPos.getX() - radius);
+            int maxX = ChunkSectionPos.getSectionCoord(playerPos.getX() + radius);
+            int minY = ChunkSectionPos.getSectionCoord(playerPos.getY() - radius);
+            int maxY = ChunkSectionPos.getSectionCoord(playerPos.getY() + radius);
+            int minZ = ChunkSectionPos.getSectionCoord(playerPos.getZ() - radius);
+            int maxZ = ChunkSectionPos.getSectionCoord(playerPos.getZ() + radius);
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int y = minY; y <= maxY; y++) {
+                        getSection(world, ChunkSectionPos.asLong(x, y, z));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Turn a random probe into a likely candidate.
+     *
+     * @param probe the randomly picked position
+     * @param center the middle of the probe box
+     * @param radiusXZ horizontal half-size of the probe box
+     * @param radiusY vertical half-size of the probe box
+     * @return a candidate inside the box from the probe's section, the probe itself while the
+     *         section is still being scanned, or null if the section has nothing to transform
+     */
+    public BlockPos draw(ServerWorld world, BlockPos probe, BlockPos center, int radiusXZ, int radiusY, Random random) {
+        long sectionKey = ChunkSectionPos.toLong(probe);
+        SectionCandidates candidates = getSection(world, sectionKey);
+        if (candidates == null) {
+            return probe;
+        }
+        if (candidates.skippable) {
+            return null;
+        }
+
+        ChunkSection section = sectionAt(world, sectionKey);
+        if (section == null) {
+            return null;
+        }
+        if (candidates.scanCursor < SECTION_VOLUME) {
+            scanSlice(world, sectionKey, section, candidates);
+        }
+
+        ChunkSectionPos sectionPos = ChunkSectionPos.from(sectionKey);
+        for (int attempt = 0; attempt < DRAW_ATTEMPTS && candidates.count > 0; attempt++) {
+            int i = random.nextInt(candidates.count);
+            int index = candidates.positions[i];
+            int localX = index & 15;
+            int localZ = (index >> 4) & 15;
+            int localY = (index >> 8) & 15;
+
+            // Stale once transformed, grown or covered; drop it and try another
+            if (!isCandidateAt(world, sectionKey, section, localX, localY, localZ)) {
+                candidates.removeAt(i);
+                continue;
+            }
+
+            int x = sectionPos.getMinX() + localX;
+            int y = sectionPos.getMinY() + localY;
+            int z = sectionPos.getMinZ() + localZ;
+            if (Math.abs(x - center.getX()) <= radiusXZ && Math.abs(y - center.getY()) <= radiusY
+                    && Math.abs(z - center.getZ()) <= radiusXZ) {
+                return new BlockPos(x, y, z);
+            }
+        }
+
+        // Nothing left and nothing more to scan
+        if (candidates.count == 0 && candidates.scanCursor >= SECTION_VOLUME) {
+            return null;
+        }
+        return probe;
+    }
+
+    public void clear() {
+        sections.clear();
+        if (dimension != null) {
+            ACTIVE.remove(dimension, this);
+            dimension = null;
+        }
+    }
+
+    private void onNewCandidate(ServerWorld world, BlockPos pos, BlockState state) {
+        if (!isCandidate.test(state)) {
+            return;
+        }
+        long sectionKey = ChunkSectionPos.toLong(pos);
+        SectionCandidates candidates = sections.get(sectionKey);
+        if (candidates == null) {
+            return;
+        }
+        if (candidates.skippable) {
+            // Check the palette again the next time a probe lands here
+            sections.remove(sectionKey);
+            return;
+        }
+
+        int index = (pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+        // Blocks past the cursor are picked up by the scan
+        if (index < candidates.scanCursor) {
+            ChunkSection section = sectionAt(world, sectionKey);
+            if (section != null && isCandidateAt(world, sectionKey, section, pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15)) {
+                candidates.add(index);
+            }
+        }
+    }
+
+    private SectionCandidates getSection(ServerWorld world, long sectionKey) {
+        SectionCandidates candidates = sections.get(sectionKey);
+        if (candidates != null) {
+            return candidates;
+        }
+
+        ChunkSection section = sectionAt(world, sectionKey);
+        if (section == null) {
+            // Unloaded or outside the world; look again next time
+            return null;
+        }
+        candidates = new SectionCandidates(section.isEmpty() || !section.hasAny(isCandidate));
+        sections.put(sectionKey, candidates);
+        return candidates;
+    }
+
+    private void scanSlice(ServerWorld world, long sectionKey, ChunkSection section, SectionCandidates candidates) {
+        int end = Math.min(SECTION_VOLUME, candidates.scanCursor + SCAN_STEP);
+        for (int index = candidates.scanCursor; index < end; index++) {
+            if (isCandidateAt(world, sectionKey, section, index & 15, (index >> 8) & 15, (index >> 4) & 15)) {
+                candidates.add(index);
+            }
+        }
+        candidates.scanCursor = end;
+    }
+
+    private boolean isCandidateAt(ServerWorld world, long sectionKey, ChunkSection section, int localX, int localY, int localZ) {
+        BlockState state = section.getBlockState(localX, localY, localZ);
+        if (!isCandidate.test(state)) {
+            return false;
+        }
+        if (!needsAirAbove.test(state)) {
+            return true;
+        }
+        if (localY < 15) {
+            return section.getBlockState(localX, localY + 1, localZ).isAir();
+        }
+        ChunkSection above = sectionAt(world, ChunkSectionPos.asLong(
+                ChunkSectionPos.unpackX(sectionKey), ChunkSectionPos.unpackY(sectionKey) + 1, ChunkSectionPos.unpackZ(sectionKey)));
+        // Nothing above the top of the world
+        return above == null || above.getBlockState(localX, 0, localZ).isAir();
+    }
+
+    private static ChunkSection sectionAt(ServerWorld world, long sectionKey) {
+        int chunkX = ChunkSectionPos.unpackX(sectionKey);
+        int chunkZ = ChunkSectionPos.unpackZ(sectionKey);
+        if (!world.getChunkManager().isChunkLoaded(chunkX, chunkZ)) {
+            return null;
+        }
+        int sectionIndex = world.sectionCoordToIndex(ChunkSectionPos.unpackY(sectionKey));
+        if (sectionIndex < 0 || sectionIndex >= world.countVerticalSections()) {
+            return null;
+        }
+        return world.getChunk(chunkX, chunkZ).getSection(sectionIndex);
+    }
+}
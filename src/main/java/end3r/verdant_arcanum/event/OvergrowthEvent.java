@@ -1,6 +1,7 @@
 
 package end3r.verdant_arcanum.event;
 
+import end3r.verdant_arcanum.network.ParticleBatcher;
 import net.minecraft.block.*;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
@@ -27,6 +28,21 @@ public class OvergrowthEvent implements CustomWorldEvent {
     private int ticksRemaining = DEFAULT_EVENT_DURATION;
     private int growthCounter = 0;
     private int intensity = 2; // Default medium intensity (1=mild, 2=moderate, 3=intense)
+    private int baseIntensity = 2; // Intensity as configured, before load scaling
+    private int loadLevel = 0;
+
+    // Every random choice of a run; seeded by WorldEventManager before start()
+    private final Random random = Random.create();
+
+    // Per-player block transformations, run within the tick budget
+    private final EventWorkQueue workQueue = new EventWorkQueue();
+    private final EventWorkQueue.PlayerWork overgrowthWork =
+            EventWorkQueue.timed("applyOvergrowthEffectsNearPlayer", this::applyOvergrowthEffectsNearPlayer);
+
+    // Steers random probes toward blocks that can actually be transformed
+    private final OvergrowthCandidateFinder candidateFinder = new OvergrowthCandidateFinder(OvergrowthEvent::isTransformCandidate, OvergrowthEvent::isMossableGround);
+    private static final int PROBE_RADIUS = 8;
+    private static final int PROBE_HEIGHT = 4;
 
     // Debugging counters
     private int blockTransformations = 0;
@@ -42,8 +58,11 @@ public class OvergrowthEvent implements CustomWorldEvent {
     private static final int ROOTGRASP_SEED_SPAWN_CHANCE = 50; // Increased chance (1 in X)
     private static final double ROOTGRASP_SEED_COLLECTION_RADIUS = 1.5; // Increased radius for easier collection
 
-    // Track active rootgrasp seed particles - stores BlockPos to ensure they stay on the ground
-    private final Map<UUID, BlockPos> activeRootgraspSeedParticles = new HashMap<>();
+    private static final int ROOTGRASP_SEED_LIFETIME = 20 * 100; // Seeds wither after 100 seconds
+
+    // Active rootgrasp seeds, anchored to the ground block they sit on
+    private final CollectibleField rootgraspSeeds = new CollectibleField();
+    private final CollectibleField.Behavior rootgraspSeed = new RootgraspSeed();
 
     static {
         MOSS_TRANSFORMATIONS.put(Blocks.COBBLESTONE, Blocks.MOSSY_COBBLESTONE);
@@ -70,7 +89,62 @@ public class OvergrowthEvent implements CustomWorldEvent {
      * @param intensity 1=mild, 2=moderate, 3=intense
      */
     public void setIntensity(int intensity) {
-        this.intensity = Math.max(1, Math.min(3, intensity)); // Clamp between 1-3
+        this.baseIntensity = Math.max(1, Math.min(3, intensity)); // Clamp between 1-3
+        this.intensity = Math.max(1, baseIntensity - loadLevel);
+    }
+
+    @Override
+    public void setLoadLevel(int level) {
+        loadLevel = level;
+        intensity = Math.max(1, baseIntensity - loadLevel);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    @Override
+    public EventWorkQueue getWorkQueue() {
+        return workQueue;
+    }
+
+    @Override
+    public void reset() {
+        ticksRemaining = DEFAULT_EVENT_DURATION;
+        growthCounter = 0;
+        intensity = 2;
+        baseIntensity = 2;
+        loadLevel = 0;
+        workQueue.clear();
+        blockTransformations = 0;
+        seedParticlesSpawned = 0;
+        seedsCollected = 0;
+        rootgraspSeeds.clear();
+        candidateFinder.clear();
+    }
+
+    /**
+     * Whether a state is one the random transformations can change: a mossy-variant source,
+     * moss-able ground or a growing crop. Air above ground is checked separately.
+     */
+    private static boolean isTransformCandidate(BlockState state) {
+        Block block = state.getBlock();
+        if (MOSS_TRANSFORMATIONS.containsKey(block)) {
+            return true;
+        }
+        if (isMossableGround(state)) {
+            return true;
+        }
+        return block instanceof CropBlock && !((CropBlock) block).isMature(state);
+    }
+
+    /**
+     * Ground that turns to moss, but only with air above it
+     */
+    private static boolean isMossableGround(BlockState state) {
+        Block block = state.getBlock();
+        return block == Blocks.DIRT || block == Blocks.STONE || block == Blocks.GRASS_BLOCK;
     }
 
     @Override
@@ -81,7 +155,7 @@ public class OvergrowthEvent implements CustomWorldEvent {
         seedsCollected = 0;
 
         // Reset active seed particles
-        activeRootgraspSeedParticles.clear();
+        rootgraspSeeds.clear();
 
         // Ensure intensity is valid
         intensity = Math.max(1, Math.min(3, intensity));
@@ -102,11 +176,12 @@ public class OvergrowthEvent implements CustomWorldEvent {
 
 
         // Send message to players
-        world.getPlayers().forEach(player ->
-                player.sendMessage(Text.literal("🌱 " + intensityDesc + " nature's power surges! An Overgrowth event has begun.")
-                        .formatted(Formatting.GREEN, Formatting.BOLD), true)
-        );
+        EventBroadcaster.broadcast(world, Text.literal("🌱 " + intensityDesc + " nature's power surges! An Overgrowth event has begun.")
+                .formatted(Formatting.GREEN, Formatting.BOLD), true);
+
 
+        // Check section palettes around players so the first probes already skip empty sections
+        candidateFinder.prime(world, PROBE_RADIUS);
 
         // Force immediate effects for visibility when starting
         applyImmediateEffects(world);
@@ -122,24 +197,23 @@ public class OvergrowthEvent implements CustomWorldEvent {
 
             // Spawn lots of particles around the player
             for (int i = 0; i < 50; i++) {
-                double x = playerPos.getX() + world.getRandom().nextGaussian() * 5;
-                double y = playerPos.getY() + world.getRandom().nextGaussian() * 3 + 1;
-                double z = playerPos.getZ() + world.getRandom().nextGaussian() * 5;
-                world.spawnParticles(ParticleTypes.HAPPY_VILLAGER, x, y, z,
+                double x = playerPos.getX() + random.nextGaussian() * 5;
+                double y = playerPos.getY() + random.nextGaussian() * 3 + 1;
+                double z = playerPos.getZ() + random.nextGaussian() * 5;
+                ParticleBatcher.spawn(world, ParticleTypes.HAPPY_VILLAGER, x, y, z,
                         1, 0.1, 0.1, 0.1, 0.02);
             }
 
             // Force spawn seed particles near player
             for (int attempt = 0; attempt < 3; attempt++) {
-                int offsetX = world.getRandom().nextInt(6) - 3;
-                int offsetZ = world.getRandom().nextInt(6) - 3;
+                int offsetX = random.nextInt(6) - 3;
+                int offsetZ = random.nextInt(6) - 3;
                 BlockPos targetPos = playerPos.add(offsetX, 0, offsetZ);
 
                 BlockPos groundPos = findGroundPos(world, targetPos);
                 if (groundPos != null) {
                     // Create a seed particle
-                    UUID particleId = UUID.randomUUID();
-                    activeRootgraspSeedParticles.put(particleId, groundPos);
+                    rootgraspSeeds.spawn(rootgraspSeed, groundPos, ROOTGRASP_SEED_LIFETIME);
                     seedParticlesSpawned++;
 
                     // Spawn extra visible particles at this location
@@ -150,13 +224,13 @@ public class OvergrowthEvent implements CustomWorldEvent {
                     );
 
                     for (int i = 0; i < 10; i++) {
-                        world.spawnParticles(
+                        ParticleBatcher.spawn(world, 
                                 new DustParticleEffect(ROOTGRASP_SEED_PARTICLE_COLOR, ROOTGRASP_SEED_PARTICLE_SIZE),
                                 particlePos.x, particlePos.y, particlePos.z,
                                 1, 0.1, 0.1, 0.1, 0
                         );
 
-                        world.spawnParticles(
+                        ParticleBatcher.spawn(world, 
                                 ParticleTypes.HAPPY_VILLAGER,
                                 particlePos.x, particlePos.y + 0.2, particlePos.z,
                                 1, 0.2, 0.2, 0.2, 0.01
@@ -164,9 +238,8 @@ public class OvergrowthEvent implements CustomWorldEvent {
                     }
 
                     // Play a sound
-                    world.playSound(
-                            null, groundPos, SoundEvents.BLOCK_GRASS_PLACE, SoundCategory.BLOCKS,
-                            1.0f, 0.8f + (world.getRandom().nextFloat() * 0.2f)
+                    EventBroadcaster.playSound(world, groundPos, SoundEvents.BLOCK_GRASS_PLACE, SoundCategory.BLOCKS,
+                            1.0f, 0.8f + (random.nextFloat() * 0.2f)
                     );
 
                     // Success
@@ -175,13 +248,15 @@ public class OvergrowthEvent implements CustomWorldEvent {
             }
 
             // Apply some guaranteed transformations near the player
-            applyGuaranteedEffectsNearPlayer(world, player, world.getRandom());
+            applyGuaranteedEffectsNearPlayer(world, player, random);
         }
 
     }
 
     @Override
     public void tick(ServerWorld world) {
+        long section;
+
         // Add debug counter to track ticks
         int tickCounter = 0;
         tickCounter++;
@@ -196,29 +271,35 @@ public class OvergrowthEvent implements CustomWorldEvent {
         float particleChance = 0.1f + (intensity * 0.1f); // 0.2 for mild, 0.3 for moderate, 0.4 for intense
 
         // Create ambient particles
-        if (world.getRandom().nextFloat() < particleChance) {
+        section = EventMetrics.startSection();
+        if (random.nextFloat() < particleChance) {
             world.getPlayers().forEach(player -> {
                 BlockPos playerPos = player.getBlockPos();
                 // Number of particles scales with intensity
                 int particleCount = 2 + intensity;
                 for (int i = 0; i < particleCount; i++) {
-                    double x = playerPos.getX() + world.getRandom().nextGaussian() * 8;
-                    double y = playerPos.getY() + world.getRandom().nextGaussian() * 4;
-                    double z = playerPos.getZ() + world.getRandom().nextGaussian() * 8;
-                    world.spawnParticles(ParticleTypes.HAPPY_VILLAGER, x, y, z, 1, 0.1, 0.1, 0.1, 0.02);
+                    double x = playerPos.getX() + random.nextGaussian() * 8;
+                    double y = playerPos.getY() + random.nextGaussian() * 4;
+                    double z = playerPos.getZ() + random.nextGaussian() * 8;
+                    ParticleBatcher.spawn(world, ParticleTypes.HAPPY_VILLAGER, x, y, z, 1, 0.1, 0.1, 0.1, 0.02);
                 }
             });
         }
+        EventMetrics.endSection(world, "spawnAmbientParticles", section);
 
         // Spawn rootgrasp seed particles - frequency increases with intensity
         // Run more frequently for better player experience
         if (ticksRemaining % (20 - (intensity * 5)) == 0) { // 15, 10, or 5 ticks based on intensity
+            section = EventMetrics.startSection();
             spawnRootgraspSeedParticles(world);
+            EventMetrics.endSection(world, "spawnRootgraspSeedParticles", section);
         }
 
         // Check for players collecting rootgrasp seed particles EVERY tick
         // This is critical to ensure responsive collection
-        checkRootgraspSeedCollection(world);
+        section = EventMetrics.startSection();
+        rootgraspSeeds.tick(world);
+        EventMetrics.endSection(world, "tickRootgraspSeeds", section);
 
         growthCounter++;
 
@@ -233,18 +314,16 @@ public class OvergrowthEvent implements CustomWorldEvent {
 
         // Apply growth effects every 20 ticks (1 second)
         if (growthCounter % 20 == 0) {
+            section = EventMetrics.startSection();
             applyOvergrowthEffects(world);
+            EventMetrics.endSection(world, "applyOvergrowthEffects", section);
         }
 
         // Notify players when the event is halfway through and near completion
         if (ticksRemaining == DEFAULT_EVENT_DURATION / 2 && ticksRemaining > 600) {
-            world.getPlayers().forEach(player ->
-                    player.sendMessage(Text.literal("The Overgrowth continues to spread...").formatted(Formatting.GREEN), true)
-            );
+            EventBroadcaster.broadcast(world, Text.literal("The Overgrowth continues to spread...").formatted(Formatting.GREEN), true);
         } else if (ticksRemaining == 200) { // 10 seconds remaining
-            world.getPlayers().forEach(player ->
-                    player.sendMessage(Text.literal("The Overgrowth is beginning to subside...").formatted(Formatting.YELLOW), true)
-            );
+            EventBroadcaster.broadcast(world, Text.literal("The Overgrowth is beginning to subside...").formatted(Formatting.YELLOW), true);
         }
 
         // Debug messages for operators every minute
@@ -258,7 +337,7 @@ public class OvergrowthEvent implements CustomWorldEvent {
     private void spawnRootgraspSeedParticles(ServerWorld world) {
         // Cap the maximum number of active rootgrasp seed particles - scales with intensity
         int maxParticles = 8 + (intensity * 7); // Increased max particles
-        if (activeRootgraspSeedParticles.size() >= maxParticles) {
+        if (rootgraspSeeds.size() >= maxParticles) {
             return;
         }
 
@@ -277,9 +356,9 @@ public class OvergrowthEvent implements CustomWorldEvent {
                 BlockPos playerPos = player.getBlockPos();
 
                 // Generate particle at a random position around the player
-                int radius = 6 + world.getRandom().nextInt(10); // Adjusted range: 6-16 blocks
-                int offsetX = world.getRandom().nextInt(radius * 2) - radius;
-                int offsetZ = world.getRandom().nextInt(radius * 2) - radius;
+                int radius = 6 + random.nextInt(10); // Adjusted range: 6-16 blocks
+                int offsetX = random.nextInt(radius * 2) - radius;
+                int offsetZ = random.nextInt(radius * 2) - radius;
 
                 // Log attempt details
                 if (forcedAttempt == 0) {
@@ -296,9 +375,8 @@ public class OvergrowthEvent implements CustomWorldEvent {
                     continue;
                 }
 
-                // Create a UUID for this particle to track it
-                UUID particleId = UUID.randomUUID();
-                activeRootgraspSeedParticles.put(particleId, groundPos);
+                // Track the seed until it is collected or withers
+                rootgraspSeeds.spawn(rootgraspSeed, groundPos, ROOTGRASP_SEED_LIFETIME);
                 seedParticlesSpawned++;
                 successes++;
 
@@ -313,7 +391,7 @@ public class OvergrowthEvent implements CustomWorldEvent {
                 try {
                     // Spawn more particles to make them more visible
                     for (int i = 0; i < 8; i++) { // Increased particle count
-                        world.spawnParticles(
+                        ParticleBatcher.spawn(world, 
                                 new DustParticleEffect(ROOTGRASP_SEED_PARTICLE_COLOR, ROOTGRASP_SEED_PARTICLE_SIZE),
                                 particlePos.x, particlePos.y, particlePos.z,
                                 1, 0.1, 0.1, 0.1, 0
@@ -321,20 +399,20 @@ public class OvergrowthEvent implements CustomWorldEvent {
                     }
 
                     // Also spawn vanilla particles for better visibility
-                    world.spawnParticles(
+                    ParticleBatcher.spawn(world, 
                             ParticleTypes.HAPPY_VILLAGER,
                             particlePos.x, particlePos.y + 0.2, particlePos.z,
                             8, 0.2, 0.2, 0.2, 0.01
                     );
                     
                     // Play a sound to make it more noticeable
-                    world.playSound(
-                            null,
+                    EventBroadcaster.playSound(
+                            world,
                             groundPos,
                             SoundEvents.BLOCK_GRASS_PLACE,
                             SoundCategory.BLOCKS,
                             0.8f,
-                            1.0f + (world.getRandom().nextFloat() * 0.3f)
+                            1.0f + (random.nextFloat() * 0.3f)
                     );
                 } catch (Exception e) {
                 }
@@ -361,7 +439,7 @@ public class OvergrowthEvent implements CustomWorldEvent {
         int maxY = Math.min(world.getTopY(), startY + 15);
 
         // Debug logging for troubleshooting
-        boolean verbose = world.getRandom().nextInt(20) == 0; // 5% chance to log details
+        boolean verbose = random.nextInt(20) == 0; // 5% chance to log details
         if (verbose) {
         }
 
@@ -446,115 +524,69 @@ public class OvergrowthEvent implements CustomWorldEvent {
 
 
     /**
-     * Check if players are standing on rootgrasp seed particles to collect them
+     * A rootgrasp seed lying on the ground. Players collect it by standing on or next to it.
      */
-    private void checkRootgraspSeedCollection(ServerWorld world) {
-        // Skip if no particles or no players
-        if (activeRootgraspSeedParticles.isEmpty() || world.getPlayers().isEmpty()) {
-            return;
+    private class RootgraspSeed implements CollectibleField.Behavior {
+        @Override
+        public double reach() {
+            return ROOTGRASP_SEED_COLLECTION_RADIUS;
         }
 
-        // Debug occasionally
-        boolean debugThisTick = world.getRandom().nextInt(100) == 0;
-        if (debugThisTick) {
+        @Override
+        public boolean canPickUp(CollectibleField.Collectible seed, PlayerEntity player) {
+            // Within collection radius horizontally and at most 2 blocks vertically
+            double dx = player.getX() - seed.getX();
+            double dz = player.getZ() - seed.getZ();
+            return dx * dx + dz * dz <= ROOTGRASP_SEED_COLLECTION_RADIUS * ROOTGRASP_SEED_COLLECTION_RADIUS
+                    && Math.abs(player.getY() - (seed.getY() + 1.5)) <= 2.0;
         }
 
-        // Tick each particle
-        Iterator<Map.Entry<UUID, BlockPos>> iterator = activeRootgraspSeedParticles.entrySet().iterator();
-
-        while (iterator.hasNext()) {
-            Map.Entry<UUID, BlockPos> entry = iterator.next();
-            UUID particleId = entry.getKey();
-            BlockPos seedPos = entry.getValue();
-
-            // Skip if the chunk isn't loaded
-            if (!world.isChunkLoaded(seedPos)) {
-                if (world.getRandom().nextFloat() < 0.05f) { // 5% chance to remove unloaded particles
-                    iterator.remove();
-                }
-                continue;
-            }
-            
-            // Additional safety check for chunk access
-            try {
-                world.getChunk(seedPos);
-            } catch (Exception e) {
-                // Remove particles in problematic chunks
-                iterator.remove();
-                continue;
-            }
+        @Override
+        public void onPickup(ServerWorld world, CollectibleField.Collectible seed, PlayerEntity player) {
+            collectRootgraspSeed(player, seed.getBlockPos(), world);
+        }
 
+        @Override
+        public void tick(ServerWorld world, CollectibleField.Collectible seed) {
             // Generate particle effects EVERY tick to make it more visible
-            Vec3d particlePos = new Vec3d(
-                    seedPos.getX() + 0.5,
-                    seedPos.getY() + 0.15, // Slightly higher for better visibility
-                    seedPos.getZ() + 0.5
-            );
+            double x = seed.getX();
+            double y = seed.getY() + 0.15; // Slightly higher for better visibility
+            double z = seed.getZ();
 
             // Main particle - MORE particles for increased visibility
-            world.spawnParticles(
+            ParticleBatcher.spawn(world,
                     new DustParticleEffect(ROOTGRASP_SEED_PARTICLE_COLOR, ROOTGRASP_SEED_PARTICLE_SIZE),
-                    particlePos.x, particlePos.y, particlePos.z,
+                    x, y, z,
                     2, // Spawn 2 at once
                     0.1, 0.1, 0.1,
                     0
             );
 
             // Add vanilla particles for better visibility EVERY tick
-            world.spawnParticles(
+            ParticleBatcher.spawn(world,
                     ParticleTypes.HAPPY_VILLAGER,
-                    particlePos.x, particlePos.y + 0.2, particlePos.z,
+                    x, y + 0.2, z,
                     1,
                     0.1, 0.1, 0.1,
                     0.0
             );
 
             // Small "pulsing" particles - keep these for visual effect
-            if (world.getRandom().nextInt(2) == 0) {
+            if (random.nextInt(2) == 0) {
                 for (int i = 0; i < 2; i++) {
-                    world.spawnParticles(
+                    ParticleBatcher.spawn(world,
                             new DustParticleEffect(new Vec3f(0.1f, 0.9f, 0.1f), 0.5f),
-                            particlePos.x + (world.getRandom().nextDouble() - 0.5) * 0.3,
-                            particlePos.y + world.getRandom().nextDouble() * 0.2,
-                            particlePos.z + (world.getRandom().nextDouble() - 0.5) * 0.3,
+                            x + (random.nextDouble() - 0.5) * 0.3,
+                            y + random.nextDouble() * 0.2,
+                            z + (random.nextDouble() - 0.5) * 0.3,
                             1,
-                            (world.getRandom().nextDouble() - 0.5) * 0.01,
-                            world.getRandom().nextDouble() * 0.03,
-                            (world.getRandom().nextDouble() - 0.5) * 0.01,
+                            (random.nextDouble() - 0.5) * 0.01,
+                            random.nextDouble() * 0.03,
+                            (random.nextDouble() - 0.5) * 0.01,
                             0.01f
                     );
                 }
             }
-
-            // Randomly remove particles over time (5% chance every 5 seconds)
-            if (ticksRemaining % 100 == 0 && world.getRandom().nextFloat() < 0.05f) {
-                iterator.remove();
-                continue;
-            }
-
-            // Check if any player is standing on or very close to the particle
-            for (PlayerEntity player : world.getPlayers()) {
-                Vec3d playerExactPos = player.getPos();
-
-                // Check if player is within collection radius horizontally and at most 2 blocks vertically
-                double dx = playerExactPos.x - (seedPos.getX() + 0.5);
-                double dz = playerExactPos.z - (seedPos.getZ() + 0.5);
-                double horizontalDistSq = dx * dx + dz * dz;
-
-                if (horizontalDistSq <= ROOTGRASP_SEED_COLLECTION_RADIUS * ROOTGRASP_SEED_COLLECTION_RADIUS &&
-                        Math.abs(playerExactPos.y - (seedPos.getY() + 1.5)) <= 2.0) {
-
-                    // Player collected the rootgrasp seed!
-                    collectRootgraspSeed(player, seedPos, world);
-                    iterator.remove();
-                    break;
-                }
-                
-                // Debug player distances occasionally
-                if (debugThisTick && horizontalDistSq < 25) { // Only if within 5 blocks
-
-                }
-            }
         }
     }
 
@@ -564,7 +596,7 @@ public class OvergrowthEvent implements CustomWorldEvent {
     private void collectRootgraspSeed(PlayerEntity player, BlockPos seedPos, ServerWorld world) {
         try {
             // Create 1-3 rootgrasp seeds based on intensity
-            int seedCount = 1 + world.getRandom().nextInt(intensity);
+            int seedCount = 1 + random.nextInt(intensity);
 
             // Get the item from the ModItems registry
             if (ModItems.ROOTGRASP_FLOWER_SEEDS != null) {
@@ -576,7 +608,7 @@ public class OvergrowthEvent implements CustomWorldEvent {
                 }
 
                 // Send message to player
-                player.sendMessage(Text.literal("You collected " +
+                EventBroadcaster.sendMessage(player, Text.literal("You collected " +
                                 (seedCount > 1 ? seedCount + " Rootgrasp Seeds!" : "a Rootgrasp Seed!"))
                         .formatted(Formatting.GREEN, Formatting.BOLD), true);
 
@@ -584,24 +616,24 @@ public class OvergrowthEvent implements CustomWorldEvent {
                 seedsCollected += seedCount;
             } else {
                 // Log failure if the item isn't available
-                player.sendMessage(Text.literal("You try to collect a rootgrasp seed, but it crumbles away...")
+                EventBroadcaster.sendMessage(player, Text.literal("You try to collect a rootgrasp seed, but it crumbles away...")
                         .formatted(Formatting.RED), true);
 
             }
         } catch (Exception e) {
             // Fallback message if there's an error
-            player.sendMessage(Text.literal("You try to collect a rootgrasp seed, but something went wrong...")
+            EventBroadcaster.sendMessage(player, Text.literal("You try to collect a rootgrasp seed, but something went wrong...")
                     .formatted(Formatting.RED), true);
         }
 
         // Play sound and particles for collection regardless of success
-        world.playSound(
-                null,
+        EventBroadcaster.playSound(
+                world,
                 seedPos,
                 SoundEvents.BLOCK_GRASS_BREAK,
                 SoundCategory.BLOCKS,
                 1.0f,
-                1.0f + (world.getRandom().nextFloat() * 0.3f)
+                1.0f + (random.nextFloat() * 0.3f)
         );
 
         // Create particle burst effect
@@ -610,19 +642,19 @@ public class OvergrowthEvent implements CustomWorldEvent {
         // Green particle burst - more particles at higher intensity
         int particleCount = 10 + (intensity * 5);
         for (int i = 0; i < particleCount; i++) {
-            world.spawnParticles(
-                    new DustParticleEffect(new Vec3f(0.2f, 0.8f, 0.2f), world.getRandom().nextFloat() * 0.5f + 0.5f),
+            ParticleBatcher.spawn(world, 
+                    new DustParticleEffect(new Vec3f(0.2f, 0.8f, 0.2f), random.nextFloat() * 0.5f + 0.5f),
                     burstPos.x, burstPos.y, burstPos.z,
                     1,
-                    (world.getRandom().nextDouble() - 0.5) * 0.3,
-                    world.getRandom().nextDouble() * 0.3,
-                    (world.getRandom().nextDouble() - 0.5) * 0.3,
+                    (random.nextDouble() - 0.5) * 0.3,
+                    random.nextDouble() * 0.3,
+                    (random.nextDouble() - 0.5) * 0.3,
                     0.05f
             );
         }
 
         // Add some vanilla particles too
-        world.spawnParticles(
+        ParticleBatcher.spawn(world, 
                 ParticleTypes.HAPPY_VILLAGER,
                 burstPos.x, burstPos.y + 0.5, burstPos.z,
                 intensity * 5,
@@ -632,116 +664,127 @@ public class OvergrowthEvent implements CustomWorldEvent {
     }
 
     private void applyOvergrowthEffects(ServerWorld world) {
+        // Queue each player's share; WorldEventManager runs it within the tick budget
+        for (PlayerEntity player : world.getPlayers()) {
+            workQueue.enqueue(player, overgrowthWork);
+        }
+    }
+
+    /**
+     * Transform random blocks around one player
+     */
+    private void applyOvergrowthEffectsNearPlayer(ServerWorld world, PlayerEntity player) {
         // Track transformation statistics for debugging
         int transformAttempts = 0;
         int transformSuccess = 0;
 
+        BlockPos playerPos = player.getBlockPos();
 
-        // Process blocks near each player
-        for (PlayerEntity player : world.getPlayers()) {
-            BlockPos playerPos = player.getBlockPos();
+        // Process a specific number of random blocks near the player
+        int blocksToProcess = 15 * intensity; // 15, 30, or 45 blocks per player
 
-            // Process a specific number of random blocks near the player
-            int blocksToProcess = 15 * intensity; // 15, 30, or 45 blocks per player
 
+        // Process random blocks near the player
+        for (int i = 0; i < blocksToProcess; i++) {
+            // Choose a random position near the player
+            int radius = PROBE_RADIUS; // Fixed, reasonable radius
+            int x = playerPos.getX() + random.nextInt(radius * 2) - radius;
+            int y = playerPos.getY() + random.nextInt(PROBE_HEIGHT * 2) - PROBE_HEIGHT; // Up to 4 blocks up/down
+            int z = playerPos.getZ() + random.nextInt(radius * 2) - radius;
+            BlockPos pos = new BlockPos(x, y, z);
 
-            // Process random blocks near the player
-            for (int i = 0; i < blocksToProcess; i++) {
-                // Choose a random position near the player
-                int radius = 8; // Fixed, reasonable radius
-                int x = playerPos.getX() + world.getRandom().nextInt(radius * 2) - radius;
-                int y = playerPos.getY() + world.getRandom().nextInt(8) - 4; // Up to 4 blocks up/down
-                int z = playerPos.getZ() + world.getRandom().nextInt(radius * 2) - radius;
-                BlockPos pos = new BlockPos(x, y, z);
+            // Skip if chunk isn't loaded
+            if (!world.isChunkLoaded(pos)) {
+                continue;
+            }
 
-                // Skip if chunk isn't loaded
-                if (!world.isChunkLoaded(pos)) {
-                    continue;
-                }
+            // Swap the probe for a known candidate in its section, or skip a section with none
+            pos = candidateFinder.draw(world, pos, playerPos, radius, PROBE_HEIGHT, random);
+            if (pos == null) {
+                continue;
+            }
 
-                transformAttempts++;
+            transformAttempts++;
 
-                try {
-                    // Get the block and attempt transformation
-                    BlockState state = world.getBlockState(pos);
-                    Block block = state.getBlock();
+            try {
+                // Get the block and attempt transformation
+                BlockState state = world.getBlockState(pos);
+                Block block = state.getBlock();
 
-                    // Log some sample blocks (10% chance)
-                    if (world.getRandom().nextInt(10) == 0) {
-                    }
+                // Log some sample blocks (10% chance)
+                if (random.nextInt(10) == 0) {
+                }
+
+                boolean transformed = false;
 
-                    boolean transformed = false;
+                // 1. Try moss transformations - guaranteed success
+                if (MOSS_TRANSFORMATIONS.containsKey(block)) {
+                    Block mossyVariant = MOSS_TRANSFORMATIONS.get(block);
+                    BlockChangeBatcher.set(world, pos, mossyVariant.getDefaultState());
+                    transformed = true;
 
-                    // 1. Try moss transformations - guaranteed success
-                    if (MOSS_TRANSFORMATIONS.containsKey(block)) {
-                        Block mossyVariant = MOSS_TRANSFORMATIONS.get(block);
-                        world.setBlockState(pos, mossyVariant.getDefaultState(), Block.NOTIFY_ALL);
+
+                    // Visual feedback
+                    ParticleBatcher.spawn(world, ParticleTypes.HAPPY_VILLAGER,
+                            pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
+                            8, 0.3, 0.3, 0.3, 0.01);
+                }
+                // 2. Try dirt/stone/grass to moss - high success rate
+                else if ((block == Blocks.DIRT || block == Blocks.STONE ||
+                        block == Blocks.GRASS_BLOCK) &&
+                        world.getBlockState(pos.up()).isAir()) {
+                    // 50% chance
+                    if (random.nextFloat() < 0.5f) {
+                        BlockChangeBatcher.set(world, pos, Blocks.MOSS_BLOCK.getDefaultState());
                         transformed = true;
 
 
+
                         // Visual feedback
-                        world.spawnParticles(ParticleTypes.HAPPY_VILLAGER,
+                        ParticleBatcher.spawn(world, ParticleTypes.HAPPY_VILLAGER,
                                 pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
                                 8, 0.3, 0.3, 0.3, 0.01);
                     }
-                    // 2. Try dirt/stone/grass to moss - high success rate
-                    else if ((block == Blocks.DIRT || block == Blocks.STONE ||
-                            block == Blocks.GRASS_BLOCK) &&
-                            world.getBlockState(pos.up()).isAir()) {
-                        // 50% chance
-                        if (world.getRandom().nextFloat() < 0.5f) {
-                            world.setBlockState(pos, Blocks.MOSS_BLOCK.getDefaultState(), Block.NOTIFY_ALL);
+                }
+                // 3. Try crop growth
+                else if (block instanceof CropBlock) {
+                    CropBlock crop = (CropBlock) block;
+                    if (!crop.isMature(state)) {
+                        try {
+                            int age = state.get(CropBlock.AGE);
+                            int maxAge = crop.getMaxAge();
+
+                            // Force growth of 1-2 stages
+                            int newAge = Math.min(maxAge, age + 1 + random.nextInt(intensity));
+
+                            // Update the block
+                            BlockChangeBatcher.set(world, pos, state.with(CropBlock.AGE, newAge));
                             transformed = true;
 
 
 
                             // Visual feedback
-                            world.spawnParticles(ParticleTypes.HAPPY_VILLAGER,
+                            ParticleBatcher.spawn(world, ParticleTypes.HAPPY_VILLAGER,
                                     pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
-                                    8, 0.3, 0.3, 0.3, 0.01);
-                        }
-                    }
-                    // 3. Try crop growth
-                    else if (block instanceof CropBlock) {
-                        CropBlock crop = (CropBlock) block;
-                        if (!crop.isMature(state)) {
-                            try {
-                                int age = state.get(CropBlock.AGE);
-                                int maxAge = crop.getMaxAge();
+                                    5, 0.3, 0.3, 0.3, 0.01);
+                        } catch (Exception e) {
 
-                                // Force growth of 1-2 stages
-                                int newAge = Math.min(maxAge, age + 1 + world.getRandom().nextInt(intensity));
-
-                                // Update the block
-                                world.setBlockState(pos, state.with(CropBlock.AGE, newAge), Block.NOTIFY_ALL);
-                                transformed = true;
-
-
-
-                                // Visual feedback
-                                world.spawnParticles(ParticleTypes.HAPPY_VILLAGER,
-                                        pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
-                                        5, 0.3, 0.3, 0.3, 0.01);
-                            } catch (Exception e) {
-
-                            }
                         }
                     }
+                }
 
-                    // Track successful transformations
-                    if (transformed) {
-                        transformSuccess++;
-                        blockTransformations++;
-                    }
-                } catch (Exception e) {
-
+                // Track successful transformations
+                if (transformed) {
+                    transformSuccess++;
+                    blockTransformations++;
                 }
-            }
+            } catch (Exception e) {
 
-            // Always do guaranteed effects for each player
-            applyGuaranteedEffectsNearPlayer(world, player, world.getRandom());
+            }
         }
 
+        // Always do guaranteed effects for each player
+        applyGuaranteedEffectsNearPlayer(world, player, random);
     }
 
     /**
@@ -778,17 +821,16 @@ public class OvergrowthEvent implements CustomWorldEvent {
                 // Guaranteed moss transformation
                 if (MOSS_TRANSFORMATIONS.containsKey(block)) {
                     Block mossyVariant = MOSS_TRANSFORMATIONS.get(block);
-                    world.setBlockState(pos, mossyVariant.getDefaultState());
+                    BlockChangeBatcher.set(world, pos, mossyVariant.getDefaultState());
                     blockTransformations++;
 
                     // Visual and sound feedback
-                    world.spawnParticles(ParticleTypes.HAPPY_VILLAGER,
+                    ParticleBatcher.spawn(world, ParticleTypes.HAPPY_VILLAGER,
                             pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
                             8, 0.3, 0.3, 0.3, 0.01);
 
                     if (random.nextBoolean()) {
-                        world.playSound(
-                                null, pos, SoundEvents.BLOCK_MOSS_PLACE, SoundCategory.BLOCKS,
+                        EventBroadcaster.playSound(world, pos, SoundEvents.BLOCK_MOSS_PLACE, SoundCategory.BLOCKS,
                                 0.5f, 0.8f + (random.nextFloat() * 0.4f)
                         );
                     }
@@ -799,17 +841,16 @@ public class OvergrowthEvent implements CustomWorldEvent {
                 // Grass/dirt/stone to moss blocks
                 else if ((block == Blocks.DIRT || block == Blocks.STONE || block == Blocks.GRASS_BLOCK) &&
                         world.getBlockState(pos.up()).isAir()) {
-                    world.setBlockState(pos, Blocks.MOSS_BLOCK.getDefaultState());
+                    BlockChangeBatcher.set(world, pos, Blocks.MOSS_BLOCK.getDefaultState());
                     blockTransformations++;
 
                     // Visual and sound feedback
-                    world.spawnParticles(ParticleTypes.HAPPY_VILLAGER,
+                    ParticleBatcher.spawn(world, ParticleTypes.HAPPY_VILLAGER,
                             pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
                             8, 0.3, 0.3, 0.3, 0.01);
 
                     if (random.nextBoolean()) {
-                        world.playSound(
-                                null, pos, SoundEvents.BLOCK_MOSS_PLACE, SoundCategory.BLOCKS,
+                        EventBroadcaster.playSound(world, pos, SoundEvents.BLOCK_MOSS_PLACE, SoundCategory.BLOCKS,
                                 0.5f, 0.8f + (random.nextFloat() * 0.4f)
                         );
                     }
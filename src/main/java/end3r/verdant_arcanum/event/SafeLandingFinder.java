@@ -0,0 +1,240 @@
+package end3r.verdant_arcanum.event;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Safe teleport destinations around players, found ahead of time.
+ *
+ * Each player gets a small ring of candidate landing spots: a column at a random angle and
+ * distance, checked against the chunk heightmap first and scanned only when the surface is out
+ * of reach. One slot is refreshed every few ticks, so the ring follows the player as they move.
+ * A candidate is dropped if a block in its column changes (see ServerWorldBlockChangeMixin)
+ * or it gets old, so a teleport can take one without checking the world again.
+ */
+public class SafeLandingFinder {
+    private static final int RING_SIZE = 8;
+    private static final int REFRESH_INTERVAL = 5;
+    private static final int MAX_AGE_TICKS = 100;
+    private static final int PRUNE_INTERVAL = 20;
+
+    public static final int NO_LANDING = Integer.MIN_VALUE;
+
+    // Last change time of recently changed columns, per dimension; only kept while a finder is in use
+    private static final Map<RegistryKey<World>, Long2LongOpenHashMap> CHANGED_COLUMNS = new HashMap<>();
+    private static final Map<RegistryKey<World>, Long> LAST_USED = new HashMap<>();
+
+    private final double minDistance;
+    private final double maxDistance;
+    private final int searchUp;
+    private final int searchDown;
+    private final Map<UUID, Ring> rings = new HashMap<>();
+
+    /**
+     * Candidates for one player, as packed positions with the tick each was checked
+     */
+    private static class Ring {
+        private final long[] positions = new long[RING_SIZE];
+        private final long[] checkedAt = new long[RING_SIZE];
+        private int next = 0;
+
+        private Ring() {
+            Arrays.fill(checkedAt, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * @param minDistance closest a candidate may be to the player, horizontally
+     * @param maxDistance furthest a candidate may be from the player, horizontally
+     * @param searchUp blocks above the player's feet a landing may be
+     * @param searchDown blocks below the player's feet a landing may be
+     */
+    public SafeLandingFinder(double minDistance, double maxDistance, int searchUp, int searchDown) {
+        this.minDistance = minDistance;
+        this.maxDistance = maxDistance;
+        this.searchUp = searchUp;
+        this.searchDown = searchDown;
+    }
+
+    /**
+     * Refresh a slot of each player's ring when it is due. Called every tick.
+     *
+     * @param random the calling event's generator, so seeded runs pick the same spots
+     */
+    public void tick(ServerWorld world, Random random) {
+        long time = world.getTime();
+        LAST_USED.put(world.getRegistryKey(), time);
+        CHANGED_COLUMNS.computeIfAbsent(world.getRegistryKey(), key -> new Long2LongOpenHashMap());
+
+        for (PlayerEntity player : world.getPlayers()) {
+            // Stagger players so their refreshes don't all land on the same tick
+            if ((time + player.getId()) % REFRESH_INTERVAL != 0) {
+                continue;
+            }
+            Ring ring = rings.computeIfAbsent(player.getUuid(), uuid -> new Ring());
+
+            double distance = minDistance + random.nextDouble() * (maxDistance - minDistance);
+            double angle = random.nextDouble() * Math.PI * 2.0;
+            int x = MathHelper.floor(player.getX() + Math.sin(angle) * distance);
+            int z = MathHelper.floor(player.getZ() + Math.cos(angle) * distance);
+            int y = findLanding(world, x, z, player.getBlockY());
+
+            int slot = ring.next;
+            ring.next = (ring.next + 1) % RING_SIZE;
+            if (y == NO_LANDING) {
+                ring.checkedAt[slot] = Long.MIN_VALUE;
+            } else {
+                ring.positions[slot] = BlockPos.asLong(x, y, z);
+                ring.checkedAt[slot] = time;
+            }
+        }
+
+        if (time % PRUNE_INTERVAL == 0) {
+            rings.keySet().removeIf(uuid -> world.getPlayerByUuid(uuid) == null);
+        }
+    }
+
+    /**
+     * Take a still-valid candidate whose horizontal distance from the player is within the
+     * given range. Candidates outside it are left for a later call with a wider range.
+     *
+     * @return the feet position to land at, or null if no valid candidate is in range
+     */
+    public BlockPos take(ServerWorld world, PlayerEntity player, double preferredMin, double preferredMax) {
+        Ring ring = rings.get(player.getUuid());
+        if (ring == null) {
+            return null;
+        }
+        long time = world.getTime();
+        Long2LongOpenHashMap changed = CHANGED_COLUMNS.get(world.getRegistryKey());
+
+        for (int slot = 0; slot < RING_SIZE; slot++) {
+            long checkedAt = ring.checkedAt[slot];
+            if (checkedAt == Long.MIN_VALUE) {
+                continue;
+            }
+            long packed = ring.positions[slot];
+            int x = BlockPos.unpackLongX(packed);
+            int z = BlockPos.unpackLongZ(packed);
+            if (time - checkedAt >= MAX_AGE_TICKS
+                    || (changed != null && changed.getOrDefault(columnKey(x, z), Long.MIN_VALUE) >= checkedAt)) {
+                ring.checkedAt[slot] = Long.MIN_VALUE;
+                continue;
+            }
+
+            // Left behind as the player moved
+            double dx = x + 0.5 - player.getX();
+            double dz = z + 0.5 - player.getZ();
+            double distance = Math.sqrt(dx * dx + dz * dz);
+            if (distance > maxDistance || Math.abs(BlockPos.unpackLongY(packed) - player.getBlockY()) > Math.max(searchUp, searchDown)) {
+                continue;
+            }
+            if (distance >= preferredMin && distance <= preferredMax) {
+                ring.checkedAt[slot] = Long.MIN_VALUE;
+                return BlockPos.fromLong(packed);
+            }
+        }
+        return null;
+    }
+
+    public void clear() {
+        rings.clear();
+    }
+
+    /**
+     * Find where a player could stand in a column: two blocks with nothing to collide with and
+     * no fluid, on top of a block with a full top face. Looks up from nearY first, then down.
+     *
+     * @return the y of the feet position, or NO_LANDING
+     */
+    public int findLanding(ServerWorld world, int x, int z, int nearY) {
+        if (!world.getChunkManager().isChunkLoaded(x >> 4, z >> 4)) {
+            return NO_LANDING;
+        }
+        WorldChunk chunk = world.getChunk(x >> 4, z >> 4);
+
+        if (!world.getDimension().hasCeiling()) {
+            // Most candidates are on the surface, which the heightmap gives directly
+            int surfaceY = chunk.sampleHeightmap(Heightmap.Type.MOTION_BLOCKING, x & 15, z & 15) + 1;
+            if (surfaceY >= nearY - searchDown && surfaceY <= nearY + searchUp && canStandAt(world, chunk, x, surfaceY, z)) {
+                return surfaceY;
+            }
+        }
+
+        for (int y = 0; y <= searchUp; y++) {
+            if (canStandAt(world, chunk, x, nearY + y, z)) {
+                return nearY + y;
+            }
+        }
+        for (int y = 1; y <= searchDown; y++) {
+            if (canStandAt(world, chunk, x, nearY - y, z)) {
+                return nearY - y;
+            }
+        }
+        return NO_LANDING;
+    }
+
+    /**
+     * Note a block change, so candidates in its column are dropped.
+     */
+    public static void invalidate(ServerWorld world, BlockPos pos) {
+        Long2LongOpenHashMap changed = CHANGED_COLUMNS.get(world.getRegistryKey());
+        if (changed != null) {
+            changed.put(columnKey(pos.getX(), pos.getZ()), world.getTime());
+        }
+    }
+
+    /**
+     * Forget old changes, and stop recording changes in worlds no finder has used lately.
+     * Called at the end of each world tick.
+     */
+    public static void endTick(ServerWorld world) {
+        Long2LongOpenHashMap changed = CHANGED_COLUMNS.get(world.getRegistryKey());
+        if (changed == null || world.getTime() % MAX_AGE_TICKS != 0) {
+            return;
+        }
+        long time = world.getTime();
+        if (time - LAST_USED.getOrDefault(world.getRegistryKey(), Long.MIN_VALUE) > MAX_AGE_TICKS) {
+            CHANGED_COLUMNS.remove(world.getRegistryKey());
+            LAST_USED.remove(world.getRegistryKey());
+            return;
+        }
+        changed.long2LongEntrySet().removeIf(entry -> time - entry.getLongValue() >= MAX_AGE_TICKS);
+    }
+
+    private static boolean canStandAt(ServerWorld world, WorldChunk chunk, int x, int y, int z) {
+        if (world.isOutOfHeightLimit(y - 1) || world.isOutOfHeightLimit(y + 1)) {
+            return false;
+        }
+        BlockPos.Mutable check = new BlockPos.Mutable(x, y, z);
+        if (!isPassable(world, chunk, check) || !isPassable(world, chunk, check.setY(y + 1))) {
+            return false;
+        }
+        check.setY(y - 1);
+        return chunk.getBlockState(check).isSideSolidFullSquare(world, check, Direction.UP);
+    }
+
+    private static boolean isPassable(ServerWorld world, WorldChunk chunk, BlockPos pos) {
+        BlockState state = chunk.getBlockState(pos);
+        return state.getCollisionShape(world, pos).isEmpty() && state.getFluidState().isEmpty();
+    }
+
+    private static long columnKey(int x, int z) {
+        return BlockPos.asLong(x, 0, z);
+    }
+}
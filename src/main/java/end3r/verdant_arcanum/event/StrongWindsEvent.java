@@ -1,5 +1,6 @@
 package end3r.verdant_arcanum.event;
 
+import end3r.verdant_arcanum.network.ParticleBatcher;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -21,6 +22,7 @@ import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.Vec3f;
+import net.minecraft.util.math.random.Random;
 import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.network.PacketByteBuf;
@@ -40,6 +42,8 @@ public class StrongWindsEvent implements CustomWorldEvent {
     private boolean hasStartedFade = false;
     private static final int FADE_OUT_TICKS = 20 * 10; // 10 second fade-out
     private int strength = 2; // Default medium strength (1=mild, 2=moderate, 3=severe)
+    private int baseStrength = 2; // Strength as configured, before load scaling
+    private int loadLevel = 0;
     private boolean userDefinedDirection = false;
     public static final Identifier WIND_PACKET_ID = new Identifier("verdant_arcanum", "wind_direction");
 
@@ -49,16 +53,48 @@ public class StrongWindsEvent implements CustomWorldEvent {
     private static final int GUST_SEED_SPAWN_CHANCE = 10; // 1 in X chance per spawn cycle
     private static final double GUST_SEED_COLLECTION_RADIUS = 1.0; // Player must be this close to collect
 
-    // Track active gust seed particles
-    private final Map<UUID, Vec3d> activeGustSeedParticles = new HashMap<>();
-    private final Random random = new Random();
+    private static final double GUST_SEED_MAX_TRAVEL = 50.0; // Blocks a seed drifts before it disperses
+
+    // Active gust seeds drifting on the wind
+    private final CollectibleField gustSeeds = new CollectibleField();
+    private final CollectibleField.Behavior gustSeed = new GustSeed();
+    // Every random choice of a run; seeded by WorldEventManager before start()
+    private final Random random = Random.create();
+
+    // Per-player entity pushing, run within the tick budget
+    private final EventWorkQueue workQueue = new EventWorkQueue();
+    private final EventWorkQueue.PlayerWork windWork =
+            EventWorkQueue.timed("affectEntitiesNearPlayer", this::affectEntitiesNearPlayer);
+    private float entityWindMultiplier = 0;
+    // Shared search over every player's surroundings, so each entity is pushed once per tick
+    private final EntityRegionQuery windRegion = new EntityRegionQuery(50, 20);
+
+    // Caps and rate-limits the light blocks the wind knocks loose
+    private final FallingBlockSpawner fallingBlocks = new FallingBlockSpawner();
 
     /**
      * Set the strength of the wind event
      * @param strength 1=mild, 2=moderate, 3=severe
      */
     public void setStrength(int strength) {
-        this.strength = Math.max(1, Math.min(3, strength)); // Clamp between 1-3
+        this.baseStrength = Math.max(1, Math.min(3, strength)); // Clamp between 1-3
+        this.strength = Math.max(1, baseStrength - loadLevel);
+    }
+
+    @Override
+    public void setLoadLevel(int level) {
+        loadLevel = level;
+        strength = Math.max(1, baseStrength - loadLevel);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    @Override
+    public EventWorkQueue getWorkQueue() {
+        return workQueue;
     }
 
     /**
@@ -81,6 +117,21 @@ public class StrongWindsEvent implements CustomWorldEvent {
         }
     }
 
+    @Override
+    public void reset() {
+        ticksRemaining = DEFAULT_DURATION_TICKS;
+        windDirection = Vec3d.ZERO;
+        hasStartedFade = false;
+        strength = 2;
+        baseStrength = 2;
+        loadLevel = 0;
+        userDefinedDirection = false;
+        workQueue.clear();
+        entityWindMultiplier = 0;
+        gustSeeds.clear();
+        fallingBlocks.clear();
+    }
+
     @Override
     public void start(ServerWorld world) {
         // Adjust message based on strength
@@ -97,14 +148,12 @@ public class StrongWindsEvent implements CustomWorldEvent {
                 break;
         }
 
-        world.getPlayers().forEach(player ->
-                player.sendMessage(Text.literal("\uD83C\uDF2C️ " + strengthDesc + " Winds sweep across the land..."), true)
-        );
+        EventBroadcaster.broadcast(world, Text.literal("\uD83C\uDF2C️ " + strengthDesc + " Winds sweep across the land..."), true);
 
         // Only generate a random direction if not user-defined
         if (!userDefinedDirection) {
             // Pick base cardinal direction
-            Vec3d baseDir = switch (new Random().nextInt(4)) {
+            Vec3d baseDir = switch (random.nextInt(4)) {
                 case 0 -> new Vec3d(1, 0, 0);   // East
                 case 1 -> new Vec3d(-1, 0, 0);  // West
                 case 2 -> new Vec3d(0, 0, 1);   // South
@@ -112,7 +161,7 @@ public class StrongWindsEvent implements CustomWorldEvent {
             };
 
             // Apply ±15° gust offset
-            double angleOffset = Math.toRadians((new Random().nextDouble() - 0.5) * 30); // ±15°
+            double angleOffset = Math.toRadians((random.nextDouble() - 0.5) * 30); // ±15°
             double cos = Math.cos(angleOffset);
             double sin = Math.sin(angleOffset);
 
@@ -135,28 +184,21 @@ public class StrongWindsEvent implements CustomWorldEvent {
      */
     private void moveExistingParticles(ServerWorld world) {
         try {
+            // One search over all players' surroundings, so nothing is pushed twice
+            EntityRegionQuery particleRegion = new EntityRegionQuery(30.0, 30.0);
+            particleRegion.begin(world);
+
             // Find all particles within range of players
             for (PlayerEntity player : world.getPlayers()) {
                 Vec3d playerPos = player.getPos();
 
-                // Define search area around player
-                double searchRadius = 30.0;
-                Box searchBox = new Box(
-                        playerPos.getX() - searchRadius,
-                        playerPos.getY() - searchRadius,
-                        playerPos.getZ() - searchRadius,
-                        playerPos.getX() + searchRadius,
-                        playerPos.getY() + searchRadius,
-                        playerPos.getZ() + searchRadius
-                );
-
                 // Using the Entity.getEntitiesByType method to find particles
                 // Since particles aren't typical entities, we need to use the ParticleEffect system
 
                 // First, find all existing particle emitters in range
-                world.getEntitiesByClass(Entity.class, searchBox,
-                                entity -> entity instanceof net.minecraft.particle.ParticleEffect)
-                        .forEach(entity -> {
+                particleRegion.visitAround(world, player, Entity.class,
+                        entity -> entity instanceof net.minecraft.particle.ParticleEffect,
+                        entity -> {
                             // Apply wind force to existing particle entities
                             Vec3d velocity = entity.getVelocity();
                             float particleSpeed = 0.2f * strength;
@@ -171,14 +213,14 @@ public class StrongWindsEvent implements CustomWorldEvent {
                 // For gameplay effects, also spawn a burst of wind particles in the wind direction
                 int particleCount = strength * 20;
                 for (int i = 0; i < particleCount; i++) {
-                    double offsetX = (new Random().nextDouble() - 0.5) * 10;
-                    double offsetY = (new Random().nextDouble() - 0.5) * 5;
-                    double offsetZ = (new Random().nextDouble() - 0.5) * 10;
+                    double offsetX = (random.nextDouble() - 0.5) * 10;
+                    double offsetY = (random.nextDouble() - 0.5) * 5;
+                    double offsetZ = (random.nextDouble() - 0.5) * 10;
 
                     Vec3d particlePos = playerPos.add(offsetX, offsetY, offsetZ);
 
                     float particleSpeed = 0.1f * strength;
-                    world.spawnParticles(
+                    ParticleBatcher.spawn(world, 
                             new DustParticleEffect(new Vec3f(0.8f, 0.8f, 0.9f), 0.8f),
                             particlePos.x, particlePos.y, particlePos.z,
                             1, // count
@@ -194,14 +236,14 @@ public class StrongWindsEvent implements CustomWorldEvent {
                     // Start position ahead of player in wind direction
                     Vec3d startPos = playerPos.add(
                             -windDirection.x * 10,
-                            1.5 + new Random().nextDouble() * 3,
+                            1.5 + random.nextDouble() * 3,
                             -windDirection.z * 10
                     );
 
                     // Create stream of particles moving in wind direction
                     for (int j = 0; j < 15; j++) {
                         Vec3d streamPos = startPos.add(windDirection.multiply(j * 1.5));
-                        world.spawnParticles(
+                        ParticleBatcher.spawn(world, 
                                 new DustParticleEffect(new Vec3f(0.85f, 0.85f, 0.95f), 0.7f),
                                 streamPos.x, streamPos.y, streamPos.z,
                                 1,
@@ -221,20 +263,25 @@ public class StrongWindsEvent implements CustomWorldEvent {
 
     @Override
     public void tick(ServerWorld world) {
+        long section;
+
         if (ticksRemaining % 20 == 0) { // Update once per second
+            section = EventMetrics.startSection();
             sendWindDataToClients(world);
+            EventMetrics.endSection(world, "sendWindDataToClients", section);
         }
 
         // In the tick method, add additional particles showing wind movement
+        section = EventMetrics.startSection();
         if (ticksRemaining % 5 == 0) {
             for (PlayerEntity player : world.getPlayers()) {
                 Vec3d playerPos = player.getPos();
 
                 // Create wind "streams" in the direction of the wind
                 for (int i = 0; i < 3; i++) {
-                    double offsetX = (new Random().nextDouble() - 0.5) * 10;
-                    double offsetY = (new Random().nextDouble() - 0.5) * 5 + 1.5;
-                    double offsetZ = (new Random().nextDouble() - 0.5) * 10;
+                    double offsetX = (random.nextDouble() - 0.5) * 10;
+                    double offsetY = (random.nextDouble() - 0.5) * 5 + 1.5;
+                    double offsetZ = (random.nextDouble() - 0.5) * 10;
 
                     Vec3d startPos = playerPos.add(offsetX, offsetY, offsetZ);
 
@@ -245,7 +292,7 @@ public class StrongWindsEvent implements CustomWorldEvent {
                         float baseSpeed = 0.05f * strength;
                         float speedMultiplier = (j + 1) / 4.0f; // Particles further along move faster
 
-                        world.spawnParticles(
+                        ParticleBatcher.spawn(world, 
                                 new DustParticleEffect(new Vec3f(0.8f, 0.8f, 0.95f), 0.8f),
                                 particlePos.x, particlePos.y, particlePos.z,
                                 1, // count - emit just one particle at each position
@@ -257,7 +304,7 @@ public class StrongWindsEvent implements CustomWorldEvent {
 
                         // Add a few smaller "trail" particles behind each main particle
                         if (j % 2 == 0) {
-                            world.spawnParticles(
+                            ParticleBatcher.spawn(world, 
                                     new DustParticleEffect(new Vec3f(0.85f, 0.85f, 1.0f), 0.5f),
                                     particlePos.x - (windDirection.x * 0.5),
                                     particlePos.y + 0.2,
@@ -273,12 +320,17 @@ public class StrongWindsEvent implements CustomWorldEvent {
                 }
             }
         }
+        EventMetrics.endSection(world, "spawnWindStreamParticles", section);
 
         // Spawn special cyan gust seed particles occasionally
+        section = EventMetrics.startSection();
         spawnGustSeedParticles(world);
+        EventMetrics.endSection(world, "spawnGustSeedParticles", section);
 
-        // Check for players collecting gust seed particles
-        checkGustSeedCollection(world);
+        // Move gust seeds, hand out the ones players catch and expire old ones
+        section = EventMetrics.startSection();
+        gustSeeds.tick(world);
+        EventMetrics.endSection(world, "tickGustSeeds", section);
 
         // Check if the event has finished
         if (ticksRemaining <= 0) {
@@ -298,15 +350,14 @@ public class StrongWindsEvent implements CustomWorldEvent {
             // Mark that we're in the fade-out phase
             if (!hasStartedFade) {
                 hasStartedFade = true;
-                world.getPlayers().forEach(player ->
-                        player.sendMessage(Text.literal("The winds begin to calm..."), true)
-                );
+                EventBroadcaster.broadcast(world, Text.literal("The winds begin to calm..."), true);
             }
         }
 
         // Scale effects by strength
         float strengthMultiplier = strength / 2.0f; // 0.5 for mild, 1.0 for moderate, 1.5 for severe
 
+        section = EventMetrics.startSection();
         for (PlayerEntity player : world.getPlayers()) {
             // Apply more gentle fading to velocity
             float velocityMultiplier = fadeMultiplier * 0.9f + 0.1f; // Range from 0.1 to 1.0 instead of 0 to 1.0
@@ -328,7 +379,7 @@ public class StrongWindsEvent implements CustomWorldEvent {
             int particleCount = Math.max(1, (int)(5 * particleFactor * strengthMultiplier));
             float particleSpeed = 0.05f * (0.5f + fadeMultiplier * 0.5f) * strengthMultiplier;
 
-            world.spawnParticles(
+            ParticleBatcher.spawn(world, 
                     new DustParticleEffect(new Vec3f(0.8f, 0.8f, 0.9f), 1.0f),
                     px, origin.y + 1.2, pz,
                     particleCount, 0.1, 0.1, 0.1, particleSpeed
@@ -342,7 +393,7 @@ public class StrongWindsEvent implements CustomWorldEvent {
                 float volumeFactor = fadeMultiplier * fadeMultiplier * fadeMultiplier;
                 float volume = (0.4f + 0.8f * volumeFactor) * strengthMultiplier; // Range scales with strength
                 float pitch = 0.9f + 0.2f * fadeMultiplier; // Slightly lower pitch as wind dies down
-                player.playSound(STRONG_WIND_SOUND, SoundCategory.AMBIENT, volume, pitch);
+                EventBroadcaster.playSoundTo(player, STRONG_WIND_SOUND, SoundCategory.AMBIENT, volume, pitch);
             }
 
             // More gradual status effect reduction
@@ -357,14 +408,20 @@ public class StrongWindsEvent implements CustomWorldEvent {
                 }
             }
         }
+        EventMetrics.endSection(world, "pushPlayers", section);
 
         // Apply effects to projectiles and entities
-        affectAllEntities(world, fadeMultiplier * strengthMultiplier);
+        entityWindMultiplier = fadeMultiplier * strengthMultiplier;
+        section = EventMetrics.startSection();
+        affectAllEntities(world);
+        EventMetrics.endSection(world, "affectAllEntities", section);
 
         // Handle block pushing with graduated frequency based on fade and strength
         int blockPushInterval = strength == 3 ? 5 : strength == 2 ? 10 : 20;
         if (ticksRemaining % Math.max(5, (int)(blockPushInterval / fadeMultiplier)) == 0) {
+            section = EventMetrics.startSection();
             pushLightBlocks(world);
+            EventMetrics.endSection(world, "pushLightBlocks", section);
         }
     }
 
@@ -379,7 +436,7 @@ public class StrongWindsEvent implements CustomWorldEvent {
 
         // Cap the maximum number of active gust seed particles based on strength
         int maxParticles = 5 + (strength * 5);
-        if (activeGustSeedParticles.size() >= maxParticles) {
+        if (gustSeeds.size() >= maxParticles) {
             return;
         }
 
@@ -402,12 +459,12 @@ public class StrongWindsEvent implements CustomWorldEvent {
                     -windDirection.z * distanceFromPlayer + (random.nextDouble() - 0.5) * 10
             );
 
-            // Create a UUID for this particle to track it
-            UUID particleId = UUID.randomUUID();
-            activeGustSeedParticles.put(particleId, spawnPos);
+            // Track the seed until it has drifted GUST_SEED_MAX_TRAVEL blocks
+            int lifetime = (int) Math.ceil(GUST_SEED_MAX_TRAVEL / (0.15 * strength));
+            gustSeeds.spawn(gustSeed, spawnPos.x, spawnPos.y, spawnPos.z, lifetime);
 
             // Spawn visible cyan particle
-            world.spawnParticles(
+            ParticleBatcher.spawn(world, 
                     // Cyan colored dust particle
                     new DustParticleEffect(GUST_SEED_PARTICLE_COLOR, GUST_SEED_PARTICLE_SIZE),
                     spawnPos.x, spawnPos.y, spawnPos.z,
@@ -418,7 +475,7 @@ public class StrongWindsEvent implements CustomWorldEvent {
 
             // Add "glittering" effect around the main particle
             for (int i = 0; i < 3; i++) {
-                world.spawnParticles(
+                ParticleBatcher.spawn(world, 
                         new DustParticleEffect(new Vec3f(0.0f, 0.9f, 1.0f), 0.5f),
                         spawnPos.x + (random.nextDouble() - 0.5) * 0.5,
                         spawnPos.y + (random.nextDouble() - 0.5) * 0.5,
@@ -434,60 +491,46 @@ public class StrongWindsEvent implements CustomWorldEvent {
     }
 
     /**
-     * Move gust seed particles with the wind and check if players collect them
+     * A seed carried on the wind. Players catch it by getting close to it.
      */
-    private void checkGustSeedCollection(ServerWorld world) {
-        // Skip if no particles or no players
-        if (activeGustSeedParticles.isEmpty() || world.getPlayers().isEmpty()) {
-            return;
+    private class GustSeed implements CollectibleField.Behavior {
+        @Override
+        public double reach() {
+            return GUST_SEED_COLLECTION_RADIUS;
         }
 
-        // Update positions of all active gust seed particles
-        Iterator<Map.Entry<UUID, Vec3d>> iterator = activeGustSeedParticles.entrySet().iterator();
+        @Override
+        public boolean canPickUp(CollectibleField.Collectible seed, PlayerEntity player) {
+            // Measured from the middle of the player rather than their feet
+            double dx = player.getX() - seed.getX();
+            double dy = player.getY() + 1.0 - seed.getY();
+            double dz = player.getZ() - seed.getZ();
+            return dx * dx + dy * dy + dz * dz <= GUST_SEED_COLLECTION_RADIUS * GUST_SEED_COLLECTION_RADIUS;
+        }
 
-        while (iterator.hasNext()) {
-            Map.Entry<UUID, Vec3d> entry = iterator.next();
-            UUID particleId = entry.getKey();
-            Vec3d currentPos = entry.getValue();
+        @Override
+        public void onPickup(ServerWorld world, CollectibleField.Collectible seed, PlayerEntity player) {
+            collectGustSeed(player, new Vec3d(seed.getX(), seed.getY(), seed.getZ()), world);
+        }
 
+        @Override
+        public void tick(ServerWorld world, CollectibleField.Collectible seed) {
             // Move the particle in the wind direction
             double moveSpeed = 0.15 * strength;
-            Vec3d newPos = currentPos.add(
-                    windDirection.x * moveSpeed,
-                    random.nextDouble() * 0.05 - 0.025, // Slight vertical wobble
-                    windDirection.z * moveSpeed
+            seed.setPos(
+                    seed.getX() + windDirection.x * moveSpeed,
+                    seed.getY() + random.nextDouble() * 0.05 - 0.025, // Slight vertical wobble
+                    seed.getZ() + windDirection.z * moveSpeed
             );
 
-            // Update position
-            entry.setValue(newPos);
-
             // Spawn visual particle at the new position
-            world.spawnParticles(
+            ParticleBatcher.spawn(world,
                     new DustParticleEffect(GUST_SEED_PARTICLE_COLOR, GUST_SEED_PARTICLE_SIZE),
-                    newPos.x, newPos.y, newPos.z,
+                    seed.getX(), seed.getY(), seed.getZ(),
                     1,
                     0.0, 0.0, 0.0,
                     0
             );
-
-            // Check if any player is close enough to collect
-            for (PlayerEntity player : world.getPlayers()) {
-                Vec3d playerPos = player.getPos().add(0, 1.0, 0); // Adjust to player eye level
-                double distance = playerPos.distanceTo(newPos);
-
-                if (distance <= GUST_SEED_COLLECTION_RADIUS) {
-                    // Player collected the gust seed!
-                    collectGustSeed(player, newPos, world);
-                    iterator.remove();
-                    break;
-                }
-            }
-
-            // Remove particles that have travelled too far
-            double traveledDistance = currentPos.distanceTo(newPos);
-            if (traveledDistance > 50.0) {
-                iterator.remove();
-            }
         }
     }
 
@@ -500,14 +543,14 @@ public class StrongWindsEvent implements CustomWorldEvent {
         player.giveItemStack(seedStack);
 
         // Display message
-        player.sendMessage(Text.literal("§b✦ You collected Gust Seeds from the wind!"), true);
+        EventBroadcaster.sendMessage(player, Text.literal("§b✦ You collected Gust Seeds from the wind!"), true);
 
         // Play sound
-        player.playSound(net.minecraft.sound.SoundEvents.ENTITY_EXPERIENCE_ORB_PICKUP,
+        EventBroadcaster.playSoundTo(player, net.minecraft.sound.SoundEvents.ENTITY_EXPERIENCE_ORB_PICKUP,
                 SoundCategory.PLAYERS, 0.5f, 1.5f);
 
         // Visual effect for collection
-        world.spawnParticles(
+        ParticleBatcher.spawn(world, 
                 new DustParticleEffect(new Vec3f(0.0f, 1.0f, 1.0f), 1.2f),
                 particlePos.x, particlePos.y, particlePos.z,
                 15, // More particles for collection effect
@@ -548,8 +591,8 @@ public class StrongWindsEvent implements CustomWorldEvent {
 
         // Visual indication of the wind affecting the mob
         if (entity.age % 10 == 0) {
-            ((ServerWorld)entity.getWorld()).spawnParticles(
-                    new DustParticleEffect(new Vec3f(0.8f, 0.8f, 1.0f), 1.0f),
+            ParticleBatcher.spawn(
+                    (ServerWorld) entity.getWorld(), new DustParticleEffect(new Vec3f(0.8f, 0.8f, 1.0f), 1.0f),
                     entity.getX(), entity.getY() + entity.getHeight() * 0.7, entity.getZ(),
                     1, 0.2, 0.2, 0.2, 0.05 * strength
             );
@@ -581,39 +624,33 @@ public class StrongWindsEvent implements CustomWorldEvent {
     /**
      * Apply wind effects to all applicable entities in the world
      */
-    private void affectAllEntities(ServerWorld world, float strengthMultiplier) {
-        // Get all players to establish search areas
+    private void affectAllEntities(ServerWorld world) {
+        // Start this tick's shared search, then queue each player's share of it;
+        // WorldEventManager runs them within the tick budget
+        windRegion.begin(world);
         for (PlayerEntity player : world.getPlayers()) {
-            BlockPos playerPos = player.getBlockPos();
+            workQueue.enqueue(player, windWork);
+        }
+    }
 
-            // Create a larger box to find entities
-            Box searchBox = new Box(
-                    playerPos.getX() - 50,
-                    playerPos.getY() - 20,
-                    playerPos.getZ() - 50,
-                    playerPos.getX() + 50,
-                    playerPos.getY() + 20,
-                    playerPos.getZ() + 50
-            );
+    /**
+     * Push the entities around one player that no other player's share has pushed this tick,
+     * using the multiplier from the latest tick
+     */
+    private void affectEntitiesNearPlayer(ServerWorld world, PlayerEntity player) {
+        float strengthMultiplier = entityWindMultiplier;
 
-            // Special case for items
-            for (Entity entity : world.getEntitiesByType(EntityType.ITEM, searchBox, e -> true)) {
+        windRegion.visitAround(world, player, Entity.class, entity -> !(entity instanceof PlayerEntity), entity -> {
+            if (entity instanceof ItemEntity) {
                 // Apply stronger effect to items, even when on ground
                 applyItemWindEffect(entity, strengthMultiplier * 2.0f);
+            } else if (entity instanceof LivingEntity) {
+                // Mobs (LivingEntity but not a player)
+                applyMobWindEffect((LivingEntity) entity, strengthMultiplier);
+            } else {
+                applyWindToEntity(entity, strengthMultiplier);
             }
-
-            // Handle other entities
-            for (Entity entity : world.getEntitiesByClass(Entity.class, searchBox,
-                    e -> !(e instanceof PlayerEntity || e instanceof ItemEntity))) {
-
-                // Check if the entity is a mob (LivingEntity but not a player)
-                if (entity instanceof LivingEntity) {
-                    applyMobWindEffect((LivingEntity)entity, strengthMultiplier);
-                } else {
-                    applyWindToEntity(entity, strengthMultiplier);
-                }
-            }
-        }
+        });
     }
 
     // Special handling for items on the ground
@@ -673,10 +710,14 @@ public class StrongWindsEvent implements CustomWorldEvent {
                     playerPos.getZ() + radiusZ
             );
 
-            BlockPos.iterate(
+            for (BlockPos pos : BlockPos.iterate(
                     (int)searchBox.minX, (int)searchBox.minY, (int)searchBox.minZ,
-                    (int)searchBox.maxX, (int)searchBox.maxY, (int)searchBox.maxZ
-            ).forEach(pos -> {
+                    (int)searchBox.maxX, (int)searchBox.maxY, (int)searchBox.maxZ)) {
+                // Nothing more can be spawned this tick
+                if (!fallingBlocks.hasCapacity(world)) {
+                    return;
+                }
+
                 BlockState state = world.getBlockState(pos);
                 Block block = state.getBlock();
 
@@ -701,18 +742,12 @@ public class StrongWindsEvent implements CustomWorldEvent {
                     // Chance of converting to falling block based on strength
                     float moveChance = 0.2f * strength;
 
-                    if (new Random().nextFloat() < moveChance) {
-                        // Use spawnEntity with FallingBlockEntity.fall instead
-                        FallingBlockEntity fallingBlock = FallingBlockEntity.spawnFromBlock(
-                                world, pos, state);
+                    if (random.nextFloat() < moveChance) {
+                        // Initial velocity in wind direction; the spawner skips blocks that wouldn't really move
+                        FallingBlockEntity fallingBlock = fallingBlocks.trySpawn(world, pos.toImmutable(), state,
+                                new Vec3d(windDirection.x * 0.3 * strength, 0.1, windDirection.z * 0.3 * strength));
 
                         if (fallingBlock != null) {
-                            // Give initial velocity in wind direction
-                            fallingBlock.setVelocity(
-                                    windDirection.x * 0.3 * strength,
-                                    0.1,
-                                    windDirection.z * 0.3 * strength);
-
                             // Set to not drop item when landing
                             fallingBlock.dropItem = false;
 
@@ -721,7 +756,7 @@ public class StrongWindsEvent implements CustomWorldEvent {
                         }
                     }
                 }
-            });
+            }
         }
     }
 
@@ -772,6 +807,7 @@ public class StrongWindsEvent implements CustomWorldEvent {
         for (PlayerEntity player : world.getPlayers()) {
             ServerPlayNetworking.send((ServerPlayerEntity)player, WIND_PACKET_ID, buf);
         }
+        EventMetrics.recordPackets(world, world.getPlayers().size());
     }
 
 }
\ No newline at end of file
@@ -7,217 +7,249 @@ import net.minecraft.text.Text;
 import net.minecraft.entity.boss.BossBar;
 import net.minecraft.entity.boss.ServerBossBar;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.registry.RegistryKey;
 import net.minecraft.world.World;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
 
 public class WorldEventManager {
     private static final int CHECK_INTERVAL = 20 * 30 * 20; // Check every 10 minutes (20 ticks/sec * 60 sec * 10 min)
     private static final int NETHER_CHECK_INTERVAL = 20 * 30 * 20; // Also 10 minutes for Nether
-    private int tickCounter = 0;
-    private int netherTickCounter = 0;
 
-    private CustomWorldEvent currentEvent;
     private static final Random RANDOM = new Random();
 
-    // BossBar for event progress display
-    private ServerBossBar eventBossBar;
-    // Track event progress
-    private int eventElapsedTicks = 0;
+    // Average milliseconds per tick at which events start scaling down, one entry per load level
+    private static final float[] LOAD_LEVEL_MSPT = {40.0f, 50.0f};
+    // How far below a threshold MSPT must fall before that level is dropped again
+    private static final float LOAD_HYSTERESIS_MSPT = 5.0f;
+
+    // Current load level shared by every dimension, refreshed once per server tick
+    private int loadLevel = 0;
+    private int lastLoadCheckTick = -1;
+
+    // Event state per dimension; each dimension runs at most one event with its own boss bar and timers
+    private final Map<RegistryKey<World>, DimensionSlot> slots = new HashMap<>();
 
     private static final WorldEventManager INSTANCE = new WorldEventManager();
 
+    /**
+     * Event state for one dimension
+     */
+    private static class DimensionSlot {
+        private CustomWorldEvent currentEvent;
+        // BossBar for event progress display
+        private ServerBossBar eventBossBar;
+        // Track event progress
+        private int eventElapsedTicks = 0;
+        // World time of the next random event roll; -1 until the dimension is first ticked
+        private long nextCheckTime = -1;
+    }
+
     public static WorldEventManager getInstance() {
         return INSTANCE;
     }
 
+    /**
+     * Tick one world. Only dimensions with an active event do real work; the others
+     * just compare the world time against their next random event roll.
+     */
     public void tick(ServerWorld world) {
-        if (currentEvent != null) {
-            try {
-                // Debug event ticking
-                if (world.getTime() % 100 == 0) {
-                    for (PlayerEntity player : world.getPlayers()) {
-                        // Debug code was empty in original
-                    }
-                }
-
-                // Tick the event
-                currentEvent.tick(world);
+        updateLoadLevel(world);
 
-                // Update event progress
-                eventElapsedTicks++;
+        RegistryKey<World> dimension = world.getRegistryKey();
+        int checkInterval = getCheckInterval(dimension);
+        DimensionSlot slot = slots.get(dimension);
 
-                // Update boss bar progress if it exists
-                if (eventBossBar != null) {
-                    // Calculate remaining progress (1.0 -> 0.0)
-                    int eventDuration = currentEvent.getDuration();
-                    float progress = Math.max(0.0f, Math.min(1.0f, (float)(eventDuration - eventElapsedTicks) / eventDuration));
-                    eventBossBar.setPercent(progress);
-                }
-
-                // Check if it's complete or if time has elapsed
-                if (currentEvent.isComplete()) {
-                    // Notify players the event is ending
-                    for (PlayerEntity player : world.getPlayers()) {
-                        String eventName = formatEventName(currentEvent.getId().getPath());
-                        player.sendMessage(Text.literal("The " + eventName + " is subsiding..."), true);
-                    }
-
-                    // Remove boss bar
-                    if (eventBossBar != null) {
-                        eventBossBar.clearPlayers();
-                        eventBossBar = null;
-                    }
-
-                    currentEvent = null;
-                    eventElapsedTicks = 0;
-                }
-
-                // Skip the rest of the method since we have an active event
+        if (slot == null) {
+            // Dimensions without random events only get a slot once something is started there
+            if (checkInterval <= 0) {
                 return;
-            } catch (Exception e) {
-                // Log any errors in the event ticking
-                for (PlayerEntity player : world.getPlayers()) {
-                    if (player.hasPermissionLevel(2)) { // Op level 2+
-                        player.sendMessage(Text.literal("[Debug] Error in event tick: " + e.getMessage()), false);
-                    }
-                }
-
-                // Remove boss bar if there was an error
-                if (eventBossBar != null) {
-                    eventBossBar.clearPlayers();
-                    eventBossBar = null;
-                }
-
-                // Prevent buggy events from crashing the server - cancel the event
-                currentEvent = null;
-                eventElapsedTicks = 0;
             }
+            slot = new DimensionSlot();
+            slots.put(dimension, slot);
+        }
+
+        if (slot.currentEvent != null) {
+            tickEvent(world, slot);
+            return;
         }
 
-        tickCounter++;
+        if (checkInterval <= 0) {
+            return;
+        }
 
-        // Separate counter for nether events
-        if (world.getRegistryKey() == World.NETHER) {
-            netherTickCounter++;
+        long time = world.getTime();
+        if (slot.nextCheckTime < 0) {
+            slot.nextCheckTime = time + checkInterval;
+        }
+        if (time < slot.nextCheckTime) {
+            return;
         }
+        slot.nextCheckTime = time + checkInterval;
 
         // Only trigger Overworld events in the Overworld
-        if (world.getRegistryKey() == World.OVERWORLD && tickCounter >= CHECK_INTERVAL) {
-            tickCounter = 0;
-
+        if (dimension == World.OVERWORLD) {
             float eventChance = RANDOM.nextFloat();
             if (eventChance < 0.25f) {
                 // 50% chance for strong winds, 50% chance for overgrowth when an event triggers
                 String eventType = RANDOM.nextBoolean() ? "Strong Winds" : "Overgrowth";
 
                 // Notify players about the new event
-                for (PlayerEntity player : world.getPlayers()) {
-                    player.sendMessage(Text.literal("A magical " + eventType.toLowerCase() + " begins to manifest..."), true);
-                }
+                EventBroadcaster.broadcast(world, Text.literal("A magical " + eventType.toLowerCase() + " begins to manifest..."), true);
                 if (RANDOM.nextBoolean()) {
-                    startStrongWinds(world);
+                    startRegisteredEvent(world, slot, EventRegistry.STRONG_WINDS_ID, "Strong Winds");
                 } else {
-                    startOvergrowth(world);
+                    startRegisteredEvent(world, slot, EventRegistry.OVERGROWTH_ID, "Overgrowth");
                 }
             }
         }
 
         // Only trigger Nether events in the Nether
-        if (world.getRegistryKey() == World.NETHER && netherTickCounter >= NETHER_CHECK_INTERVAL) {
-            netherTickCounter = 0;
-
+        if (dimension == World.NETHER) {
             float eventChance = RANDOM.nextFloat();
             if (eventChance < 0.25f) {
                 // Notify players about the new event
-                for (PlayerEntity player : world.getPlayers()) {
-                    player.sendMessage(Text.literal("A magical fire rain begins to manifest..."), true);
-                }
-                startFireRain(world);
+                EventBroadcaster.broadcast(world, Text.literal("A magical fire rain begins to manifest..."), true);
+                startRegisteredEvent(world, slot, EventRegistry.FIRE_RAIN_ID, "Fire Rain");
             }
         }
     }
 
-    private void startStrongWinds(ServerWorld world) {
-        CustomWorldEvent event = EventRegistry.get(EventRegistry.STRONG_WINDS_ID);
-        if (event != null) {
-            currentEvent = event;
-            eventElapsedTicks = 0;
-            currentEvent.start(world);
-            createEventBossBar(world, EventRegistry.STRONG_WINDS_ID);
-        } else {
-            // Debug message if event couldn't be found
+    private void tickEvent(ServerWorld world, DimensionSlot slot) {
+        CustomWorldEvent currentEvent = slot.currentEvent;
+        try {
+            // Tick the event, then spend what is left of its budget on queued per-player work
+            long tickStart = System.nanoTime();
+            currentEvent.tick(world);
+            long workStart = System.nanoTime();
+            currentEvent.getWorkQueue().run(world, tickStart + currentEvent.getTickBudgetNanos());
+            EventMetrics.recordTick(world, currentEvent.getId(), workStart - tickStart, System.nanoTime() - workStart);
+
+            // Update event progress
+            slot.eventElapsedTicks++;
+
+            // Update boss bar progress if it exists
+            if (slot.eventBossBar != null) {
+                // Calculate remaining progress (1.0 -> 0.0)
+                int eventDuration = currentEvent.getDuration();
+                float progress = Math.max(0.0f, Math.min(1.0f, (float)(eventDuration - slot.eventElapsedTicks) / eventDuration));
+                // Only re-sent to viewers when the bar visibly moves
+                EventBroadcaster.setBossBarProgress(world, slot.eventBossBar, progress);
+            }
+
+            // Check if it's complete or if time has elapsed
+            if (currentEvent.isComplete()) {
+                // Notify players the event is ending
+                String eventName = formatEventName(currentEvent.getId().getPath());
+                EventBroadcaster.broadcast(world, Text.literal("The " + eventName + " is subsiding..."), true);
+
+                clearEvent(slot);
+            }
+        } catch (Exception e) {
+            // Log any errors in the event ticking
             for (PlayerEntity player : world.getPlayers()) {
-                if (player.hasPermissionLevel(2)) {
-                    player.sendMessage(Text.literal("[Debug] Failed to start Strong Winds event: not found in registry"), false);
+                if (player.hasPermissionLevel(2)) { // Op level 2+
+                    EventBroadcaster.sendMessage(player, Text.literal("[Debug] Error in event tick: " + e.getMessage()), false);
                 }
             }
+
+            // Prevent buggy events from crashing the server - cancel the event
+            clearEvent(slot);
         }
     }
 
-    private void startOvergrowth(ServerWorld world) {
-        CustomWorldEvent event = EventRegistry.get(EventRegistry.OVERGROWTH_ID);
+    private void startRegisteredEvent(ServerWorld world, DimensionSlot slot, Identifier eventId, String eventType) {
+        CustomWorldEvent event = EventRegistry.create(eventId);
         if (event != null) {
-            currentEvent = event;
-            eventElapsedTicks = 0;
-            currentEvent.start(world);
-            createEventBossBar(world, EventRegistry.OVERGROWTH_ID);
+            slot.currentEvent = event;
+            slot.eventElapsedTicks = 0;
+            event.setSeed(world.getRandom().nextLong());
+            event.start(world);
+            event.setLoadLevel(loadLevel);
+            createEventBossBar(world, slot, eventId);
         } else {
             // Debug message if event couldn't be found
             for (PlayerEntity player : world.getPlayers()) {
                 if (player.hasPermissionLevel(2)) {
-                    player.sendMessage(Text.literal("[Debug] Failed to start Overgrowth event: not found in registry"), false);
+                    EventBroadcaster.sendMessage(player, Text.literal("[Debug] Failed to start " + eventType + " event: not found in registry"), false);
                 }
             }
         }
     }
 
-    private void startFireRain(ServerWorld world) {
-        // Only start fire rain in the Nether
-        if (world.getRegistryKey() != World.NETHER) {
+    /**
+     * Recompute the load level from the server's average tick time. Levels step up as soon as
+     * a threshold is crossed and only step down once MSPT is comfortably below it again, so
+     * events don't flip between intensities on a server hovering around a threshold.
+     */
+    private void updateLoadLevel(ServerWorld world) {
+        int serverTick = world.getServer().getTicks();
+        if (serverTick == lastLoadCheckTick) {
             return;
         }
+        lastLoadCheckTick = serverTick;
 
-        CustomWorldEvent event = EventRegistry.get(EventRegistry.FIRE_RAIN_ID);
-        if (event != null) {
-            currentEvent = event;
-            eventElapsedTicks = 0;
-            currentEvent.start(world);
-            createEventBossBar(world, EventRegistry.FIRE_RAIN_ID);
-        } else {
-            // Debug message if event couldn't be found
-            for (PlayerEntity player : world.getPlayers()) {
-                if (player.hasPermissionLevel(2)) {
-                    player.sendMessage(Text.literal("[Debug] Failed to start Fire Rain event: not found in registry"), false);
-                }
+        float mspt = world.getServer().getTickTime();
+        int level = loadLevel;
+        while (level < LOAD_LEVEL_MSPT.length && mspt >= LOAD_LEVEL_MSPT[level]) {
+            level++;
+        }
+        while (level > 0 && mspt < LOAD_LEVEL_MSPT[level - 1] - LOAD_HYSTERESIS_MSPT) {
+            level--;
+        }
+        if (level == loadLevel) {
+            return;
+        }
+
+        loadLevel = level;
+        for (DimensionSlot slot : slots.values()) {
+            if (slot.currentEvent != null) {
+                slot.currentEvent.setLoadLevel(level);
             }
         }
     }
 
     /**
-     * Creates and configures a boss bar for the current event
+     * Ticks between random event rolls in a dimension, or 0 if it has no random events
+     */
+    private static int getCheckInterval(RegistryKey<World> dimension) {
+        if (dimension == World.OVERWORLD) {
+            return CHECK_INTERVAL;
+        }
+        if (dimension == World.NETHER) {
+            return NETHER_CHECK_INTERVAL;
+        }
+        return 0;
+    }
+
+    /**
+     * Creates and configures a boss bar for a dimension's current event
      * @param world The server world
+     * @param slot The dimension's event state
      * @param eventId The event identifier
      */
-    private void createEventBossBar(ServerWorld world, Identifier eventId) {
+    private void createEventBossBar(ServerWorld world, DimensionSlot slot, Identifier eventId) {
         // Remove existing boss bar if there is one
-        if (eventBossBar != null) {
-            eventBossBar.clearPlayers();
+        if (slot.eventBossBar != null) {
+            slot.eventBossBar.clearPlayers();
         }
 
         String eventName = formatEventName(eventId.getPath());
         Text bossBarText = Text.literal(eventName); // Event name as text
 
         // Create a new boss bar with color based on event type
-        eventBossBar = new ServerBossBar(
+        slot.eventBossBar = new ServerBossBar(
                 bossBarText,
                 getBossBarColorForEvent(eventId),
                 BossBar.Style.PROGRESS
         );
 
         // Add all players in the dimension to see the boss bar
-        for (PlayerEntity player : world.getPlayers()) {
-            eventBossBar.addPlayer((net.minecraft.server.network.ServerPlayerEntity) player);
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            slot.eventBossBar.addPlayer(player);
         }
     }
 
@@ -238,98 +270,123 @@ public class WorldEventManager {
         }
     }
 
-    public CustomWorldEvent getCurrentEvent() {
-        return currentEvent;
+    /**
+     * Get the event running in a world's dimension
+     * @param world The server world
+     * @return the active event, or null if none
+     */
+    public CustomWorldEvent getCurrentEvent(ServerWorld world) {
+        DimensionSlot slot = slots.get(world.getRegistryKey());
+        return slot != null ? slot.currentEvent : null;
     }
 
     /**
-     * Start a custom world event
+     * Start a custom world event in the world's dimension
      * @param world The server world
      * @param event The event to start
      */
     public void startEvent(ServerWorld world, CustomWorldEvent event) {
-        // If there's already an event running, stop it first
-        if (currentEvent != null) {
-            stopCurrentEvent(world);
+        startEvent(world, event, world.getRandom().nextLong());
+    }
+
+    /**
+     * Start a custom world event with a fixed seed for its random choices
+     * @param world The server world
+     * @param event The event to start
+     * @param seed Seed for the event's generator
+     */
+    public void startEvent(ServerWorld world, CustomWorldEvent event, long seed) {
+        DimensionSlot slot = slots.computeIfAbsent(world.getRegistryKey(), key -> new DimensionSlot());
+
+        // If there's already an event running in this dimension, stop it first
+        if (slot.currentEvent != null) {
+            stopCurrentEvent(world, slot);
         }
 
-        this.currentEvent = event;
-        eventElapsedTicks = 0;
+        slot.currentEvent = event;
+        slot.eventElapsedTicks = 0;
 
+        event.setSeed(seed);
         event.start(world);
+        event.setLoadLevel(loadLevel);
 
         // Create boss bar for the event
-        createEventBossBar(world, event.getId());
+        createEventBossBar(world, slot, event.getId());
 
         // Notify players about the new event
         String eventName = formatEventName(event.getId().getPath());
-        for (PlayerEntity player : world.getPlayers()) {
-            player.sendMessage(Text.literal("A magical " + eventName.toLowerCase() + " begins to manifest..."), true);
-        }
+        EventBroadcaster.broadcast(world, Text.literal("A magical " + eventName.toLowerCase() + " begins to manifest..."), true);
     }
 
     /**
-     * Stop an event by its identifier
+     * Stop an event by its identifier in the world's dimension
      * @param world The server world
      * @param eventId The identifier of the event to stop
      * @return true if an event was stopped, false otherwise
      */
     public boolean stopEvent(ServerWorld world, Identifier eventId) {
-        if (currentEvent != null && currentEvent.getId().equals(eventId)) {
-            stopCurrentEvent(world);
+        DimensionSlot slot = slots.get(world.getRegistryKey());
+        if (slot != null && slot.currentEvent != null && slot.currentEvent.getId().equals(eventId)) {
+            stopCurrentEvent(world, slot);
             return true;
         }
         return false;
     }
 
     /**
-     * Stops the currently running event
+     * Stops the event running in a dimension
      * @param world The server world
+     * @param slot The dimension's event state
      */
-    private void stopCurrentEvent(ServerWorld world) {
-        if (currentEvent != null) {
-            Identifier eventId = currentEvent.getId();
+    private void stopCurrentEvent(ServerWorld world, DimensionSlot slot) {
+        if (slot.currentEvent != null) {
+            Identifier eventId = slot.currentEvent.getId();
 
             // Notify players that the event is ending
             if (world != null) {
                 // Create a user-friendly notification based on the event type
                 String eventName = formatEventName(eventId.getPath());
-                world.getPlayers().forEach(player ->
-                        player.sendMessage(Text.literal("The " + eventName + " has been stopped."), true)
-                );
-            }
-
-            // Clear the boss bar
-            if (eventBossBar != null) {
-                eventBossBar.clearPlayers();
-                eventBossBar = null;
+                EventBroadcaster.broadcast(world, Text.literal("The " + eventName + " has been stopped."), true);
             }
 
-            // Clean up event
-            currentEvent = null;
-            eventElapsedTicks = 0;
-            tickCounter = 0; // Reset tick counter
+            clearEvent(slot);
 
-            // Reset Nether tick counter if it was a Nether event
-            if (eventId.equals(EventRegistry.FIRE_RAIN_ID)) {
-                netherTickCounter = 0;
-            }
+            // Restart the wait before the next random event in this dimension
+            slot.nextCheckTime = -1;
         }
     }
 
     /**
-     * Stop all active events
+     * Stop the active event in the world's dimension
      * @param world The server world
      * @return true if an event was stopped, false otherwise
      */
     public boolean stopAllEvents(ServerWorld world) {
-        if (currentEvent != null) {
-            stopCurrentEvent(world);
+        DimensionSlot slot = slots.get(world.getRegistryKey());
+        if (slot != null && slot.currentEvent != null) {
+            stopCurrentEvent(world, slot);
             return true;
         }
         return false;
     }
 
+    private static void clearEvent(DimensionSlot slot) {
+        // Remove boss bar
+        if (slot.eventBossBar != null) {
+            slot.eventBossBar.clearPlayers();
+            slot.eventBossBar = null;
+        }
+
+        // The instance belonged to this run only; hand it back for reuse
+        if (slot.currentEvent != null) {
+            // Leftover work must not run, or hold on to players, once the event is over
+            slot.currentEvent.getWorkQueue().clear();
+            EventRegistry.release(slot.currentEvent);
+        }
+        slot.currentEvent = null;
+        slot.eventElapsedTicks = 0;
+    }
+
     /**
      * Format event ID path into human-readable text
      * For example: "strong_winds" becomes "Strong Winds"
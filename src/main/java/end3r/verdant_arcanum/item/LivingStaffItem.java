@@ -1,9 +1,11 @@
 package end3r.verdant_arcanum.item;
 
+import end3r.verdant_arcanum.magic.ClientManaData;
 import end3r.verdant_arcanum.magic.ManaSystem;
 import end3r.verdant_arcanum.registry.SpellRegistry;
 import end3r.verdant_arcanum.screen.LivingStaffScreenHandlerFactory;
 import end3r.verdant_arcanum.spell.Spell;
+import end3r.verdant_arcanum.spell.SpellCastException;
 import end3r.verdant_arcanum.util.TooltipUtils;
 import net.minecraft.client.item.TooltipContext;
 import net.minecraft.entity.player.PlayerEntity;
@@ -111,9 +113,20 @@ public class LivingStaffItem extends Item {
 
         if (!world.isClient) {  // SERVER-SIDE ONLY
             // Only attempt to cast the spell on the server side
-            if (manaSystem.useMana(player, manaCost)) {
+            // Hold the cost while casting so a SpellCastException refunds it
+            int reservation = manaSystem.reserve(player, manaCost);
+            if (reservation != ManaSystem.NO_TRANSACTION) {
                 // Cast the spell
-                spell.cast(world, player);
+                try {
+                    spell.cast(world, player);
+                } catch (SpellCastException e) {
+                    manaSystem.rollback(reservation);
+                    world.playSound(null, player.getX(), player.getY(), player.getZ(),
+                            SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.PLAYERS,
+                            0.5F, 1.2F);
+                    return TypedActionResult.fail(staffStack);
+                }
+                manaSystem.commit(reservation);
 
                 // Apply cooldown
                 player.getItemCooldownManager().set(this, 20); // 1 second cooldown
@@ -129,7 +142,7 @@ public class LivingStaffItem extends Item {
             }
         } else {  // CLIENT-SIDE ONLY
             // Check if the player has enough mana (client-side prediction)
-            if (manaSystem.hasEnoughMana(player, manaCost)) {
+            if (ClientManaData.tryPredictCast(manaCost)) {
                 // Play successful cast effects
                 spell.playClientEffects(world, player);
             } else {
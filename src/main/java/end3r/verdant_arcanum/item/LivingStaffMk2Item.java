@@ -1,9 +1,11 @@
 package end3r.verdant_arcanum.item;
 
+import end3r.verdant_arcanum.magic.ClientManaData;
 import end3r.verdant_arcanum.magic.ManaSystem;
 import end3r.verdant_arcanum.registry.SpellRegistry;
 import end3r.verdant_arcanum.screen.LivingStaffMk2ScreenHandlerFactory;
 import end3r.verdant_arcanum.spell.Spell;
+import end3r.verdant_arcanum.spell.SpellCastException;
 import end3r.verdant_arcanum.util.TooltipUtils;
 import net.minecraft.client.item.TooltipContext;
 import net.minecraft.entity.player.PlayerEntity;
@@ -19,8 +21,6 @@ import net.minecraft.world.World;
 
 import java.util.List;
 
-import static end3r.verdant_arcanum.magic.ClientManaData.currentMana;
-import static end3r.verdant_arcanum.magic.ClientManaData.maxMana;
 
 public class LivingStaffMk2Item extends LivingStaffItem {
     // Constants
@@ -91,9 +91,20 @@ public class LivingStaffMk2Item extends LivingStaffItem {
 
         if (!world.isClient) {  // SERVER-SIDE ONLY
             // Only attempt to cast the spell on the server side
-            if (manaSystem.useMana(player, reducedManaCost)) {
+            // Hold the cost while casting so a SpellCastException refunds it
+            int reservation = manaSystem.reserve(player, reducedManaCost);
+            if (reservation != ManaSystem.NO_TRANSACTION) {
                 // Cast the spell
-                spell.cast(world, player);
+                try {
+                    spell.cast(world, player);
+                } catch (SpellCastException e) {
+                    manaSystem.rollback(reservation);
+                    world.playSound(null, player.getX(), player.getY(), player.getZ(),
+                            SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.PLAYERS,
+                            0.5F, 1.2F);
+                    return TypedActionResult.fail(staffStack);
+                }
+                manaSystem.commit(reservation);
 
                 // Apply cooldown
                 player.getItemCooldownManager().set(this, 20); // 1 second cooldown
@@ -109,7 +120,7 @@ public class LivingStaffMk2Item extends LivingStaffItem {
             }
         } else {  // CLIENT-SIDE ONLY
             // Check if the player has enough mana (client-side prediction)
-            if (manaSystem.hasEnoughMana(player, reducedManaCost)) {
+            if (ClientManaData.tryPredictCast(reducedManaCost)) {
                 // Play successful cast effects
                 spell.playClientEffects(world, player);
             } else {
@@ -1,8 +1,10 @@
 package end3r.verdant_arcanum.item;
 
+import end3r.verdant_arcanum.magic.ClientManaData;
 import end3r.verdant_arcanum.magic.ManaSystem;
 import end3r.verdant_arcanum.registry.SpellRegistry;
 import end3r.verdant_arcanum.spell.Spell;
+import end3r.verdant_arcanum.spell.SpellCastException;
 import end3r.verdant_arcanum.util.TooltipUtils;
 import net.minecraft.client.item.TooltipContext;
 import net.minecraft.entity.player.PlayerEntity;
@@ -75,9 +77,20 @@ public class SpellEssenceItem extends Item {
 
         // Only cast the spell on the server side if player has enough mana
         if (!world.isClient) {
-            if (manaSystem.useMana(player, manaCost)) {
+            // Hold the cost while casting so a SpellCastException refunds it and keeps the essence
+            int reservation = manaSystem.reserve(player, manaCost);
+            if (reservation != ManaSystem.NO_TRANSACTION) {
                 // Cast the spell
-                spell.cast(world, player);
+                try {
+                    spell.cast(world, player);
+                } catch (SpellCastException e) {
+                    manaSystem.rollback(reservation);
+                    world.playSound(null, player.getX(), player.getY(), player.getZ(),
+                            SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.PLAYERS,
+                            0.5F, 1.2F);
+                    return TypedActionResult.fail(itemStack);
+                }
+                manaSystem.commit(reservation);
 
                 // Apply cooldown
                 player.getItemCooldownManager().set(this, COOLDOWN_TICKS);
@@ -103,7 +116,7 @@ public class SpellEssenceItem extends Item {
             }
         } else {
             // On client side, check if player has enough mana to show appropriate effects
-            if (manaSystem.getPlayerMana(player).getCurrentMana() >= manaCost) {
+            if (ClientManaData.tryPredictCast(manaCost)) {
                 // Play visual/sound effects on client side
                 spell.playClientEffects(world, player);
             } else {
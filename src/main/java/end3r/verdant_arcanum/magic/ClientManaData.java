@@ -1,45 +1,233 @@
 package end3r.verdant_arcanum.magic;
 
-import end3r.verdant_arcanum.magic.ManaSystem;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Client-side mirror of the local player's mana.
+ *
+ * This never touches ManaSystem's state, which belongs to the (possibly integrated) server. All state
+ * lives in an immutable Snapshot that is replaced atomically: packets apply on the network
+ * thread, casts and ticks on the client thread, and the HUD reads whatever snapshot is current
+ * without taking a lock.
+ *
+ * The server only sends a snapshot when its state diverges from what this class would
+ * predict, so between snapshots the value is extrapolated using the regen rate and multiplier,
+ * less any drain the snapshot reported for the ticks it still has to run.
+ * Casts made locally are subtracted straight away and kept as pending costs until a snapshot
+ * shows the server has charged them, or until they time out.
+ */
 public class ClientManaData {
-    public static float currentMana = 0;
-    public static int maxMana = 100;
-    private static float regenMultiplier = 1.0f; // Add this field
+    // Regen rate is defined per second; the client clock runs in ticks
+    private static final float TICKS_PER_SECOND = 20f;
 
-    public static void setMana(float current, int max, float multiplier) {
-        currentMana = current;
-        maxMana = max;
-        regenMultiplier = multiplier; // Store the multiplier
+    // Long enough to cover a round trip; a cast the server never charged is dropped after this
+    private static final int PREDICTION_TIMEOUT_TICKS = 40;
+
+    // Slack when matching a pending cost against the drop seen in a snapshot (wire precision is 0.1)
+    private static final float RECONCILE_TOLERANCE = 0.5f;
+
+    private static final int MAX_PENDING_CASTS = 8;
+
+    private static final AtomicReference<Snapshot> SNAPSHOT = new AtomicReference<>(Snapshot.EMPTY);
+
+    // Counts unpaused client ticks, so extrapolation stops while the game is paused.
+    // Only the client thread writes it.
+    private static volatile long clientTicks = 0;
+
+    /**
+     * Immutable mana state: the last server snapshot, the client tick it arrived on,
+     * and the casts predicted since.
+     */
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(ManaSystem.DEFAULT_MAX_MANA, ManaSystem.DEFAULT_MAX_MANA, 0, 1.0f,
+                0f, 0, new float[0], new long[0]);
+
+        private final float serverMana;
+        private final int maxMana;
+        private final long serverTick;
+        private final float regenMultiplier;
+        private final float drainPerTick;
+        // Client tick the reported drain stops being charged on
+        private final long drainEndTick;
+
+        // Oldest first; never modified after construction
+        private final float[] pendingCost;
+        private final long[] pendingTick;
+
+        private Snapshot(float serverMana, int maxMana, long serverTick, float regenMultiplier,
+                         float drainPerTick, long drainEndTick, float[] pendingCost, long[] pendingTick) {
+            this.serverMana = serverMana;
+            this.maxMana = maxMana;
+            this.serverTick = serverTick;
+            this.regenMultiplier = regenMultiplier;
+            this.drainPerTick = drainPerTick;
+            this.drainEndTick = drainEndTick;
+            this.pendingCost = pendingCost;
+            this.pendingTick = pendingTick;
+        }
+
+        public int getMaxMana() {
+            return maxMana;
+        }
+
+        public float getRegenMultiplier() {
+            return regenMultiplier;
+        }
+
+        /**
+         * Predicted mana at a point in client time.
+         */
+        public float getMana(long ticks, float tickDelta) {
+            float mana = extrapolate(ticks, tickDelta);
+            for (float cost : pendingCost) {
+                mana -= cost;
+            }
+            return Math.max(0, mana);
+        }
+
+        private float extrapolate(long ticks, float tickDelta) {
+            float regenPerTick = ManaSystem.DEFAULT_MANA_REGEN_RATE * regenMultiplier / TICKS_PER_SECOND;
+            float elapsed = ticks - serverTick + tickDelta;
+            float drained = Math.min(elapsed, drainEndTick - serverTick);
+            float predicted = serverMana + regenPerTick * elapsed - drainPerTick * drained;
+            return Math.max(0, Math.min(maxMana, predicted));
+        }
+
+        /**
+         * Apply a server snapshot. The gap between what this snapshot predicted and what the
+         * server reports is explained by pending casts, oldest first; those are confirmed.
+         */
+        Snapshot reconcile(float current, int max, float multiplier, float drain, int drainTicks, long ticks) {
+            float drop = extrapolate(ticks, 0) - current;
+            int confirmed = 0;
+            while (confirmed < pendingCost.length && drop >= pendingCost[confirmed] - RECONCILE_TOLERANCE) {
+                drop -= pendingCost[confirmed];
+                confirmed++;
+            }
+            return new Snapshot(current, max, ticks, multiplier, drain, ticks + drainTicks,
+                    Arrays.copyOfRange(pendingCost, confirmed, pendingCost.length),
+                    Arrays.copyOfRange(pendingTick, confirmed, pendingTick.length));
+        }
+
+        Snapshot withPending(float cost, long ticks) {
+            // Past the cap the oldest prediction is dropped
+            int from = pendingCost.length == MAX_PENDING_CASTS ? 1 : 0;
+            float[] costs = Arrays.copyOfRange(pendingCost, from, pendingCost.length + 1);
+            long[] casts = Arrays.copyOfRange(pendingTick, from, pendingTick.length + 1);
+            costs[costs.length - 1] = cost;
+            casts[casts.length - 1] = ticks;
+            return new Snapshot(serverMana, maxMana, serverTick, regenMultiplier, drainPerTick, drainEndTick,
+                    costs, casts);
+        }
+
+        /**
+         * Number of leading pending casts that have timed out by the given tick.
+         */
+        int expiredPending(long ticks) {
+            int expired = 0;
+            while (expired < pendingTick.length && ticks - pendingTick[expired] > PREDICTION_TIMEOUT_TICKS) {
+                expired++;
+            }
+            return expired;
+        }
+
+        Snapshot withoutPending(int count) {
+            return new Snapshot(serverMana, maxMana, serverTick, regenMultiplier, drainPerTick, drainEndTick,
+                    Arrays.copyOfRange(pendingCost, count, pendingCost.length),
+                    Arrays.copyOfRange(pendingTick, count, pendingTick.length));
+        }
+    }
+
+    /**
+     * Apply an authoritative snapshot from the server. Safe to call from the network thread.
+     *
+     * @param drainPerTick mana the server charges every tick for an active drain, 0 if none
+     * @param drainTicks how many more ticks that drain is charged for
+     */
+    public static void setMana(float current, int max, float multiplier, float drainPerTick, int drainTicks) {
+        long ticks = clientTicks;
+        SNAPSHOT.updateAndGet(snapshot -> snapshot.reconcile(current, max, multiplier, drainPerTick, drainTicks, ticks));
+    }
+
+    /**
+     * Advance the client clock by one tick. Called at the end of every unpaused client tick.
+     */
+    public static void tick() {
+        long ticks = ++clientTicks;
+        if (SNAPSHOT.get().expiredPending(ticks) > 0) {
+            SNAPSHOT.updateAndGet(snapshot -> snapshot.withoutPending(snapshot.expiredPending(ticks)));
+        }
+    }
+
+    /**
+     * Check a local cast against the predicted mana and, if affordable, subtract its cost
+     * right away so the HUD doesn't wait for the server.
+     *
+     * @return true if the prediction says the cast goes through
+     */
+    public static boolean tryPredictCast(float cost) {
+        long ticks = clientTicks;
+        while (true) {
+            Snapshot snapshot = SNAPSHOT.get();
+            if (snapshot.getMana(ticks, 0) < cost) {
+                return false;
+            }
+            if (SNAPSHOT.compareAndSet(snapshot, snapshot.withPending(cost, ticks))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Forget everything from the previous server. Called on disconnect.
+     */
+    public static void reset() {
+        SNAPSHOT.set(Snapshot.EMPTY);
+    }
+
+    public static Snapshot getSnapshot() {
+        return SNAPSHOT.get();
     }
 
     public static float getCurrentMana() {
-        return currentMana;
+        return SNAPSHOT.get().getMana(clientTicks, 0);
+    }
+
+    /**
+     * Predicted mana part way through the current tick, for smooth per-frame rendering.
+     */
+    public static float getCurrentMana(float tickDelta) {
+        return SNAPSHOT.get().getMana(clientTicks, tickDelta);
     }
 
     public static int getMaxMana() {
-        return maxMana;
+        return SNAPSHOT.get().getMaxMana();
     }
 
     public static float getRegenMultiplier() {
-        return regenMultiplier;
+        return SNAPSHOT.get().getRegenMultiplier();
     }
 
     public static float getManaPercentage() {
-        if (maxMana <= 0) return 0; // Avoid division by zero
-        // Calculate percentage and clamp between 0 and 1
-        return Math.max(0, Math.min(1, currentMana / (float)maxMana));
+        return getManaPercentage(0);
     }
 
+    public static float getManaPercentage(float tickDelta) {
+        // Read once so mana and max come from the same snapshot
+        Snapshot snapshot = SNAPSHOT.get();
+        if (snapshot.getMaxMana() <= 0) return 0; // Avoid division by zero
+        // Calculate percentage and clamp between 0 and 1
+        return Math.max(0, Math.min(1, snapshot.getMana(clientTicks, tickDelta) / (float) snapshot.getMaxMana()));
+    }
 
     public static void resetOrMarkInactive() {
-        // Don't reset current mana value when items are removed
-        // Just make sure max mana returns to the default value
-        maxMana = ManaSystem.DEFAULT_MAX_MANA;
-        regenMultiplier = 1.0f; // Reset multiplier too
-        // Cap current mana at the new max if needed
-        if (currentMana > maxMana) {
-            currentMana = maxMana;
+        // Don't reset current mana value when items are removed.
+        // Max mana and the regen multiplier come from the server, which only resends them
+        // when they change, so they are kept; only unconfirmed local casts are dropped.
+        Snapshot snapshot = SNAPSHOT.get();
+        if (snapshot.pendingCost.length > 0) {
+            SNAPSHOT.compareAndSet(snapshot, snapshot.withoutPending(snapshot.pendingCost.length));
         }
     }
-}
\ No newline at end of file
+}
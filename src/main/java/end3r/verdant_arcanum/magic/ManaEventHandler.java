@@ -1,18 +1,23 @@
 package end3r.verdant_arcanum.magic;
 
+import end3r.verdant_arcanum.mixin.ServerLoginNetworkHandlerAccessor;
+import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerLoginConnectionEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.enchantment.Enchantment;
 import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.entity.EquipmentSlot;
-import net.minecraft.item.ItemStack;
-import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerLoginNetworkHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.dynamic.DynamicSerializableUuid;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -20,9 +25,14 @@ public class ManaEventHandler {
     private static Enchantment maxManaEnchantment;
     private static Enchantment manaRegenEnchantment;
 
-    public static final Identifier MANA_SYNC_ID = new Identifier("verdant_arcanum", "mana_sync");
+    // Tick phase that runs after every default END_SERVER_TICK listener, so drains are settled and
+    // all mana changes made during the tick are coalesced into a single sync pass
+    private static final Identifier MANA_SYNC_PHASE = new Identifier("verdant_arcanum", "mana_sync");
 
-    private static final Map<UUID, LastEquipmentState> playerEquipmentStates = new HashMap<>();
+    // Per-player periodic work, spread evenly over the ticks of each second
+    private static final PlayerTaskWheel PLAYER_TASKS = new PlayerTaskWheel();
+
+    private static final int PREDICTION_CHECK_SECONDS = 1;
 
 
     public static void initialize(Enchantment maxManaEnchant, Enchantment manaRegenEnchant) {
@@ -33,67 +43,82 @@ public class ManaEventHandler {
 
 
     private static void registerEvents() {
-        ServerTickEvents.END_SERVER_TICK.register(ManaEventHandler::onServerTick);
-
-        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> updateEquipmentState(handler.player));
+        ManaMetrics.register();
 
-        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> playerEquipmentStates.remove(handler.player.getUuid()));
-    }
+        PLAYER_TASKS.register(PREDICTION_CHECK_SECONDS, player -> ManaSystem.getInstance().checkClientPrediction(player));
 
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> ManaSystem.getInstance().onServerStarted(server));
 
-    private static void onServerTick(MinecraftServer server) {
-        ManaSystem manaSystem = ManaSystem.getInstance();
+        // Players are disconnected before this fires, so their final state is already queued
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> ManaSystem.getInstance().onServerStopped());
 
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            checkEquipmentChange(player);
+        ServerTickEvents.START_SERVER_TICK.register(server -> ManaSystem.getInstance().setCurrentTick(server.getTicks()));
 
-            // Check if it's time to update mana regen (once per second)
-            if (player.age % 20 == 0) {
-                float regenMultiplier = calculateManaRegenMultiplier(player);
+        ServerTickEvents.END_SERVER_TICK.addPhaseOrdering(Event.DEFAULT_PHASE, MANA_SYNC_PHASE);
+        ServerTickEvents.END_SERVER_TICK.register(MANA_SYNC_PHASE, server -> {
+            long start = System.nanoTime();
+            ManaSystem manaSystem = ManaSystem.getInstance();
+            PLAYER_TASKS.tick(server.getTicks());
+            manaSystem.settleDrains();
+            manaSystem.flushDirtySync(server);
+            ManaMetrics.recordTick(System.nanoTime() - start);
+        });
 
-                if (regenMultiplier > 1.0f) {
-                }
+        // Read saved mana while the player is still logging in; the login waits for it
+        ServerLoginConnectionEvents.QUERY_START.register((handler, server, sender, synchronizer) -> {
+            CompletableFuture<?> read = ManaSystem.getInstance().preloadPlayer(profileId(handler));
+            if (read != null) {
+                synchronizer.waitFor(read);
+            }
+        });
 
-                // This line is critical - add it to apply regeneration for ALL players
-                ManaSystem.getInstance().updateManaRegen(player, regenMultiplier);
+        ServerLoginConnectionEvents.DISCONNECT.register((handler, server) -> {
+            if (((ServerLoginNetworkHandlerAccessor) handler).verdant_arcanum$getProfile() != null) {
+                ManaSystem.getInstance().discardPreload(profileId(handler));
             }
-        }
+        });
+
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> {
+            ManaSystem.getInstance().onPlayerJoin(handler.player);
+            PLAYER_TASKS.addPlayer(ManaSystem.getInstance().getSlot(handler.player), handler.player);
+            updatePlayerMaxMana(handler.player);
+            ManaSystem.getInstance().updateManaRegen(handler.player, calculateManaRegenMultiplier(handler.player));
+        });
+
+        // Respawning creates a new entity for the same slot
+        ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) ->
+                PLAYER_TASKS.addPlayer(ManaSystem.getInstance().getSlot(newPlayer), newPlayer));
+
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> {
+            PLAYER_TASKS.removePlayer(ManaSystem.getInstance().getSlot(handler.player));
+            ManaSystem.getInstance().onPlayerDisconnect(handler.player);
+        });
     }
 
 
-    private static void checkEquipmentChange(ServerPlayerEntity player) {
-        LastEquipmentState lastState = playerEquipmentStates.get(player.getUuid());
-        if (lastState == null) {
-            updateEquipmentState(player);
-            updatePlayerMaxMana(player);
-            return;
-        }
+    // Offline-mode profiles only get their UUID once accepted, so derive it the same way vanilla does
+    private static UUID profileId(ServerLoginNetworkHandler handler) {
+        return DynamicSerializableUuid.getUuidFromProfile(((ServerLoginNetworkHandlerAccessor) handler).verdant_arcanum$getProfile());
+    }
+
 
-        ItemStack currentChestItem = player.getEquippedStack(EquipmentSlot.CHEST);
-        if (!ItemStack.areEqual(currentChestItem, lastState.chestItem)) {
+    /**
+     * Called from LivingEntityEquipmentMixin with the slots vanilla saw change this tick.
+     * Enchantment levels are only re-read for the slots that matter, and only when they changed.
+     */
+    public static void onEquipmentChanged(ServerPlayerEntity player, Set<EquipmentSlot> changedSlots) {
+        if (changedSlots.contains(EquipmentSlot.CHEST)) {
+            ManaMetrics.recordEquipmentRescan();
             updatePlayerMaxMana(player);
-            lastState.chestItem = currentChestItem.copy();
         }
 
-        ItemStack currentHeadItem = player.getEquippedStack(EquipmentSlot.HEAD);
-        if (!ItemStack.areEqual(currentHeadItem, lastState.headItem)) {
-            // Immediately update mana regen when head item changes
-            float regenMultiplier = calculateManaRegenMultiplier(player);
-            ManaSystem.getInstance().updateManaRegen(player, regenMultiplier);
-            lastState.headItem = currentHeadItem.copy();
+        if (changedSlots.contains(EquipmentSlot.HEAD)) {
+            ManaMetrics.recordEquipmentRescan();
+            ManaSystem.getInstance().updateManaRegen(player, calculateManaRegenMultiplier(player));
         }
     }
 
 
-    private static void updateEquipmentState(ServerPlayerEntity player) {
-        LastEquipmentState state = new LastEquipmentState(
-                player.getEquippedStack(EquipmentSlot.CHEST).copy(),
-                player.getEquippedStack(EquipmentSlot.HEAD).copy()
-        );
-        playerEquipmentStates.put(player.getUuid(), state);
-    }
-
-
     private static void updatePlayerMaxMana(ServerPlayerEntity player) {
         ManaSystem manaSystem = ManaSystem.getInstance(); // Get instance first
         ManaSystem.PlayerMana playerMana = manaSystem.getPlayerMana(player);
@@ -102,10 +127,8 @@ public class ManaEventHandler {
         int newMaxMana = ManaSystem.DEFAULT_MAX_MANA + maxManaBonus;
 
         if (playerMana.getMaxMana() != newMaxMana) {
+            // Marks the slot dirty; the end-of-tick sync sends it
             playerMana.setMaxMana(newMaxMana);
-
-            // Need to sync after changing max mana
-            manaSystem.syncManaToClient(player); // Use the instance
         }
     }
 
@@ -129,15 +152,4 @@ public class ManaEventHandler {
         return 1.0f + (regenLevel * 0.25f);
     }
 
-
-    private static class LastEquipmentState {
-        ItemStack chestItem;
-        ItemStack headItem;
-
-        LastEquipmentState(ItemStack chestItem, ItemStack headItem) {
-            this.chestItem = chestItem;
-            this.headItem = headItem;
-        }
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package end3r.verdant_arcanum.magic;
+
+/**
+ * Implemented on players by mixin so the mana store handle can be cached on the entity
+ * itself, keeping UUID lookups off the casting and tick paths.
+ */
+public interface ManaHandleHolder {
+    int NO_HANDLE = -1;
+
+    int verdant_arcanum$getManaHandle();
+
+    void verdant_arcanum$setManaHandle(int handle);
+}
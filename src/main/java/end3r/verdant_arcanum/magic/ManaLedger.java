@@ -0,0 +1,237 @@
+package end3r.verdant_arcanum.magic;
+
+import java.util.Arrays;
+
+/**
+ * Outstanding mana reservations and per-tick drain contracts.
+ *
+ * Both tables use the same layout as ManaStore: parallel primitive arrays with a
+ * free list, and ids that pack the entry index with a generation so a stale id
+ * from a finished contract can never touch a newer one.
+ */
+final class ManaLedger {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INDEX_BITS = 16;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int GENERATION_MASK = 0x7FFF;
+
+    static final int NO_ENTRY = -1;
+
+    private final ManaStore store;
+
+    // Reservations: mana already taken from the player, refundable until committed
+    private int[] reservationHandle = new int[INITIAL_CAPACITY];
+    private float[] reservationAmount = new float[INITIAL_CAPACITY];
+    private int[] reservationGeneration = new int[INITIAL_CAPACITY];
+    private final FreeList reservationFree = new FreeList();
+
+    // Drains: a fixed amount per tick for a number of ticks, settled in one pass per tick
+    private int[] drainHandle = new int[INITIAL_CAPACITY];
+    private float[] drainPerTick = new float[INITIAL_CAPACITY];
+    private int[] drainTicksLeft = new int[INITIAL_CAPACITY];
+    private int[] drainGeneration = new int[INITIAL_CAPACITY];
+    private final FreeList drainFree = new FreeList();
+
+    ManaLedger(ManaStore store) {
+        this.store = store;
+        Arrays.fill(reservationHandle, ManaStore.NO_HANDLE);
+        Arrays.fill(drainHandle, ManaStore.NO_HANDLE);
+    }
+
+    /**
+     * Take mana from a slot and hold it under a reservation id.
+     *
+     * @return the reservation id, or NO_ENTRY if the slot can't afford it
+     */
+    int reserve(int handle, float amount) {
+        int slot = ManaStore.slotOf(handle);
+        float current = store.currentMana(slot);
+        if (current < amount) {
+            return NO_ENTRY;
+        }
+        store.setMana(slot, current - amount);
+
+        int index = reservationFree.take();
+        if (index >= reservationHandle.length) {
+            growReservations(index + 1);
+        }
+        reservationHandle[index] = handle;
+        reservationAmount[index] = amount;
+        return idOf(index, reservationGeneration[index]);
+    }
+
+    /**
+     * Keep the reserved mana spent.
+     */
+    void commit(int reservationId) {
+        int index = liveReservation(reservationId);
+        if (index >= 0) {
+            freeReservation(index);
+        }
+    }
+
+    /**
+     * Give reserved mana back, as long as the player still holds the same slot.
+     */
+    void rollback(int reservationId) {
+        int index = liveReservation(reservationId);
+        if (index < 0) {
+            return;
+        }
+        int handle = reservationHandle[index];
+        if (store.isLive(handle)) {
+            int slot = ManaStore.slotOf(handle);
+            store.setMana(slot, Math.min(store.maxMana[slot], store.currentMana(slot) + reservationAmount[index]));
+        }
+        freeReservation(index);
+    }
+
+    /**
+     * Register a per-tick drain. Nothing is charged until the next settle pass.
+     */
+    int startDrain(int handle, float perTick, int ticks) {
+        int index = drainFree.take();
+        if (index >= drainHandle.length) {
+            growDrains(index + 1);
+        }
+        drainHandle[index] = handle;
+        drainPerTick[index] = perTick;
+        drainTicksLeft[index] = ticks;
+        return idOf(index, drainGeneration[index]);
+    }
+
+    boolean isDrainActive(int drainId) {
+        return liveDrain(drainId) >= 0;
+    }
+
+    void stopDrain(int drainId) {
+        int index = liveDrain(drainId);
+        if (index >= 0) {
+            freeDrain(index);
+        }
+    }
+
+    /**
+     * Charge every active drain once. A drain ends when its ticks run out, its player leaves,
+     * or its player can no longer pay; owners notice through isDrainActive.
+     *
+     * Also rebuilds each slot's drain summary in the store from the drains still running,
+     * which the mana sync sends so the client can predict them.
+     */
+    void settleDrains() {
+        Arrays.fill(store.drainPerTick, 0, store.highWater(), 0f);
+        Arrays.fill(store.drainTicksLeft, 0, store.highWater(), 0);
+
+        int end = drainFree.highWater();
+        for (int index = 0; index < end; index++) {
+            int handle = drainHandle[index];
+            if (handle == ManaStore.NO_HANDLE) {
+                continue;
+            }
+            if (!store.isLive(handle)) {
+                freeDrain(index);
+                continue;
+            }
+
+            int slot = ManaStore.slotOf(handle);
+            float current = store.currentMana(slot);
+            if (current < drainPerTick[index]) {
+                freeDrain(index);
+                continue;
+            }
+            store.setMana(slot, current - drainPerTick[index]);
+
+            if (--drainTicksLeft[index] <= 0) {
+                freeDrain(index);
+                continue;
+            }
+            store.drainPerTick[slot] += drainPerTick[index];
+            store.drainTicksLeft[slot] = Math.max(store.drainTicksLeft[slot], drainTicksLeft[index]);
+        }
+    }
+
+    private int liveReservation(int id) {
+        if (id == NO_ENTRY) {
+            return -1;
+        }
+        int index = id & INDEX_MASK;
+        if (index >= reservationHandle.length
+                || reservationHandle[index] == ManaStore.NO_HANDLE
+                || (reservationGeneration[index] & GENERATION_MASK) != (id >>> INDEX_BITS)) {
+            return -1;
+        }
+        return index;
+    }
+
+    private int liveDrain(int id) {
+        if (id == NO_ENTRY) {
+            return -1;
+        }
+        int index = id & INDEX_MASK;
+        if (index >= drainHandle.length
+                || drainHandle[index] == ManaStore.NO_HANDLE
+                || (drainGeneration[index] & GENERATION_MASK) != (id >>> INDEX_BITS)) {
+            return -1;
+        }
+        return index;
+    }
+
+    private void freeReservation(int index) {
+        reservationHandle[index] = ManaStore.NO_HANDLE;
+        reservationGeneration[index]++;
+        reservationFree.give(index);
+    }
+
+    private void freeDrain(int index) {
+        drainHandle[index] = ManaStore.NO_HANDLE;
+        drainGeneration[index]++;
+        drainFree.give(index);
+    }
+
+    private static int idOf(int index, int generation) {
+        return ((generation & GENERATION_MASK) << INDEX_BITS) | index;
+    }
+
+    private void growReservations(int required) {
+        int oldLength = reservationHandle.length;
+        int newLength = Math.max(required, oldLength * 2);
+        reservationHandle = Arrays.copyOf(reservationHandle, newLength);
+        Arrays.fill(reservationHandle, oldLength, newLength, ManaStore.NO_HANDLE);
+        reservationAmount = Arrays.copyOf(reservationAmount, newLength);
+        reservationGeneration = Arrays.copyOf(reservationGeneration, newLength);
+    }
+
+    private void growDrains(int required) {
+        int oldLength = drainHandle.length;
+        int newLength = Math.max(required, oldLength * 2);
+        drainHandle = Arrays.copyOf(drainHandle, newLength);
+        Arrays.fill(drainHandle, oldLength, newLength, ManaStore.NO_HANDLE);
+        drainPerTick = Arrays.copyOf(drainPerTick, newLength);
+        drainTicksLeft = Arrays.copyOf(drainTicksLeft, newLength);
+        drainGeneration = Arrays.copyOf(drainGeneration, newLength);
+    }
+
+    /**
+     * Stack of released indices, falling back to a growing high-water mark.
+     */
+    private static final class FreeList {
+        private int[] free = new int[INITIAL_CAPACITY];
+        private int count = 0;
+        private int highWater = 0;
+
+        int take() {
+            return count > 0 ? free[--count] : highWater++;
+        }
+
+        void give(int index) {
+            if (count == free.length) {
+                free = Arrays.copyOf(free, free.length * 2);
+            }
+            free[count++] = index;
+        }
+
+        int highWater() {
+            return highWater;
+        }
+    }
+}
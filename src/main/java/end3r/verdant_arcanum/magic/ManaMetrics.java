@@ -0,0 +1,169 @@
+package end3r.verdant_arcanum.magic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Counters for the mana subsystem.
+ *
+ * Recording only bumps primitive fields on the server thread, so it allocates nothing and
+ * can stay on permanently. The totals are read by /verdant stats mana, and a periodic
+ * JDK Flight Recorder event reports the change since its last run while a recording is active.
+ */
+public final class ManaMetrics {
+    private static long packetsSent;
+    private static long bytesSent;
+    private static long regenUpdates;
+    private static long equipmentRescans;
+    private static long failedCasts;
+    private static long ticks;
+    private static long tickNanos;
+    private static long maxTickNanos;
+
+    // Totals at the last periodic JFR event; only touched by the JFR periodic thread
+    private static long reportedPacketsSent;
+    private static long reportedBytesSent;
+    private static long reportedRegenUpdates;
+    private static long reportedEquipmentRescans;
+    private static long reportedFailedCasts;
+    private static long reportedTicks;
+    private static long reportedTickNanos;
+
+    private static boolean registered = false;
+
+    private ManaMetrics() {
+    }
+
+    /**
+     * Hook the periodic JFR event. Safe to call more than once.
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+        FlightRecorder.addPeriodicEvent(StatsEvent.class, ManaMetrics::emitStatsEvent);
+    }
+
+    public static void recordPacket(int bytes) {
+        packetsSent++;
+        bytesSent += bytes;
+    }
+
+    public static void recordRegenUpdate() {
+        regenUpdates++;
+    }
+
+    public static void recordEquipmentRescan() {
+        equipmentRescans++;
+    }
+
+    public static void recordFailedCast() {
+        failedCasts++;
+    }
+
+    /**
+     * Record the time spent in the mana tick handlers.
+     *
+     * @param nanos elapsed time measured with System.nanoTime
+     */
+    public static void recordTick(long nanos) {
+        ticks++;
+        tickNanos += nanos;
+        if (nanos > maxTickNanos) {
+            maxTickNanos = nanos;
+        }
+    }
+
+    public static long getPacketsSent() {
+        return packetsSent;
+    }
+
+    public static long getBytesSent() {
+        return bytesSent;
+    }
+
+    public static long getRegenUpdates() {
+        return regenUpdates;
+    }
+
+    public static long getEquipmentRescans() {
+        return equipmentRescans;
+    }
+
+    public static long getFailedCasts() {
+        return failedCasts;
+    }
+
+    public static long getTicks() {
+        return ticks;
+    }
+
+    public static long getTickNanos() {
+        return tickNanos;
+    }
+
+    public static long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+
+    // Counters are written by the server thread without synchronization; a report that is
+    // a tick out of date is fine for statistics
+    private static void emitStatsEvent() {
+        StatsEvent event = new StatsEvent();
+        event.packetsSent = packetsSent - reportedPacketsSent;
+        event.bytesSent = bytesSent - reportedBytesSent;
+        event.regenUpdates = regenUpdates - reportedRegenUpdates;
+        event.equipmentRescans = equipmentRescans - reportedEquipmentRescans;
+        event.failedCasts = failedCasts - reportedFailedCasts;
+        event.ticks = ticks - reportedTicks;
+        event.tickTime = tickNanos - reportedTickNanos;
+        event.commit();
+
+        reportedPacketsSent += event.packetsSent;
+        reportedBytesSent += event.bytesSent;
+        reportedRegenUpdates += event.regenUpdates;
+        reportedEquipmentRescans += event.equipmentRescans;
+        reportedFailedCasts += event.failedCasts;
+        reportedTicks += event.ticks;
+        reportedTickNanos += event.tickTime;
+    }
+
+    @Name("verdant_arcanum.ManaStats")
+    @Label("Mana Statistics")
+    @Description("Mana subsystem activity since the previous event")
+    @Category({"Verdant Arcanum", "Mana"})
+    @Period("1 s")
+    @StackTrace(false)
+    static final class StatsEvent extends Event {
+        @Label("Packets Sent")
+        long packetsSent;
+
+        @Label("Bytes Sent")
+        long bytesSent;
+
+        @Label("Regen Updates")
+        long regenUpdates;
+
+        @Label("Equipment Rescans")
+        long equipmentRescans;
+
+        @Label("Failed Casts")
+        @Description("Casts rejected for insufficient mana")
+        long failedCasts;
+
+        @Label("Ticks")
+        long ticks;
+
+        @Label("Tick Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long tickTime;
+    }
+}
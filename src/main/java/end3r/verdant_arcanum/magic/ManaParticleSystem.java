@@ -48,7 +48,6 @@ public class ManaParticleSystem {
      * Call this method each tick for players
      */
     public void updateManaParticles(PlayerEntity player) {
-        ManaSystem.PlayerMana playerMana = ManaSystem.getInstance().getPlayerMana(player);
         float manaPercent = getManaPercentage();
 
         // Only show particles for the client's player
@@ -0,0 +1,243 @@
+package end3r.verdant_arcanum.magic;
+
+import end3r.verdant_arcanum.VerdantArcanum;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-world mana storage.
+ *
+ * Each player gets one small binary file under the world folder, so joining only
+ * reads that player's file no matter how many players the world has seen. Changes
+ * are queued on the server thread and written in batches by a single background
+ * thread, which keeps file I/O off the tick and keeps writes for a player in order.
+ * Reads go through the same thread: a player's file is preloaded while they are still
+ * logging in, so the join itself never touches the disk.
+ */
+public class ManaPersistence {
+    private static final int FORMAT_VERSION = 1;
+    private static final String FILE_EXTENSION = ".dat";
+
+    private final Path directory;
+    private final ExecutorService ioExecutor;
+
+    // Snapshots queued since the last flush (server thread only)
+    private Map<UUID, Snapshot> pending = new HashMap<>();
+
+    // Snapshots handed to the IO thread but not yet on disk; consulted on load so a quick
+    // relog never reads a file that is about to be overwritten
+    private final Map<UUID, Snapshot> inFlight = new ConcurrentHashMap<>();
+
+    // Reads started during login, taken by load() at join (server thread only)
+    private final Map<UUID, CompletableFuture<Snapshot>> preloaded = new HashMap<>();
+
+    private Future<?> lastWrite;
+
+    public ManaPersistence(Path directory) {
+        this.directory = directory;
+        this.ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Verdant Arcanum Mana IO");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Saved mana state for one player.
+     */
+    public static class Snapshot {
+        private final int maxMana;
+        private final float currentMana;
+
+        public Snapshot(int maxMana, float currentMana) {
+            this.maxMana = maxMana;
+            this.currentMana = currentMana;
+        }
+
+        public int getMaxMana() {
+            return maxMana;
+        }
+
+        public float getCurrentMana() {
+            return currentMana;
+        }
+    }
+
+    /**
+     * Queue a player's state for the next batch write.
+     */
+    public void markDirty(UUID playerId, int maxMana, float currentMana) {
+        pending.put(playerId, new Snapshot(maxMana, currentMana));
+        // A read started before this change is stale
+        preloaded.remove(playerId);
+    }
+
+    /**
+     * Start reading a player's saved state on the IO thread. The read is queued behind any
+     * batch already submitted, so it sees the player's latest write.
+     *
+     * @return completes once the state is available to load()
+     */
+    public CompletableFuture<Snapshot> preload(UUID playerId) {
+        CompletableFuture<Snapshot> read = CompletableFuture.supplyAsync(() -> readSnapshot(playerId), ioExecutor);
+        preloaded.put(playerId, read);
+        return read;
+    }
+
+    /**
+     * Forget a preload whose player never joined.
+     */
+    public void discardPreload(UUID playerId) {
+        preloaded.remove(playerId);
+    }
+
+    /**
+     * Load a player's saved state, or null if they have never been saved in this world.
+     * Only reads the disk on this thread if the player wasn't preloaded, or changed since.
+     */
+    public Snapshot load(UUID playerId) {
+        CompletableFuture<Snapshot> read = preloaded.remove(playerId);
+
+        Snapshot queued = pending.get(playerId);
+        if (queued != null) {
+            return queued;
+        }
+        queued = inFlight.get(playerId);
+        if (queued != null) {
+            return queued;
+        }
+
+        if (read != null) {
+            // Login waits for the read, so this doesn't block
+            return read.join();
+        }
+        return readSnapshot(playerId);
+    }
+
+    /**
+     * Queue one player's state and hand it to the IO thread straight away, e.g. when they
+     * leave, so it doesn't wait for the next autosave.
+     */
+    public void save(UUID playerId, int maxMana, float currentMana) {
+        markDirty(playerId, maxMana, currentMana);
+        flush(false);
+    }
+
+    /**
+     * Hand every queued snapshot to the IO thread as one batch.
+     *
+     * @param wait block until the batch is on disk (used on shutdown)
+     */
+    public void flush(boolean wait) {
+        if (!pending.isEmpty()) {
+            Map<UUID, Snapshot> batch = pending;
+            pending = new HashMap<>();
+            inFlight.putAll(batch);
+            lastWrite = ioExecutor.submit(() -> writeBatch(batch));
+        }
+
+        if (wait && lastWrite != null) {
+            try {
+                lastWrite.get();
+            } catch (Exception e) {
+                VerdantArcanum.LOGGER.error("Failed waiting for mana data to be written", e);
+            }
+        }
+    }
+
+    /**
+     * Write everything still queued and stop the IO thread.
+     */
+    public void close() {
+        flush(true);
+        ioExecutor.shutdown();
+        try {
+            ioExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeBatch(Map<UUID, Snapshot> batch) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            VerdantArcanum.LOGGER.error("Failed to create mana data directory {}", directory, e);
+            return;
+        }
+
+        List<UUID> failed = new ArrayList<>();
+        for (Map.Entry<UUID, Snapshot> entry : batch.entrySet()) {
+            UUID playerId = entry.getKey();
+            Snapshot snapshot = entry.getValue();
+            try {
+                writeSnapshot(playerId, snapshot);
+            } catch (IOException e) {
+                failed.add(playerId);
+            }
+            // Only drop the in-flight entry if no newer batch replaced it meanwhile
+            inFlight.remove(playerId, snapshot);
+        }
+
+        if (!failed.isEmpty()) {
+            VerdantArcanum.LOGGER.error("Failed to write mana data for {} player(s): {}", failed.size(), failed);
+        }
+    }
+
+    private Snapshot readSnapshot(UUID playerId) {
+        Path file = fileFor(playerId);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                VerdantArcanum.LOGGER.warn("Ignoring mana data for {} with unknown format version {}", playerId, version);
+                return null;
+            }
+            return new Snapshot(in.readInt(), in.readFloat());
+        } catch (IOException e) {
+            VerdantArcanum.LOGGER.error("Failed to read mana data for {}", playerId, e);
+            return null;
+        }
+    }
+
+    private void writeSnapshot(UUID playerId, Snapshot snapshot) throws IOException {
+        Path file = fileFor(playerId);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(snapshot.getMaxMana());
+            out.writeFloat(snapshot.getCurrentMana());
+        }
+
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path fileFor(UUID playerId) {
+        return directory.resolve(playerId + FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,322 @@
+package end3r.verdant_arcanum.magic;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Struct-of-arrays storage for player mana.
+ *
+ * Every online player owns a dense slot; all per-player values live in parallel
+ * primitive arrays indexed by that slot. Slots are recycled when players leave,
+ * and each reuse bumps the slot's generation so stale handles can be detected
+ * without touching the UUID map.
+ *
+ * Regeneration is never applied per tick. Each slot stores the mana value at its
+ * last change, the tick of that change and the regen rate, and the current value
+ * is computed from those on read.
+ *
+ * A handle packs the slot in the low 16 bits and the generation in the bits above.
+ */
+final class ManaStore {
+    private static final int INITIAL_CAPACITY = 32;
+    private static final int SLOT_BITS = 16;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    // One bit short of 16 so a packed handle is never negative
+    private static final int GENERATION_MASK = 0x7FFF;
+
+    // Regen rate is defined per second; the store works in ticks
+    private static final float TICKS_PER_SECOND = 20f;
+
+    static final int NO_HANDLE = ManaHandleHolder.NO_HANDLE;
+
+    // Parallel per-slot data
+    int[] maxMana = new int[INITIAL_CAPACITY];
+    private float[] baseMana = new float[INITIAL_CAPACITY];
+    private long[] baseTick = new long[INITIAL_CAPACITY];
+    private float[] regenPerTick = new float[INITIAL_CAPACITY];
+    private long[] fullAtTick = new long[INITIAL_CAPACITY];
+    private long[] queuedNoticeTick = new long[INITIAL_CAPACITY];
+    float[] regenMultiplier = new float[INITIAL_CAPACITY];
+    // Combined rate and longest remaining run of the slot's drains, rebuilt by each ManaLedger settle pass
+    float[] drainPerTick = new float[INITIAL_CAPACITY];
+    int[] drainTicksLeft = new int[INITIAL_CAPACITY];
+    boolean[] dirty = new boolean[INITIAL_CAPACITY];
+
+    // Quantized values last sent to each client, so unchanged state is never resent
+    int[] sentMaxMana = new int[INITIAL_CAPACITY];
+    int[] sentMana = new int[INITIAL_CAPACITY];
+    int[] sentRegen = new int[INITIAL_CAPACITY];
+    int[] sentDrain = new int[INITIAL_CAPACITY];
+    long[] sentDrainEnd = new long[INITIAL_CAPACITY];
+    long[] sentTick = new long[INITIAL_CAPACITY];
+
+    // Quantized values last queued for disk, so autosave only writes players that changed
+    int[] savedMaxMana = new int[INITIAL_CAPACITY];
+    int[] savedMana = new int[INITIAL_CAPACITY];
+
+    private int[] generation = new int[INITIAL_CAPACITY];
+    private UUID[] owners = new UUID[INITIAL_CAPACITY];
+    private ManaSystem.PlayerMana[] views = new ManaSystem.PlayerMana[INITIAL_CAPACITY];
+
+    // Recycled slots, used before growing the high-water mark
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount = 0;
+    private int highWater = 0;
+
+    // Pending "mana will be full" notices, keyed by (tick << SLOT_BITS | slot)
+    private final PriorityQueue<Long> fullNotices = new PriorityQueue<>();
+
+    // Clock the lazy regen is evaluated against
+    private long tick = 0;
+
+    // Only consulted on join/leave or when an entity has no cached handle yet
+    private final Map<UUID, Integer> slotsByPlayer = new HashMap<>();
+
+    /**
+     * Assign a slot to a player, or return the existing handle if they already have one.
+     */
+    int acquire(UUID playerId, int initialMaxMana, float initialMana) {
+        Integer existing = slotsByPlayer.get(playerId);
+        if (existing != null) {
+            return handleOf(existing);
+        }
+
+        int slot = freeCount > 0 ? freeSlots[--freeCount] : highWater++;
+        ensureCapacity(slot + 1);
+
+        owners[slot] = playerId;
+        queuedNoticeTick[slot] = -1;
+        maxMana[slot] = initialMaxMana;
+        regenMultiplier[slot] = 1.0f;
+        regenPerTick[slot] = ManaSystem.DEFAULT_MANA_REGEN_RATE / TICKS_PER_SECOND;
+        drainPerTick[slot] = 0;
+        drainTicksLeft[slot] = 0;
+        setMana(slot, Math.min(initialMana, initialMaxMana));
+        forgetSent(slot);
+        savedMaxMana[slot] = -1;
+        savedMana[slot] = -1;
+        if (views[slot] == null) {
+            views[slot] = new ManaSystem.PlayerMana(this, slot);
+        }
+
+        slotsByPlayer.put(playerId, slot);
+        return handleOf(slot);
+    }
+
+    /**
+     * Free a player's slot so it can be handed to the next player who joins.
+     *
+     * @return the released slot, or -1 if the player had none
+     */
+    int release(UUID playerId) {
+        Integer slot = slotsByPlayer.remove(playerId);
+        if (slot == null) {
+            return -1;
+        }
+
+        owners[slot] = null;
+        dirty[slot] = false;
+        fullAtTick[slot] = -1;
+        queuedNoticeTick[slot] = -1;
+        generation[slot]++;
+
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        return slot;
+    }
+
+    /**
+     * Look up a player's handle by UUID. This hashes, so callers should cache the result.
+     */
+    int find(UUID playerId) {
+        Integer slot = slotsByPlayer.get(playerId);
+        return slot != null ? handleOf(slot) : NO_HANDLE;
+    }
+
+    /**
+     * Check that a cached handle still refers to the slot it was issued for.
+     */
+    boolean isLive(int handle) {
+        if (handle == NO_HANDLE) {
+            return false;
+        }
+        int slot = slotOf(handle);
+        return slot < highWater
+                && owners[slot] != null
+                && (generation[slot] & GENERATION_MASK) == (handle >>> SLOT_BITS);
+    }
+
+    void setTick(long tick) {
+        this.tick = tick;
+    }
+
+    long getTick() {
+        return tick;
+    }
+
+    /**
+     * Current mana, extrapolated from the last change using the slot's regen rate.
+     */
+    float currentMana(int slot) {
+        float regenerated = baseMana[slot] + regenPerTick[slot] * (tick - baseTick[slot]);
+        return Math.min(maxMana[slot], regenerated);
+    }
+
+    /**
+     * Mana the client should be showing: the last value sent, plus the regen and minus the
+     * drain it has extrapolated locally since then. Mirrors ClientManaData.Snapshot.
+     */
+    float clientPrediction(int slot) {
+        long elapsed = tick - sentTick[slot];
+        long drained = Math.min(elapsed, Math.max(0, sentDrainEnd[slot] - sentTick[slot]));
+        float predicted = ManaSyncPacket.dequantizeMana(sentMana[slot])
+                + regenPerTick[slot] * elapsed
+                - ManaSyncPacket.dequantizeDrain(sentDrain[slot]) * drained;
+        return Math.max(0, Math.min(sentMaxMana[slot], predicted));
+    }
+
+    /**
+     * Replace the slot's mana value as of the current tick and reschedule its full notice.
+     */
+    void setMana(int slot, float value) {
+        baseMana[slot] = value;
+        baseTick[slot] = tick;
+        dirty[slot] = true;
+        scheduleFullNotice(slot);
+    }
+
+    /**
+     * Change the regen multiplier, folding regen accrued at the old rate into the base value first.
+     *
+     * @return false if the slot already had this multiplier
+     */
+    boolean setRegenMultiplier(int slot, float multiplier) {
+        if (regenMultiplier[slot] == multiplier) {
+            return false;
+        }
+        float current = currentMana(slot);
+        regenMultiplier[slot] = multiplier;
+        regenPerTick[slot] = ManaSystem.DEFAULT_MANA_REGEN_RATE * multiplier / TICKS_PER_SECOND;
+        setMana(slot, current);
+        return true;
+    }
+
+    /**
+     * Mark every slot whose mana has reached its maximum since the last call as dirty,
+     * so the client gets exactly one final update when regeneration completes.
+     *
+     * At most one notice per slot sits in the queue. When a slot's full tick moves later
+     * (for example while a drain is charging it every tick) the queued notice is simply
+     * re-queued for the new tick when it comes due, instead of pushing a notice per change.
+     */
+    void processFullNotices() {
+        Long next;
+        while ((next = fullNotices.peek()) != null && (next >>> SLOT_BITS) <= tick) {
+            fullNotices.poll();
+            int slot = (int) (next & SLOT_MASK);
+            long noticeTick = next >>> SLOT_BITS;
+
+            // Superseded by an earlier notice for the same slot
+            if (queuedNoticeTick[slot] != noticeTick) {
+                continue;
+            }
+            queuedNoticeTick[slot] = -1;
+
+            if (owners[slot] == null || fullAtTick[slot] == -1) {
+                continue;
+            }
+            if (fullAtTick[slot] <= tick) {
+                fullAtTick[slot] = -1;
+                dirty[slot] = true;
+            } else {
+                queueNotice(slot, fullAtTick[slot]);
+            }
+        }
+    }
+
+    private void scheduleFullNotice(int slot) {
+        float missing = maxMana[slot] - baseMana[slot];
+        if (missing <= 0 || regenPerTick[slot] <= 0) {
+            fullAtTick[slot] = -1;
+            return;
+        }
+        long fullTick = baseTick[slot] + (long) Math.ceil(missing / regenPerTick[slot]);
+        fullAtTick[slot] = fullTick;
+
+        // A later full tick is picked up when the queued notice comes due
+        if (queuedNoticeTick[slot] == -1 || fullTick < queuedNoticeTick[slot]) {
+            queueNotice(slot, fullTick);
+        }
+    }
+
+    private void queueNotice(int slot, long noticeTick) {
+        queuedNoticeTick[slot] = noticeTick;
+        fullNotices.add((noticeTick << SLOT_BITS) | slot);
+    }
+
+    /**
+     * Clear the last-sent snapshot so the next sync pass always sends this slot.
+     */
+    void forgetSent(int slot) {
+        sentMaxMana[slot] = -1;
+        sentMana[slot] = -1;
+        sentRegen[slot] = -1;
+        sentDrain[slot] = -1;
+    }
+
+    ManaSystem.PlayerMana view(int slot) {
+        return views[slot];
+    }
+
+    UUID owner(int slot) {
+        return owners[slot];
+    }
+
+    /**
+     * Upper bound (exclusive) of slots that have ever been used; loop bound for bulk passes.
+     */
+    int highWater() {
+        return highWater;
+    }
+
+    static int slotOf(int handle) {
+        return handle & SLOT_MASK;
+    }
+
+    private int handleOf(int slot) {
+        return ((generation[slot] & GENERATION_MASK) << SLOT_BITS) | slot;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= maxMana.length) {
+            return;
+        }
+        int newCapacity = Math.max(required, maxMana.length * 2);
+        maxMana = Arrays.copyOf(maxMana, newCapacity);
+        baseMana = Arrays.copyOf(baseMana, newCapacity);
+        baseTick = Arrays.copyOf(baseTick, newCapacity);
+        regenPerTick = Arrays.copyOf(regenPerTick, newCapacity);
+        fullAtTick = Arrays.copyOf(fullAtTick, newCapacity);
+        queuedNoticeTick = Arrays.copyOf(queuedNoticeTick, newCapacity);
+        regenMultiplier = Arrays.copyOf(regenMultiplier, newCapacity);
+        drainPerTick = Arrays.copyOf(drainPerTick, newCapacity);
+        drainTicksLeft = Arrays.copyOf(drainTicksLeft, newCapacity);
+        dirty = Arrays.copyOf(dirty, newCapacity);
+        sentMaxMana = Arrays.copyOf(sentMaxMana, newCapacity);
+        sentMana = Arrays.copyOf(sentMana, newCapacity);
+        sentRegen = Arrays.copyOf(sentRegen, newCapacity);
+        sentDrain = Arrays.copyOf(sentDrain, newCapacity);
+        sentDrainEnd = Arrays.copyOf(sentDrainEnd, newCapacity);
+        sentTick = Arrays.copyOf(sentTick, newCapacity);
+        savedMaxMana = Arrays.copyOf(savedMaxMana, newCapacity);
+        savedMana = Arrays.copyOf(savedMana, newCapacity);
+        generation = Arrays.copyOf(generation, newCapacity);
+        owners = Arrays.copyOf(owners, newCapacity);
+        views = Arrays.copyOf(views, newCapacity);
+    }
+}
@@ -8,9 +8,21 @@ import net.minecraft.network.PacketByteBuf;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
 
+/**
+ * Mana state sent from server to client.
+ *
+ * Wire layout (all varints): max mana, current mana in tenths, regen multiplier in hundredths,
+ * active drain per tick in thousandths, and how many more ticks that drain runs.
+ */
 public class ManaSyncPacket {
     private static final Identifier CHANNEL = new Identifier("verdant_arcanum", "mana_sync");
 
+    // Fixed-point scales used on the wire
+    private static final float MANA_SCALE = 10f;
+    private static final float REGEN_SCALE = 100f;
+    // Finer than mana: a drain's rounding error adds up over every tick it runs
+    private static final float DRAIN_SCALE = 1000f;
+
     // Register the server-side packet sender
     public static void registerServer() {
         // This method would set up how the server sends packets to clients
@@ -19,30 +31,49 @@ public class ManaSyncPacket {
     // Register the client-side packet receiver
     public static void registerClient() {
         ClientPlayNetworking.registerGlobalReceiver(CHANNEL, (client, handler, buf, responseSender) -> {
-            // Only read what the server actually sent
-            if (buf.readableBytes() >= 8) {
-                int maxMana = buf.readInt();
-                float currentMana = buf.readInt(); // You might want to convert to float here
-
-                client.execute(() -> {
-                    // Use the combined setter method instead of the individual ones
-                    ClientManaData.setMana(currentMana, maxMana, ClientManaData.getRegenMultiplier());
-                    // This uses the existing regen multiplier value since it's not being synced in this packet
-                });
-            }
+            int maxMana = buf.readVarInt();
+            float currentMana = dequantizeMana(buf.readVarInt());
+            float regenMultiplier = buf.readVarInt() / REGEN_SCALE;
+            float drainPerTick = dequantizeDrain(buf.readVarInt());
+            int drainTicks = buf.readVarInt();
+
+            // ClientManaData swaps an immutable snapshot, so this can apply on the network thread
+            ClientManaData.setMana(currentMana, maxMana, regenMultiplier, drainPerTick, drainTicks);
         });
     }
 
+    public static int quantizeMana(float mana) {
+        return Math.max(0, Math.round(mana * MANA_SCALE));
+    }
+
+    public static float dequantizeMana(int quantizedMana) {
+        return quantizedMana / MANA_SCALE;
+    }
+
+    public static int quantizeRegen(float regenMultiplier) {
+        return Math.max(0, Math.round(regenMultiplier * REGEN_SCALE));
+    }
+
+    public static int quantizeDrain(float drainPerTick) {
+        return Math.max(0, Math.round(drainPerTick * DRAIN_SCALE));
+    }
+
+    public static float dequantizeDrain(int quantizedDrain) {
+        return quantizedDrain / DRAIN_SCALE;
+    }
 
-    // Method used by the server to send mana data to a client
-    public static void sendToClient(ServerPlayerEntity player, ManaSystem.PlayerMana manaData) {
+    // Method used by the server to send already-quantized mana data to a client
+    public static void sendToClient(ServerPlayerEntity player, int maxMana, int quantizedMana, int quantizedRegen,
+                                    int quantizedDrain, int drainTicks) {
         PacketByteBuf buf = PacketByteBufs.create();
 
-        // Write exactly what will be read on the client side
-        buf.writeInt(manaData.getMaxMana());
-        buf.writeInt((int)manaData.getCurrentMana()); // Cast float to int if needed
+        buf.writeVarInt(maxMana);
+        buf.writeVarInt(quantizedMana);
+        buf.writeVarInt(quantizedRegen);
+        buf.writeVarInt(quantizedDrain);
+        buf.writeVarInt(drainTicks);
 
-        // Send only the data that's expected
+        ManaMetrics.recordPacket(buf.readableBytes());
         ServerPlayNetworking.send(player, CHANNEL, buf);
     }
-}
\ No newline at end of file
+}
@@ -1,30 +1,29 @@
 package end3r.verdant_arcanum.magic;
 
-import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.nbt.NbtCompound;
-import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.util.Identifier;
+import net.minecraft.util.WorldSavePath;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
-
-import static end3r.verdant_arcanum.magic.ClientManaData.currentMana;
-import static end3r.verdant_arcanum.magic.ClientManaData.maxMana;
-
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Manages player mana for spell casting
+ * Manages player mana for spell casting. Server-side and authoritative; the client
+ * keeps its own mirror in ClientManaData and never reads this.
  */
 public class ManaSystem {
-    // Singleton instance
-    private static ManaSystem INSTANCE;
+    // Singleton instance; created eagerly so the client and integrated server threads can't race on it
+    private static final ManaSystem INSTANCE = new ManaSystem();
+
+    // Slot-indexed mana data for every online player
+    private final ManaStore store = new ManaStore();
 
-    // Map of player UUIDs to their current mana
-    private final Map<UUID, PlayerMana> playerManaMap = new HashMap<>();
+    // Open reservations and drain contracts against the store
+    private final ManaLedger ledger = new ManaLedger(store);
+
+    // Per-world storage; only present while a server is running
+    private ManaPersistence persistence;
 
     // Default max mana for new players
     public static final int DEFAULT_MAX_MANA = 100;
@@ -32,8 +31,14 @@ public class ManaSystem {
     // Default mana regeneration rate
     public static final float DEFAULT_MANA_REGEN_RATE = 2f;
 
-    // Map for tracking custom regeneration multipliers per player
-    private final Map<UUID, Float> regenMultipliers = new HashMap<>();
+    // How far the client's predicted mana may drift before the server corrects it
+    private static final float PREDICTION_TOLERANCE = 1.0f;
+
+    // Returned by tryConsume when the player can't afford the cost
+    public static final float NOT_ENOUGH_MANA = -1f;
+
+    // Returned by reserve and startDrain when nothing was opened
+    public static final int NO_TRANSACTION = ManaLedger.NO_ENTRY;
 
     private ManaSystem() {
         // Private constructor for singleton
@@ -43,18 +48,96 @@ public class ManaSystem {
      * Get the singleton instance of ManaSystem.
      */
     public static ManaSystem getInstance() {
-        if (INSTANCE == null) {
-            INSTANCE = new ManaSystem();
-        }
         return INSTANCE;
     }
 
+    /**
+     * Start reading a connecting player's saved mana so it is ready by the time they join.
+     *
+     * @return completes when the read has finished, or null if no world is open
+     */
+    public CompletableFuture<?> preloadPlayer(UUID playerId) {
+        return persistence != null ? persistence.preload(playerId) : null;
+    }
+
+    /**
+     * Drop the preloaded mana of a player whose login failed.
+     */
+    public void discardPreload(UUID playerId) {
+        if (persistence != null) {
+            persistence.discardPreload(playerId);
+        }
+    }
+
+    /**
+     * Assign a store slot to a joining player and cache the handle on the entity.
+     */
+    public void onPlayerJoin(PlayerEntity player) {
+        UUID playerId = player.getUuid();
+        // Only this player's entry is read, and it was preloaded during login
+        ManaPersistence.Snapshot saved = persistence != null ? persistence.load(playerId) : null;
+        int handle = saved != null
+                ? store.acquire(playerId, saved.getMaxMana(), saved.getCurrentMana())
+                : store.acquire(playerId, DEFAULT_MAX_MANA, DEFAULT_MAX_MANA);
+        ((ManaHandleHolder) player).verdant_arcanum$setManaHandle(handle);
+    }
+
+    /**
+     * Write a leaving player's mana straight away and release their slot so it can be recycled.
+     */
+    public void onPlayerDisconnect(PlayerEntity player) {
+        UUID playerId = player.getUuid();
+        int handle = store.find(playerId);
+        if (handle != ManaStore.NO_HANDLE && persistence != null) {
+            int slot = ManaStore.slotOf(handle);
+            persistence.save(playerId, store.maxMana[slot], store.currentMana(slot));
+        }
+        store.release(playerId);
+        ((ManaHandleHolder) player).verdant_arcanum$setManaHandle(ManaHandleHolder.NO_HANDLE);
+    }
+
+    /**
+     * Resolve the store slot for a player. Uses the handle cached on the entity and only
+     * falls back to a UUID lookup when the entity is new (e.g. after respawn) or has no slot yet.
+     */
+    public int getSlot(PlayerEntity player) {
+        return ManaStore.slotOf(getHandle(player));
+    }
+
+    /**
+     * Get the player's store handle: their slot plus the slot's generation. It stays the same
+     * while the player is online and changes when the slot is handed to someone else, so other
+     * per-player tables can index by slot and tell stale entries apart without a UUID lookup.
+     */
+    public int getPlayerHandle(PlayerEntity player) {
+        return getHandle(player);
+    }
+
+    /**
+     * The slot a handle from getPlayerHandle refers to.
+     */
+    public static int slotOfHandle(int handle) {
+        return ManaStore.slotOf(handle);
+    }
+
+    private int getHandle(PlayerEntity player) {
+        ManaHandleHolder holder = (ManaHandleHolder) player;
+        int handle = holder.verdant_arcanum$getManaHandle();
+        if (!store.isLive(handle)) {
+            handle = store.find(player.getUuid());
+            if (handle == ManaStore.NO_HANDLE) {
+                handle = store.acquire(player.getUuid(), DEFAULT_MAX_MANA, DEFAULT_MAX_MANA);
+            }
+            holder.verdant_arcanum$setManaHandle(handle);
+        }
+        return handle;
+    }
+
     /**
      * Get a player's mana data, creating it if it doesn't exist.
      */
     public PlayerMana getPlayerMana(PlayerEntity player) {
-        UUID playerId = player.getUuid();
-        return playerManaMap.computeIfAbsent(playerId, id -> new PlayerMana(DEFAULT_MAX_MANA));
+        return store.view(getSlot(player));
     }
 
     /**
@@ -65,8 +148,7 @@ public class ManaSystem {
      * @return true if the player has enough mana, false otherwise
      */
     public boolean hasEnoughMana(PlayerEntity player, int manaCost) {
-        PlayerMana playerMana = getPlayerMana(player);
-        return playerMana.getCurrentMana() >= manaCost;
+        return store.currentMana(getSlot(player)) >= manaCost;
     }
 
     /**
@@ -77,139 +159,240 @@ public class ManaSystem {
      * @return true if mana was consumed, false if not enough mana
      */
     public boolean useMana(PlayerEntity player, int amount) {
-        if (hasEnoughMana(player, amount)) {
-            PlayerMana playerMana = getPlayerMana(player);
-            playerMana.consumeMana(amount);
-            ManaSyncPacket.sendToClient((ServerPlayerEntity) player, playerMana);
-
-            return true;
-        }
-        return false;
+        return tryConsume(player, amount) != NOT_ENOUGH_MANA;
     }
 
-    public void updateManaRegen(PlayerEntity player) {
-        updateManaRegen(player, 1.0f);
+    /**
+     * Check and consume in a single lookup.
+     *
+     * @param player the player entity
+     * @param amount the mana amount to consume
+     * @return the mana left after consuming, or NOT_ENOUGH_MANA if nothing was consumed
+     */
+    public float tryConsume(PlayerEntity player, float amount) {
+        int slot = getSlot(player);
+        float current = store.currentMana(slot);
+        if (current < amount) {
+            ManaMetrics.recordFailedCast();
+            return NOT_ENOUGH_MANA;
+        }
+        // Marks the slot dirty; the end-of-tick sync sends it
+        store.setMana(slot, current - amount);
+        return current - amount;
     }
 
     /**
-     * Update mana regeneration for a player, allowing custom multipliers.
+     * Take mana up front for a cast that may still fail. The mana is gone from the
+     * player's pool until the reservation is committed or rolled back.
      *
      * @param player the player entity
-     * @param regenMultiplier a multiplier to apply to the default mana regen rate
+     * @param amount the mana amount to hold
+     * @return a reservation id, or NO_TRANSACTION if the player can't afford it
      */
-    public void updateManaRegen(PlayerEntity player, float regenMultiplier) {
-        UUID playerId = player.getUuid();
-        regenMultipliers.put(playerId, regenMultiplier);
-
-        PlayerMana playerMana = getPlayerMana(player);
-        float regenAmount = DEFAULT_MANA_REGEN_RATE * regenMultiplier;
-        playerMana.regenerateMana(regenAmount);
-
-        // If this is a server player, sync to client
-        if (player instanceof ServerPlayerEntity) {
-            ManaSyncPacket.sendToClient((ServerPlayerEntity) player, playerMana);
+    public int reserve(PlayerEntity player, float amount) {
+        int reservationId = ledger.reserve(getHandle(player), amount);
+        if (reservationId == NO_TRANSACTION) {
+            ManaMetrics.recordFailedCast();
         }
+        return reservationId;
     }
 
     /**
-     * Save player mana data to NBT
+     * Keep reserved mana spent.
      */
-    public void savePlayerData(ServerPlayerEntity player) {
-        PlayerMana playerMana = getPlayerMana(player);
+    public void commit(int reservationId) {
+        ledger.commit(reservationId);
+    }
 
-        // Create a new NBT compound for storing mana data
-        NbtCompound manaData = new NbtCompound();
+    /**
+     * Refund reserved mana, e.g. when the spell throws SpellCastException.
+     */
+    public void rollback(int reservationId) {
+        ledger.rollback(reservationId);
+    }
 
-        // Store the relevant mana data
-        manaData.putInt("MaxMana", playerMana.getMaxMana());
-        manaData.putFloat("CurrentMana", playerMana.getCurrentMana());
+    /**
+     * Start charging a player a fixed amount every tick, for channelled spells.
+     * All drains are settled together once per tick, before the mana sync.
+     *
+     * @param player the player entity
+     * @param perTick mana charged each tick
+     * @param ticks how many ticks to charge for
+     * @return a drain id to poll with isDrainActive
+     */
+    public int startDrain(PlayerEntity player, float perTick, int ticks) {
+        return ledger.startDrain(getHandle(player), perTick, ticks);
+    }
 
-        // Get player's NBT data
-        NbtCompound playerTag = new NbtCompound();
-        player.writeNbt(playerTag);
+    /**
+     * Whether a drain is still running. It stops when its ticks run out, when the player
+     * leaves, or when the player could not pay a tick.
+     */
+    public boolean isDrainActive(int drainId) {
+        return ledger.isDrainActive(drainId);
+    }
 
-        // Add our custom data
-        if (!playerTag.contains("verdant_arcanum")) {
-            playerTag.put("verdant_arcanum", new NbtCompound());
-        }
+    /**
+     * End a drain early. Ticks already charged are not refunded.
+     */
+    public void stopDrain(int drainId) {
+        ledger.stopDrain(drainId);
+    }
 
-        NbtCompound modData = playerTag.getCompound("verdant_arcanum");
-        modData.put("mana", manaData);
+    /**
+     * Charge every open drain once. Called from the mana sync phase at the end of each server tick.
+     */
+    public void settleDrains() {
+        ledger.settleDrains();
+    }
 
-        // Handle storage via server events/hooks in your main mod class
-        // This data will need to be saved when the player data is saved
+    /**
+     * Take the same amount from each of several players, for effects that hit many targets.
+     * Players who can't afford the full amount are skipped.
+     *
+     * @return how many players were charged
+     */
+    public int bulkDebit(Iterable<? extends PlayerEntity> players, float amount) {
+        int charged = 0;
+        for (PlayerEntity player : players) {
+            int slot = getSlot(player);
+            float current = store.currentMana(slot);
+            if (current >= amount) {
+                store.setMana(slot, current - amount);
+                charged++;
+            }
+        }
+        return charged;
+    }
 
-        System.out.println("Prepared mana data for " + player.getName().getString() +
-                ": " + playerMana.getCurrentMana() + "/" +
-                playerMana.getMaxMana());
+    public void updateManaRegen(PlayerEntity player) {
+        updateManaRegen(player, 1.0f);
     }
 
     /**
-     * Load player mana data from NBT
+     * Set the regen multiplier for a player. Regeneration itself is not applied here:
+     * the store derives current mana from the time of the last change and the regen rate,
+     * so this only needs calling when the multiplier actually changes.
+     *
+     * @param player the player entity
+     * @param regenMultiplier a multiplier to apply to the default mana regen rate
      */
-    public void loadPlayerData(ServerPlayerEntity player) {
-        // Get player's NBT data
-        NbtCompound playerTag = new NbtCompound();
-        player.writeNbt(playerTag);
-
-        if (playerTag.contains("verdant_arcanum")) {
-            NbtCompound modData = playerTag.getCompound("verdant_arcanum");
+    public void updateManaRegen(PlayerEntity player, float regenMultiplier) {
+        if (store.setRegenMultiplier(getSlot(player), regenMultiplier)) {
+            ManaMetrics.recordRegenUpdate();
+        }
+    }
 
-            if (modData.contains("mana")) {
-                // Retrieved stored mana data
-                NbtCompound manaData = modData.getCompound("mana");
+    /**
+     * Advance the clock lazy regeneration is evaluated against. Called once at the start of each server tick.
+     */
+    public void setCurrentTick(long tick) {
+        store.setTick(tick);
+    }
 
-                int maxMana = manaData.contains("MaxMana") ?
-                        manaData.getInt("MaxMana") : DEFAULT_MAX_MANA;
+    /**
+     * Get the regen multiplier last applied to a player.
+     */
+    public float getRegenMultiplier(PlayerEntity player) {
+        return store.regenMultiplier[getSlot(player)];
+    }
 
-                float currentMana = manaData.contains("CurrentMana") ?
-                        manaData.getFloat("CurrentMana") : DEFAULT_MAX_MANA;
+    /**
+     * Open the per-world mana storage. Called when the server has started.
+     */
+    public void onServerStarted(MinecraftServer server) {
+        persistence = new ManaPersistence(server.getSavePath(WorldSavePath.ROOT).resolve("verdant_arcanum").resolve("mana"));
+    }
 
-                // Get or create the player's mana object
-                PlayerMana playerMana = getPlayerMana(player);
+    /**
+     * Write out everything still queued and close the storage. Called when the server has stopped.
+     */
+    public void onServerStopped() {
+        if (persistence != null) {
+            persistence.close();
+            persistence = null;
+        }
+    }
 
-                // Update with saved values
-                playerMana.setMaxMana(maxMana);
-                playerMana.setCurrentMana(currentMana);
+    /**
+     * Queue every online player whose mana changed since the last save and hand the batch
+     * to the IO thread. Called after the server saves (autosave, /save-all).
+     */
+    public void saveDirty(MinecraftServer server) {
+        if (persistence == null) {
+            return;
+        }
 
-                System.out.println("Loaded mana for " + player.getName().getString() +
-                        ": " + currentMana + "/" + maxMana);
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            int slot = getSlot(player);
+            int maxMana = store.maxMana[slot];
+            float currentMana = store.currentMana(slot);
+            int quantizedMana = ManaSyncPacket.quantizeMana(currentMana);
 
-                // Make sure to sync with client
-                syncManaToClient(player);
-                return;
+            if (maxMana != store.savedMaxMana[slot] || quantizedMana != store.savedMana[slot]) {
+                store.savedMaxMana[slot] = maxMana;
+                store.savedMana[slot] = quantizedMana;
+                persistence.markDirty(player.getUuid(), maxMana, currentMana);
             }
         }
 
-        // No saved data found, initialize with defaults
-        PlayerMana playerMana = getPlayerMana(player);
-        playerMana.setMaxMana(DEFAULT_MAX_MANA);
-        playerMana.setCurrentMana(DEFAULT_MAX_MANA); // Start with full mana
+        persistence.flush(false);
+    }
 
-        System.out.println("No mana data found for " + player.getName().getString() +
-                ". Initializing with default values.");
+    /**
+     * Force a full resync of a player's mana on the next sync pass.
+     */
+    public void syncManaToClient(PlayerEntity player) {
+        int slot = getSlot(player);
+        store.forgetSent(slot);
+        store.dirty[slot] = true;
+    }
 
-        // Make sure to sync with client
-        syncManaToClient(player);
+    /**
+     * Have the next sync pass compare this player's mana against what their client predicts.
+     * Run periodically so drift that no mana change would reveal (e.g. the server ticking
+     * slower than the client) still gets corrected.
+     */
+    public void checkClientPrediction(PlayerEntity player) {
+        store.dirty[getSlot(player)] = true;
     }
 
     /**
-     * Sync player mana data to client
+     * End-of-tick sync stage. Sends at most one packet per player, and only when the player's
+     * max mana, regen or drain rate changed, or their mana drifted from what the client predicts
+     * from the last packet (see ClientManaData) by more than PREDICTION_TOLERANCE.
      */
-    public void syncManaToClient(PlayerEntity player) {
-        PlayerMana playerMana = getPlayerMana(player);
+    public void flushDirtySync(MinecraftServer server) {
+        store.processFullNotices();
 
-        // Create packet data
-        PacketByteBuf buf = PacketByteBufs.create();
-        buf.writeInt(playerMana.getMaxMana());
-        buf.writeFloat(playerMana.getCurrentMana());
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            int slot = getSlot(player);
+            if (!store.dirty[slot]) {
+                continue;
+            }
+            store.dirty[slot] = false;
+
+            int maxMana = store.maxMana[slot];
+            int mana = ManaSyncPacket.quantizeMana(store.currentMana(slot));
+            int regen = ManaSyncPacket.quantizeRegen(store.regenMultiplier[slot]);
+            int drain = ManaSyncPacket.quantizeDrain(store.drainPerTick[slot]);
+            int drainTicks = drain > 0 ? store.drainTicksLeft[slot] : 0;
+
+            if (maxMana == store.sentMaxMana[slot]
+                    && regen == store.sentRegen[slot]
+                    && drain == store.sentDrain[slot]
+                    && Math.abs(store.currentMana(slot) - store.clientPrediction(slot)) < PREDICTION_TOLERANCE) {
+                continue;
+            }
 
-        // Send to client
-        ServerPlayNetworking.send(
-                (ServerPlayerEntity) player,
-                new Identifier("verdant_arcanum", "mana_sync"),
-                buf
-        );
+            store.sentMaxMana[slot] = maxMana;
+            store.sentMana[slot] = mana;
+            store.sentRegen[slot] = regen;
+            store.sentDrain[slot] = drain;
+            store.sentDrainEnd[slot] = store.getTick() + drainTicks;
+            store.sentTick[slot] = store.getTick();
+            ManaSyncPacket.sendToClient(player, maxMana, mana, regen, drain, drainTicks);
+        }
     }
 
     /**
@@ -224,13 +407,8 @@ public class ManaSystem {
 
         // Only update if the value is different
         if (playerMana.getMaxMana() != newMaxMana) {
+            // Marks the slot dirty; the end-of-tick sync sends it
             playerMana.setMaxMana(newMaxMana);
-
-            // If on server side and the player is a server player, sync to client
-            if (!player.world.isClient && player instanceof ServerPlayerEntity) {
-                syncManaToClient((ServerPlayerEntity) player);
-            }
-
             return true;
         }
 
@@ -238,36 +416,31 @@ public class ManaSystem {
     }
 
     /**
-     * Inner class to represent a player's mana data.
+     * View over a player's slot in the mana store. One instance exists per slot and is
+     * reused by whichever player currently owns it.
      */
     public static class PlayerMana {
-        private int maxMana;
-        private float currentMana;
+        private final ManaStore store;
+        private final int slot;
 
-        public PlayerMana(int maxMana) {
-            this.maxMana = maxMana;
-            this.currentMana = maxMana;
-        }
-
-        public PlayerMana(int maxMana, float currentMana) {
-            this.maxMana = maxMana;
-            this.currentMana = Math.min(currentMana, maxMana);
+        PlayerMana(ManaStore store, int slot) {
+            this.store = store;
+            this.slot = slot;
         }
 
         public int getMaxMana() {
-            return maxMana;
+            return store.maxMana[slot];
         }
 
         public void setMaxMana(int newMaxMana) {
-            this.maxMana = newMaxMana;
             // Ensure current mana doesn't exceed new max
-            if (this.currentMana > newMaxMana) {
-                this.currentMana = newMaxMana;
-            }
+            float current = Math.min(store.currentMana(slot), newMaxMana);
+            store.maxMana[slot] = newMaxMana;
+            store.setMana(slot, current);
         }
 
         public float getCurrentMana() {
-            return currentMana;
+            return store.currentMana(slot);
         }
 
         /**
@@ -276,28 +449,19 @@ public class ManaSystem {
          */
         public void setCurrentMana(float value) {
             // Ensure mana doesn't exceed max mana
-            this.currentMana = Math.min(value, ClientManaData.maxMana);
+            store.setMana(slot, Math.min(value, store.maxMana[slot]));
         }
 
         public void consumeMana(float amount) {
-            this.currentMana = Math.max(0, this.currentMana - amount);
+            store.setMana(slot, Math.max(0, store.currentMana(slot) - amount));
         }
 
         public void regenerateMana(float amount) {
-            this.currentMana = Math.min(this.maxMana, this.currentMana + amount);
-        }
-    }
-    /**
-     * Calculates the player's current mana as a percentage of maximum mana
-     * @return The percentage of mana (0.0f to 1.0f)
-     */
-    public float getManaPercentage() {
-        // Avoid division by zero
-        if (maxMana <= 0) {
-            return 0.0f;
+            float current = store.currentMana(slot);
+            float regenerated = Math.min(store.maxMana[slot], current + amount);
+            if (regenerated != current) {
+                store.setMana(slot, regenerated);
+            }
         }
-
-        // Calculate percentage (0.0f to 1.0f)
-        return Math.min(1.0f, currentMana / (float)maxMana);
     }
 }
\ No newline at end of file
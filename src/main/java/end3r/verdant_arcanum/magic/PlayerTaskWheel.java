@@ -0,0 +1,94 @@
+package end3r.verdant_arcanum.magic;
+
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.Arrays;
+
+/**
+ * Hashed timing wheel for per-player periodic work.
+ *
+ * The wheel has one bucket per tick of a second, and a player's bucket is their mana store
+ * slot modulo the wheel size. Slots are handed out densely, so players are spread evenly over
+ * the 20 ticks no matter when they joined, and each tick only visits the players in one bucket.
+ * Tasks with a period of several seconds are additionally staggered by slot across rounds.
+ */
+public class PlayerTaskWheel {
+    public static final int WHEEL_SIZE = 20;
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * Work run for one player when their bucket comes up.
+     */
+    public interface Task {
+        void run(ServerPlayerEntity player);
+    }
+
+    private Task[] tasks = new Task[4];
+    private int[] periodRounds = new int[4];
+    private int taskCount = 0;
+
+    // Indexed by mana store slot
+    private ServerPlayerEntity[] players = new ServerPlayerEntity[INITIAL_CAPACITY];
+    private int highWater = 0;
+
+    /**
+     * Register a task to run for every online player once per period.
+     *
+     * @param periodSeconds how many seconds (full turns of the wheel) between runs
+     */
+    public void register(int periodSeconds, Task task) {
+        if (periodSeconds < 1) {
+            throw new IllegalArgumentException("Period must be at least one second: " + periodSeconds);
+        }
+        if (taskCount == tasks.length) {
+            tasks = Arrays.copyOf(tasks, taskCount * 2);
+            periodRounds = Arrays.copyOf(periodRounds, taskCount * 2);
+        }
+        tasks[taskCount] = task;
+        periodRounds[taskCount] = periodSeconds;
+        taskCount++;
+    }
+
+    /**
+     * Put a player on the wheel at their store slot, or replace the entity after a respawn.
+     */
+    public void addPlayer(int slot, ServerPlayerEntity player) {
+        if (slot >= players.length) {
+            players = Arrays.copyOf(players, Math.max(slot + 1, players.length * 2));
+        }
+        players[slot] = player;
+        if (slot >= highWater) {
+            highWater = slot + 1;
+        }
+    }
+
+    public void removePlayer(int slot) {
+        if (slot >= 0 && slot < highWater) {
+            players[slot] = null;
+        }
+    }
+
+    /**
+     * Run the tasks that are due for the bucket belonging to this tick.
+     */
+    public void tick(long serverTick) {
+        int bucket = (int) (serverTick % WHEEL_SIZE);
+        long round = serverTick / WHEEL_SIZE;
+
+        for (int slot = bucket; slot < highWater; slot += WHEEL_SIZE) {
+            ServerPlayerEntity player = players[slot];
+            if (player == null) {
+                continue;
+            }
+
+            // Offset by the slot's lap so multi-second tasks don't all land in the same round
+            long playerRound = round + slot / WHEEL_SIZE;
+            for (int i = 0; i < taskCount; i++) {
+                if (playerRound % periodRounds[i] == 0) {
+                    tasks[i].run(player);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package end3r.verdant_arcanum.mixin;
+
+import end3r.verdant_arcanum.magic.ManaEventHandler;
+import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.Map;
+
+@Mixin(LivingEntity.class)
+public class LivingEntityEquipmentMixin {
+    // Vanilla already diffs every equipment slot once per server tick; reuse its result
+    // instead of polling and copying armor stacks ourselves. The diff compares NBT too, so
+    // enchanting or disenchanting worn armor in place is reported as a change as well
+    @Inject(method = "getEquipmentChanges", at = @At("RETURN"))
+    private void onEquipmentChanges(CallbackInfoReturnable<Map<EquipmentSlot, ItemStack>> cir) {
+        Map<EquipmentSlot, ItemStack> changes = cir.getReturnValue();
+        if (changes != null && !changes.isEmpty() && (Object) this instanceof ServerPlayerEntity player) {
+            ManaEventHandler.onEquipmentChanged(player, changes.keySet());
+        }
+    }
+}
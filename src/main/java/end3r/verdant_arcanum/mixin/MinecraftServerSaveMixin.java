@@ -0,0 +1,17 @@
+package end3r.verdant_arcanum.mixin;
+
+import end3r.verdant_arcanum.magic.ManaSystem;
+import net.minecraft.server.MinecraftServer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(MinecraftServer.class)
+public class MinecraftServerSaveMixin {
+    // Piggyback on autosave and /save-all to queue changed mana for the background writer
+    @Inject(method = "saveAll", at = @At("RETURN"))
+    private void saveManaData(boolean suppressLogs, boolean flush, boolean force, CallbackInfoReturnable<Boolean> cir) {
+        ManaSystem.getInstance().saveDirty((MinecraftServer) (Object) this);
+    }
+}
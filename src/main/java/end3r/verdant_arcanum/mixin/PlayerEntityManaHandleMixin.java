@@ -0,0 +1,23 @@
+package end3r.verdant_arcanum.mixin;
+
+import end3r.verdant_arcanum.magic.ManaHandleHolder;
+import net.minecraft.entity.player.PlayerEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+@Mixin(PlayerEntity.class)
+public class PlayerEntityManaHandleMixin implements ManaHandleHolder {
+    // Cached ManaStore handle, resolved once per entity instance
+    @Unique
+    private int verdant_arcanum$manaHandle = ManaHandleHolder.NO_HANDLE;
+
+    @Override
+    public int verdant_arcanum$getManaHandle() {
+        return this.verdant_arcanum$manaHandle;
+    }
+
+    @Override
+    public void verdant_arcanum$setManaHandle(int handle) {
+        this.verdant_arcanum$manaHandle = handle;
+    }
+}
@@ -0,0 +1,13 @@
+package end3r.verdant_arcanum.mixin;
+
+import com.mojang.authlib.GameProfile;
+import net.minecraft.server.network.ServerLoginNetworkHandler;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(ServerLoginNetworkHandler.class)
+public interface ServerLoginNetworkHandlerAccessor {
+    // Authenticated profile of the connecting player; lets mana data be read before they join
+    @Accessor("profile")
+    GameProfile verdant_arcanum$getProfile();
+}
@@ -0,0 +1,24 @@
+package end3r.verdant_arcanum.mixin;
+
+import end3r.verdant_arcanum.event.ColumnQueryCache;
+import end3r.verdant_arcanum.event.OvergrowthCandidateFinder;
+import end3r.verdant_arcanum.event.SafeLandingFinder;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerWorld.class)
+public class ServerWorldBlockChangeMixin {
+    // Every server-side block change ends up here, so cached column answers, landing spots and
+    // Overgrowth candidates can't go stale
+    @Inject(method = "onBlockChanged", at = @At("HEAD"))
+    private void invalidateColumn(BlockPos pos, BlockState oldBlock, BlockState newBlock, CallbackInfo ci) {
+        ColumnQueryCache.invalidate((ServerWorld) (Object) this, pos);
+        SafeLandingFinder.invalidate((ServerWorld) (Object) this, pos);
+        OvergrowthCandidateFinder.invalidate((ServerWorld) (Object) this, pos, oldBlock, newBlock);
+    }
+}
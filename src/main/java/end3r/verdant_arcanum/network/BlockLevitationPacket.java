@@ -0,0 +1,60 @@
+package end3r.verdant_arcanum.network;
+
+import end3r.verdant_arcanum.VerdantArcanum;
+import end3r.verdant_arcanum.client.event.LevitatingBlockHandler;
+import end3r.verdant_arcanum.event.EventMetrics;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Announces a purely visual block levitation to the clients that can see it.
+ *
+ * The server sends one packet when a levitation starts and forgets about it; each client
+ * renders a ghost copy of the block rising and settling (see LevitatingBlockHandler). The real
+ * block never moves, so no block updates, lighting or chunk saves are involved.
+ *
+ * Wire layout: block position, varint raw block state id, float peak height, varint duration
+ * in ticks.
+ */
+public class BlockLevitationPacket {
+    public static final Identifier BLOCK_LEVITATION_PACKET_ID = new Identifier(VerdantArcanum.MOD_ID, "block_levitation");
+
+    // Register client-side packet receiver
+    public static void registerClient() {
+        ClientPlayNetworking.registerGlobalReceiver(BLOCK_LEVITATION_PACKET_ID, (client, handler, buf, responseSender) -> {
+            BlockPos pos = buf.readBlockPos();
+            BlockState state = Block.getStateFromRawId(buf.readVarInt());
+            float maxHeight = buf.readFloat();
+            int duration = buf.readVarInt();
+
+            client.execute(() -> LevitatingBlockHandler.add(pos, state, maxHeight, duration));
+        });
+    }
+
+    /**
+     * Send a levitation to every player watching the block's chunk.
+     */
+    public static void send(ServerWorld world, BlockPos pos, BlockState state, float maxHeight, int duration) {
+        PacketByteBuf buf = PacketByteBufs.create();
+        buf.writeBlockPos(pos);
+        buf.writeVarInt(Block.getRawIdFromState(state));
+        buf.writeFloat(maxHeight);
+        buf.writeVarInt(duration);
+
+        for (ServerPlayerEntity player : PlayerLookup.tracking(world, pos)) {
+            if (ServerPlayNetworking.canSend(player, BLOCK_LEVITATION_PACKET_ID)) {
+                ServerPlayNetworking.send(player, BLOCK_LEVITATION_PACKET_ID, buf);
+                EventMetrics.recordPackets(world, 1);
+            }
+        }
+    }
+}
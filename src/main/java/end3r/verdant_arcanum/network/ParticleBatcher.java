@@ -0,0 +1,256 @@
+package end3r.verdant_arcanum.network;
+
+import end3r.verdant_arcanum.VerdantArcanum;
+import end3r.verdant_arcanum.event.EventMetrics;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.particle.ParticleEffect;
+import net.minecraft.particle.ParticleType;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.World;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Batches particle emissions from world events.
+ *
+ * Events call spawn() with the same arguments as ServerWorld.spawnParticles. Instead of one
+ * vanilla particle packet per call per player, every emitter submitted during a world tick is
+ * held until flush(), which sends each player a single packet with only the emitters in range.
+ * The client expands each emitter the way vanilla does, using a seed from the packet so the
+ * result is deterministic.
+ *
+ * Wire layout: varint palette size, then each distinct effect (varint raw id + parameters);
+ * long seed; anchor position as three doubles; varint emitter count, then per emitter:
+ * varint palette index, position relative to the anchor as three floats, varint count,
+ * spread as three floats, speed as a float.
+ */
+public class ParticleBatcher {
+    public static final Identifier PARTICLE_BATCH_PACKET_ID = new Identifier(VerdantArcanum.MOD_ID, "particle_batch");
+
+    // Same range vanilla uses for ordinary particle packets
+    private static final double VIEW_RANGE = 32.0;
+    private static final double VIEW_RANGE_SQUARED = VIEW_RANGE * VIEW_RANGE;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Pending emitters per dimension; arrays are reused from tick to tick
+    private static final Map<RegistryKey<World>, Batch> BATCHES = new HashMap<>();
+
+    private static final Random SEED_SOURCE = Random.create();
+
+    /**
+     * Emitters submitted in one world since the last flush, as parallel arrays
+     */
+    private static class Batch {
+        private ParticleEffect[] effects = new ParticleEffect[INITIAL_CAPACITY];
+        private double[] positions = new double[INITIAL_CAPACITY * 3];
+        private int[] counts = new int[INITIAL_CAPACITY];
+        private float[] spreads = new float[INITIAL_CAPACITY * 3];
+        private float[] speeds = new float[INITIAL_CAPACITY];
+        private int size = 0;
+
+        // Scratch space for one player's packet
+        private int[] visible = new int[INITIAL_CAPACITY];
+        private final Map<ParticleEffect, Integer> palette = new HashMap<>();
+
+        private void add(ParticleEffect effect, double x, double y, double z, int count,
+                         double deltaX, double deltaY, double deltaZ, double speed) {
+            if (size == counts.length) {
+                int newCapacity = size * 2;
+                effects = Arrays.copyOf(effects, newCapacity);
+                positions = Arrays.copyOf(positions, newCapacity * 3);
+                counts = Arrays.copyOf(counts, newCapacity);
+                spreads = Arrays.copyOf(spreads, newCapacity * 3);
+                speeds = Arrays.copyOf(speeds, newCapacity);
+                visible = new int[newCapacity];
+            }
+            effects[size] = effect;
+            positions[size * 3] = x;
+            positions[size * 3 + 1] = y;
+            positions[size * 3 + 2] = z;
+            counts[size] = count;
+            spreads[size * 3] = (float) deltaX;
+            spreads[size * 3 + 1] = (float) deltaY;
+            spreads[size * 3 + 2] = (float) deltaZ;
+            speeds[size] = (float) speed;
+            size++;
+        }
+
+        private void clear() {
+            // Drop effect references so they can be collected
+            Arrays.fill(effects, 0, size, null);
+            size = 0;
+        }
+    }
+
+    // Register client-side packet receiver
+    public static void registerClient() {
+        ClientPlayNetworking.registerGlobalReceiver(PARTICLE_BATCH_PACKET_ID, (client, handler, buf, responseSender) -> {
+            // Decode on the network thread; only spawning happens on the client thread
+            ParticleEffect[] palette = new ParticleEffect[buf.readVarInt()];
+            for (int i = 0; i < palette.length; i++) {
+                palette[i] = readEffect(buf, Registry.PARTICLE_TYPE.get(buf.readVarInt()));
+            }
+            long seed = buf.readLong();
+            double anchorX = buf.readDouble();
+            double anchorY = buf.readDouble();
+            double anchorZ = buf.readDouble();
+
+            int emitterCount = buf.readVarInt();
+            int[] effectIndex = new int[emitterCount];
+            float[] data = new float[emitterCount * 7];
+            int[] counts = new int[emitterCount];
+            for (int i = 0; i < emitterCount; i++) {
+                effectIndex[i] = buf.readVarInt();
+                data[i * 7] = buf.readFloat();
+                data[i * 7 + 1] = buf.readFloat();
+                data[i * 7 + 2] = buf.readFloat();
+                counts[i] = buf.readVarInt();
+                data[i * 7 + 3] = buf.readFloat();
+                data[i * 7 + 4] = buf.readFloat();
+                data[i * 7 + 5] = buf.readFloat();
+                data[i * 7 + 6] = buf.readFloat();
+            }
+
+            client.execute(() -> {
+                ClientWorld world = client.world;
+                if (world == null) return;
+
+                Random random = Random.create(seed);
+                for (int i = 0; i < emitterCount; i++) {
+                    expand(world, random, palette[effectIndex[i]], counts[i],
+                            anchorX + data[i * 7], anchorY + data[i * 7 + 1], anchorZ + data[i * 7 + 2],
+                            data[i * 7 + 3], data[i * 7 + 4], data[i * 7 + 5], data[i * 7 + 6]);
+                }
+            });
+        });
+    }
+
+    /**
+     * Queue particles for the end of this world's tick. Takes the same arguments as
+     * ServerWorld.spawnParticles.
+     */
+    public static void spawn(ServerWorld world, ParticleEffect effect, double x, double y, double z, int count,
+                             double deltaX, double deltaY, double deltaZ, double speed) {
+        BATCHES.computeIfAbsent(world.getRegistryKey(), key -> new Batch())
+                .add(effect, x, y, z, count, deltaX, deltaY, deltaZ, speed);
+        EventMetrics.recordParticles(world);
+    }
+
+    /**
+     * Send every emitter queued for this world, one packet per player, and clear the batch.
+     * Called at the end of each world tick.
+     */
+    public static void flush(ServerWorld world) {
+        Batch batch = BATCHES.get(world.getRegistryKey());
+        if (batch == null || batch.size == 0) {
+            return;
+        }
+
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            int visibleCount = 0;
+            for (int i = 0; i < batch.size; i++) {
+                if (player.squaredDistanceTo(batch.positions[i * 3], batch.positions[i * 3 + 1], batch.positions[i * 3 + 2]) < VIEW_RANGE_SQUARED) {
+                    batch.visible[visibleCount++] = i;
+                }
+            }
+            if (visibleCount == 0) {
+                continue;
+            }
+
+            if (ServerPlayNetworking.canSend(player, PARTICLE_BATCH_PACKET_ID)) {
+                sendBatch(player, batch, visibleCount);
+                EventMetrics.recordPackets(world, 1);
+            } else {
+                // Client without the mod's networking; fall back to vanilla packets
+                for (int v = 0; v < visibleCount; v++) {
+                    int i = batch.visible[v];
+                    world.spawnParticles(player, batch.effects[i], false,
+                            batch.positions[i * 3], batch.positions[i * 3 + 1], batch.positions[i * 3 + 2], batch.counts[i],
+                            batch.spreads[i * 3], batch.spreads[i * 3 + 1], batch.spreads[i * 3 + 2], batch.speeds[i]);
+                }
+                EventMetrics.recordPackets(world, visibleCount);
+            }
+        }
+
+        batch.clear();
+    }
+
+    private static void sendBatch(ServerPlayerEntity player, Batch batch, int visibleCount) {
+        PacketByteBuf buf = PacketByteBufs.create();
+
+        // Palette of distinct effects, so repeated particle types are written once
+        batch.palette.clear();
+        for (int v = 0; v < visibleCount; v++) {
+            batch.palette.putIfAbsent(batch.effects[batch.visible[v]], batch.palette.size());
+        }
+        ParticleEffect[] paletteOrder = new ParticleEffect[batch.palette.size()];
+        for (Map.Entry<ParticleEffect, Integer> entry : batch.palette.entrySet()) {
+            paletteOrder[entry.getValue()] = entry.getKey();
+        }
+        buf.writeVarInt(paletteOrder.length);
+        for (ParticleEffect effect : paletteOrder) {
+            buf.writeVarInt(Registry.PARTICLE_TYPE.getRawId(effect.getType()));
+            effect.write(buf);
+        }
+
+        // Positions are sent relative to the player as floats
+        double anchorX = Math.floor(player.getX());
+        double anchorY = Math.floor(player.getY());
+        double anchorZ = Math.floor(player.getZ());
+        buf.writeLong(SEED_SOURCE.nextLong());
+        buf.writeDouble(anchorX);
+        buf.writeDouble(anchorY);
+        buf.writeDouble(anchorZ);
+
+        buf.writeVarInt(visibleCount);
+        for (int v = 0; v < visibleCount; v++) {
+            int i = batch.visible[v];
+            buf.writeVarInt(batch.palette.get(batch.effects[i]));
+            buf.writeFloat((float) (batch.positions[i * 3] - anchorX));
+            buf.writeFloat((float) (batch.positions[i * 3 + 1] - anchorY));
+            buf.writeFloat((float) (batch.positions[i * 3 + 2] - anchorZ));
+            buf.writeVarInt(batch.counts[i]);
+            buf.writeFloat(batch.spreads[i * 3]);
+            buf.writeFloat(batch.spreads[i * 3 + 1]);
+            buf.writeFloat(batch.spreads[i * 3 + 2]);
+            buf.writeFloat(batch.speeds[i]);
+        }
+
+        ServerPlayNetworking.send(player, PARTICLE_BATCH_PACKET_ID, buf);
+    }
+
+    // Mirrors how the vanilla client expands a particle packet
+    private static void expand(ClientWorld world, Random random, ParticleEffect effect, int count,
+                               double x, double y, double z, double deltaX, double deltaY, double deltaZ, double speed) {
+        if (count == 0) {
+            // A count of zero means the spread is a direction and speed scales it
+            world.addParticle(effect, x, y, z, speed * deltaX, speed * deltaY, speed * deltaZ);
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            world.addParticle(effect,
+                    x + random.nextGaussian() * deltaX,
+                    y + random.nextGaussian() * deltaY,
+                    z + random.nextGaussian() * deltaZ,
+                    random.nextGaussian() * speed,
+                    random.nextGaussian() * speed,
+                    random.nextGaussian() * speed);
+        }
+    }
+
+    private static <T extends ParticleEffect> T readEffect(PacketByteBuf buf, ParticleType<T> type) {
+        return type.getParametersFactory().read(type, buf);
+    }
+}
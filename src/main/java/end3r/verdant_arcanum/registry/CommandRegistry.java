@@ -3,15 +3,21 @@ package end3r.verdant_arcanum.registry;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
+import end3r.verdant_arcanum.VerdantArcanum;
 import end3r.verdant_arcanum.event.*;
+import end3r.verdant_arcanum.magic.ManaMetrics;
 import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.Formatting;
 import net.minecraft.world.World;
 
+import java.util.Map;
+import java.util.TreeSet;
+
 public class CommandRegistry {
 
     public static void register(CommandDispatcher<ServerCommandSource> dispatcher) {
@@ -23,7 +29,7 @@ public class CommandRegistry {
                     ServerCommandSource source = context.getSource();
                     ServerWorld world = source.getWorld();
 
-                    EndVeilEvent event = new EndVeilEvent();
+                    EndVeilEvent event = EventRegistry.create(EventRegistry.END_VEIL_ID);
                     WorldEventManager.getInstance().startEvent(world, event);
 
                     source.sendFeedback(Text.literal("🌀 Manually started End Veil event.").formatted(Formatting.DARK_PURPLE), true);
@@ -38,7 +44,7 @@ public class CommandRegistry {
                                     ServerWorld world = source.getWorld();
                                     int seconds = IntegerArgumentType.getInteger(context, "seconds");
 
-                                    EndVeilEvent event = new EndVeilEvent();
+                                    EndVeilEvent event = EventRegistry.create(EventRegistry.END_VEIL_ID);
                                     event.setDuration(seconds * 20); // Convert to ticks
                                     WorldEventManager.getInstance().startEvent(world, event);
 
@@ -56,7 +62,7 @@ public class CommandRegistry {
                                     ServerWorld world = source.getWorld();
                                     int intensity = IntegerArgumentType.getInteger(context, "level");
 
-                                    EndVeilEvent event = new EndVeilEvent();
+                                    EndVeilEvent event = EventRegistry.create(EventRegistry.END_VEIL_ID);
                                     event.setIntensity(intensity);
                                     WorldEventManager.getInstance().startEvent(world, event);
 
@@ -74,7 +80,7 @@ public class CommandRegistry {
                                                     int intensity = IntegerArgumentType.getInteger(context, "level");
                                                     int seconds = IntegerArgumentType.getInteger(context, "seconds");
 
-                                                    EndVeilEvent event = new EndVeilEvent();
+                                                    EndVeilEvent event = EventRegistry.create(EventRegistry.END_VEIL_ID);
                                                     event.setIntensity(intensity);
                                                     event.setDuration(seconds * 20); // Convert to ticks
                                                     WorldEventManager.getInstance().startEvent(world, event);
@@ -110,7 +116,7 @@ public class CommandRegistry {
                     ServerCommandSource source = context.getSource();
                     ServerWorld world = source.getWorld();
 
-                    StrongWindsEvent event = new StrongWindsEvent();
+                    StrongWindsEvent event = EventRegistry.create(EventRegistry.STRONG_WINDS_ID);
                     WorldEventManager.getInstance().startEvent(world, event);
 
                     source.sendFeedback(Text.literal("🌬️ Manually started Strong Winds event."), true);
@@ -125,7 +131,7 @@ public class CommandRegistry {
                                     ServerWorld world = source.getWorld();
                                     int seconds = IntegerArgumentType.getInteger(context, "seconds");
 
-                                    StrongWindsEvent event = new StrongWindsEvent();
+                                    StrongWindsEvent event = EventRegistry.create(EventRegistry.STRONG_WINDS_ID);
                                     event.setDuration(seconds * 20); // Convert to ticks
                                     WorldEventManager.getInstance().startEvent(world, event);
 
@@ -155,7 +161,7 @@ public class CommandRegistry {
                                     ServerWorld world = source.getWorld();
                                     String direction = StringArgumentType.getString(context, "direction");
 
-                                    StrongWindsEvent event = new StrongWindsEvent();
+                                    StrongWindsEvent event = EventRegistry.create(EventRegistry.STRONG_WINDS_ID);
                                     setWindDirection(event, direction);
                                     WorldEventManager.getInstance().startEvent(world, event);
 
@@ -172,7 +178,7 @@ public class CommandRegistry {
                                                     String direction = StringArgumentType.getString(context, "direction");
                                                     int seconds = IntegerArgumentType.getInteger(context, "seconds");
 
-                                                    StrongWindsEvent event = new StrongWindsEvent();
+                                                    StrongWindsEvent event = EventRegistry.create(EventRegistry.STRONG_WINDS_ID);
                                                     setWindDirection(event, direction);
                                                     event.setDuration(seconds * 20); // Convert to ticks
                                                     WorldEventManager.getInstance().startEvent(world, event);
@@ -193,7 +199,7 @@ public class CommandRegistry {
                                     ServerWorld world = source.getWorld();
                                     int strength = IntegerArgumentType.getInteger(context, "level");
 
-                                    StrongWindsEvent event = new StrongWindsEvent();
+                                    StrongWindsEvent event = EventRegistry.create(EventRegistry.STRONG_WINDS_ID);
                                     event.setStrength(strength);
                                     WorldEventManager.getInstance().startEvent(world, event);
 
@@ -211,7 +217,7 @@ public class CommandRegistry {
                                                     int strength = IntegerArgumentType.getInteger(context, "level");
                                                     int seconds = IntegerArgumentType.getInteger(context, "seconds");
 
-                                                    StrongWindsEvent event = new StrongWindsEvent();
+                                                    StrongWindsEvent event = EventRegistry.create(EventRegistry.STRONG_WINDS_ID);
                                                     event.setStrength(strength);
                                                     event.setDuration(seconds * 20); // Convert to ticks
                                                     WorldEventManager.getInstance().startEvent(world, event);
@@ -244,7 +250,7 @@ public class CommandRegistry {
                                                     int strength = IntegerArgumentType.getInteger(context, "level");
                                                     String direction = StringArgumentType.getString(context, "direction");
 
-                                                    StrongWindsEvent event = new StrongWindsEvent();
+                                                    StrongWindsEvent event = EventRegistry.create(EventRegistry.STRONG_WINDS_ID);
                                                     event.setStrength(strength);
                                                     setWindDirection(event, direction);
                                                     WorldEventManager.getInstance().startEvent(world, event);
@@ -264,7 +270,7 @@ public class CommandRegistry {
                                                                     String direction = StringArgumentType.getString(context, "direction");
                                                                     int seconds = IntegerArgumentType.getInteger(context, "seconds");
 
-                                                                    StrongWindsEvent event = new StrongWindsEvent();
+                                                                    StrongWindsEvent event = EventRegistry.create(EventRegistry.STRONG_WINDS_ID);
                                                                     event.setStrength(strength);
                                                                     setWindDirection(event, direction);
                                                                     event.setDuration(seconds * 20); // Convert to ticks
@@ -289,7 +295,7 @@ public class CommandRegistry {
                     ServerCommandSource source = context.getSource();
                     ServerWorld world = source.getWorld();
 
-                    OvergrowthEvent event = new OvergrowthEvent();
+                    OvergrowthEvent event = EventRegistry.create(EventRegistry.OVERGROWTH_ID);
                     WorldEventManager.getInstance().startEvent(world, event);
 
                     source.sendFeedback(Text.literal("🌱 Manually started Overgrowth event."), true);
@@ -304,7 +310,7 @@ public class CommandRegistry {
                                     ServerWorld world = source.getWorld();
                                     int seconds = IntegerArgumentType.getInteger(context, "seconds");
 
-                                    OvergrowthEvent event = new OvergrowthEvent();
+                                    OvergrowthEvent event = EventRegistry.create(EventRegistry.OVERGROWTH_ID);
                                     event.setDuration(seconds * 20); // Convert to ticks
                                     WorldEventManager.getInstance().startEvent(world, event);
 
@@ -322,7 +328,7 @@ public class CommandRegistry {
                                     ServerWorld world = source.getWorld();
                                     int intensity = IntegerArgumentType.getInteger(context, "level");
 
-                                    OvergrowthEvent event = new OvergrowthEvent();
+                                    OvergrowthEvent event = EventRegistry.create(EventRegistry.OVERGROWTH_ID);
                                     event.setIntensity(intensity);
                                     WorldEventManager.getInstance().startEvent(world, event);
 
@@ -340,7 +346,7 @@ public class CommandRegistry {
                                                     int intensity = IntegerArgumentType.getInteger(context, "level");
                                                     int seconds = IntegerArgumentType.getInteger(context, "seconds");
 
-                                                    OvergrowthEvent event = new OvergrowthEvent();
+                                                    OvergrowthEvent event = EventRegistry.create(EventRegistry.OVERGROWTH_ID);
                                                     event.setIntensity(intensity);
                                                     event.setDuration(seconds * 20); // Convert to ticks
                                                     WorldEventManager.getInstance().startEvent(world, event);
@@ -396,7 +402,7 @@ public class CommandRegistry {
                         return 0;
                     }
                     
-                    FireRainEvent event = new FireRainEvent();
+                    FireRainEvent event = EventRegistry.create(EventRegistry.FIRE_RAIN_ID);
                     WorldEventManager.getInstance().startEvent(world, event);
                     
                     source.sendFeedback(Text.literal("🔥 Manually started Fire Rain event.").formatted(Formatting.RED), true);
@@ -417,7 +423,7 @@ public class CommandRegistry {
                                         return 0;
                                     }
                                     
-                                    FireRainEvent event = new FireRainEvent();
+                                    FireRainEvent event = EventRegistry.create(EventRegistry.FIRE_RAIN_ID);
                                     event.setDuration(seconds * 20); // Convert to ticks
                                     WorldEventManager.getInstance().startEvent(world, event);
                                     
@@ -441,7 +447,7 @@ public class CommandRegistry {
                                         return 0;
                                     }
                                     
-                                    FireRainEvent event = new FireRainEvent();
+                                    FireRainEvent event = EventRegistry.create(EventRegistry.FIRE_RAIN_ID);
                                     event.setIntensity(intensity);
                                     WorldEventManager.getInstance().startEvent(world, event);
                                     
@@ -465,7 +471,7 @@ public class CommandRegistry {
                                                         return 0;
                                                     }
                                                     
-                                                    FireRainEvent event = new FireRainEvent();
+                                                    FireRainEvent event = EventRegistry.create(EventRegistry.FIRE_RAIN_ID);
                                                     event.setIntensity(intensity);
                                                     event.setDuration(seconds * 20); // Convert to ticks
                                                     WorldEventManager.getInstance().startEvent(world, event);
@@ -493,9 +499,73 @@ public class CommandRegistry {
                     return 1;
                 })
         );
+
+        // Dump the mana subsystem counters
+        dispatcher.register(CommandManager.literal("verdant")
+                .requires(source -> source.hasPermissionLevel(2)) // OP level 2+
+                .then(CommandManager.literal("stats")
+                        .then(CommandManager.literal("mana")
+                                .executes(context -> {
+                                    sendManaStats(context.getSource());
+                                    return 1;
+                                })
+                        )
+                        .then(CommandManager.literal("events")
+                                .executes(context -> {
+                                    sendEventStats(context.getSource());
+                                    return 1;
+                                })
+                        )
+                )
+        );
+    }
+
+
+    /**
+     * Helper method to print the mana counters collected since server start
+     */
+    private static void sendManaStats(ServerCommandSource source) {
+        long ticks = ManaMetrics.getTicks();
+        double averageMicros = ticks > 0 ? ManaMetrics.getTickNanos() / (double) ticks / 1000.0 : 0;
+        double maxMicros = ManaMetrics.getMaxTickNanos() / 1000.0;
+
+        source.sendFeedback(Text.literal("Mana statistics since server start:").formatted(Formatting.AQUA), false);
+        source.sendFeedback(Text.literal("  Packets sent: " + ManaMetrics.getPacketsSent()
+                + " (" + ManaMetrics.getBytesSent() + " bytes)"), false);
+        source.sendFeedback(Text.literal("  Regen updates: " + ManaMetrics.getRegenUpdates()), false);
+        source.sendFeedback(Text.literal("  Equipment rescans: " + ManaMetrics.getEquipmentRescans()), false);
+        source.sendFeedback(Text.literal("  Failed casts: " + ManaMetrics.getFailedCasts()), false);
+        source.sendFeedback(Text.literal(String.format("  Tick time: %.1f µs avg, %.1f µs max over %d ticks",
+                averageMicros, maxMicros, ticks)), false);
     }
 
 
+    /**
+     * Helper method to print the per-event counters collected since server start
+     */
+    private static void sendEventStats(ServerCommandSource source) {
+        if (EventMetrics.getTotals().isEmpty()) {
+            source.sendFeedback(Text.literal("No world event has run yet.").formatted(Formatting.AQUA), false);
+            return;
+        }
+        source.sendFeedback(Text.literal("World event statistics since server start:").formatted(Formatting.AQUA), false);
+        for (Map.Entry<Identifier, EventMetrics.Counters> entry : EventMetrics.getTotals().entrySet()) {
+            EventMetrics.Counters counters = entry.getValue();
+            long ticks = counters.getTicks();
+            double averageMicros = ticks > 0 ? (counters.getTickNanos() + counters.getWorkNanos()) / (double) ticks / 1000.0 : 0;
+            source.sendFeedback(Text.literal(String.format("  %s: %.1f µs avg, %.1f µs max over %d ticks",
+                    entry.getKey().getPath(), averageMicros, counters.getMaxTickNanos() / 1000.0, ticks)), false);
+            source.sendFeedback(Text.literal("    Block changes: " + counters.getBlockChanges()
+                    + ", particle emitters: " + counters.getParticles()
+                    + ", entity queries: " + counters.getEntityQueries()
+                    + ", packets: " + counters.getPackets()), false);
+            for (String method : new TreeSet<>(counters.getSections())) {
+                source.sendFeedback(Text.literal(String.format("    %s: %.1f µs total over %d calls",
+                        method, counters.getSectionNanos(method) / 1000.0, counters.getSectionCalls(method))), false);
+            }
+        }
+    }
+
     /**
      * Helper method to set wind direction from string input
      */
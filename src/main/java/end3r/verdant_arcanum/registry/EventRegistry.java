@@ -4,14 +4,28 @@ import end3r.verdant_arcanum.event.CustomWorldEvent;
 import end3r.verdant_arcanum.event.EndVeilEvent;
 import end3r.verdant_arcanum.event.FireRainEvent;
 import end3r.verdant_arcanum.event.OvergrowthEvent;
+import end3r.verdant_arcanum.event.StrongWindsEvent;
 import net.minecraft.util.Identifier;
 
 
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
+/**
+ * Event factories by id.
+ *
+ * Every run gets its own instance, so events running in different dimensions never share
+ * state. Finished instances are reset and pooled, so a new run reuses their collections
+ * instead of allocating them again. Server thread only.
+ */
 public class EventRegistry {
-    private static final Map<Identifier, CustomWorldEvent> REGISTERED_EVENTS = new HashMap<>();
+    private static final Map<Identifier, Supplier<CustomWorldEvent>> FACTORIES = new HashMap<>();
+    private static final Map<Identifier, ArrayDeque<CustomWorldEvent>> POOLS = new HashMap<>();
+
+    // Idle instances kept per event type; one per dimension that can run it is plenty
+    private static final int MAX_POOLED_PER_EVENT = 4;
 
     public static final Identifier STRONG_WINDS_ID = new Identifier("verdant_arcanum", "strong_winds");
     public static final Identifier OVERGROWTH_ID = new Identifier("verdant_arcanum", "overgrowth");
@@ -19,21 +33,42 @@ public class EventRegistry {
     public static final Identifier END_VEIL_ID = new Identifier("verdant_arcanum", "end_veil");
 
     public static void registerAll() {
-        register(STRONG_WINDS_ID, new end3r.verdant_arcanum.event.StrongWindsEvent());
-        register(OVERGROWTH_ID, new end3r.verdant_arcanum.event.OvergrowthEvent());
-        register(FIRE_RAIN_ID, new end3r.verdant_arcanum.event.FireRainEvent());
-        register(END_VEIL_ID, new end3r.verdant_arcanum.event.EndVeilEvent());
+        register(STRONG_WINDS_ID, StrongWindsEvent::new);
+        register(OVERGROWTH_ID, OvergrowthEvent::new);
+        register(FIRE_RAIN_ID, FireRainEvent::new);
+        register(END_VEIL_ID, EndVeilEvent::new);
     }
 
-    private static void register(Identifier id, CustomWorldEvent event) {
-        REGISTERED_EVENTS.put(id, event);
+    private static void register(Identifier id, Supplier<CustomWorldEvent> factory) {
+        FACTORIES.put(id, factory);
+        POOLS.put(id, new ArrayDeque<>());
     }
 
-    public static CustomWorldEvent get(Identifier id) {
-        return REGISTERED_EVENTS.get(id);
+    /**
+     * Get an event instance for a new run, reusing a pooled one when available.
+     *
+     * @return a fresh event, or null if the id is not registered
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends CustomWorldEvent> T create(Identifier id) {
+        ArrayDeque<CustomWorldEvent> pool = POOLS.get(id);
+        if (pool == null) {
+            return null;
+        }
+        CustomWorldEvent pooled = pool.poll();
+        return (T) (pooled != null ? pooled : FACTORIES.get(id).get());
     }
 
-    public static Map<Identifier, CustomWorldEvent> getAll() {
-        return REGISTERED_EVENTS;
+    /**
+     * Hand back an event whose run has ended. It is reset straight away so it holds no
+     * references to the world or players while it sits in the pool.
+     */
+    public static void release(CustomWorldEvent event) {
+        ArrayDeque<CustomWorldEvent> pool = POOLS.get(event.getId());
+        if (pool == null || pool.size() >= MAX_POOLED_PER_EVENT || pool.contains(event)) {
+            return;
+        }
+        event.reset();
+        pool.push(event);
     }
 }
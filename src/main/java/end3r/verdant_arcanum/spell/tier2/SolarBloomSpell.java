@@ -2,6 +2,7 @@ package end3r.verdant_arcanum.spell.tier2;
 
 import end3r.verdant_arcanum.VerdantArcanum;
 import end3r.verdant_arcanum.entity.SolarBeamEntity;
+import end3r.verdant_arcanum.magic.ManaSystem;
 import end3r.verdant_arcanum.registry.ModEntities;
 import end3r.verdant_arcanum.spell.Spell;
 import net.minecraft.entity.Entity;
@@ -32,7 +33,9 @@ public class SolarBloomSpell implements Spell {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SolarBloomSpell.class);
 
-    private static final int MANA_COST = 150;
+    // Up-front cost to open the beam; the rest is drained while channelling (150 total over the full duration)
+    private static final int MANA_COST = 50;
+    private static final float CHANNEL_MANA_COST = 100f;
     private static final int DURATION_TICKS = 300; //
     private static final double RANGE = 64.0;
     private static final double WIDTH = 2.5;
@@ -59,8 +62,17 @@ public class SolarBloomSpell implements Spell {
             return; // Client-side handling is done in playClientEffects
         }
 
+        // Recasting replaces the current beam
+        SpellInstance previous = activeSpells.remove(player.getUuid());
+        if (previous != null) {
+            previous.end();
+        }
+
+        // Charge the channel per tick; the beam ends early if the caster runs dry
+        int drainId = ManaSystem.getInstance().startDrain(player, CHANNEL_MANA_COST / DURATION_TICKS, DURATION_TICKS);
+
         // Create a new spell instance
-        SpellInstance instance = new SpellInstance(player, DURATION_TICKS);
+        SpellInstance instance = new SpellInstance(player, DURATION_TICKS, drainId);
         activeSpells.put(player.getUuid(), instance);
 
         // Initialize the beam entity
@@ -154,10 +166,7 @@ public class SolarBloomSpell implements Spell {
             SpellInstance instance = entry.getValue();
 
             if (instance.isExpired()) {
-                // Remove the beam entity
-                if (instance.beamEntity != null) {
-                    instance.beamEntity.remove(Entity.RemovalReason.DISCARDED);
-                }
+                instance.end();
                 it.remove();
                 continue;
             }
@@ -170,16 +179,18 @@ public class SolarBloomSpell implements Spell {
         private final PlayerEntity caster;
         private final UUID casterUUID;
         private int remainingTicks;
+        private final int drainId;
         private SolarBeamEntity beamEntity;
 
         public Vec3d start;
         public Vec3d direction;
         public Vec3d end;
 
-        public SpellInstance(PlayerEntity caster, int duration) {
+        public SpellInstance(PlayerEntity caster, int duration, int drainId) {
             this.caster = caster;
             this.casterUUID = caster.getUuid();
             this.remainingTicks = duration;
+            this.drainId = drainId;
 
             // Initialize vectors with safe default values
             this.start = caster.getEyePos();
@@ -188,7 +199,18 @@ public class SolarBloomSpell implements Spell {
         }
 
         public boolean isExpired() {
-            return remainingTicks <= 0 || caster == null || !caster.isAlive();
+            return remainingTicks <= 0 || caster == null || !caster.isAlive()
+                    || !ManaSystem.getInstance().isDrainActive(drainId);
+        }
+
+        /**
+         * Remove the beam and stop charging the caster.
+         */
+        public void end() {
+            if (beamEntity != null) {
+                beamEntity.remove(Entity.RemovalReason.DISCARDED);
+            }
+            ManaSystem.getInstance().stopDrain(drainId);
         }
 
         public void tick(World world) {